@@ -1,8 +1,9 @@
 package cn.ares.boot.base.log.util;
 
-import cn.ares.boot.util.common.thread.ThreadLocalMapUtil;
 import cn.ares.boot.util.log.BaseLoggerUtil;
 import cn.ares.boot.util.log.util.SunReflectionUtil;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.boot.logging.DeferredLog;
 
 /**
@@ -17,6 +18,19 @@ import org.springframework.boot.logging.DeferredLog;
  */
 public class LoggerUtil extends BaseLoggerUtil {
 
+  /**
+   * 子线程共享父线程的Deferred日志，ThreadLocalMapUtil不再向子线程传递，因此单独维护
+   * Child threads share the Deferred logs of the parent thread, kept separately since
+   * ThreadLocalMapUtil no longer passes them to child threads
+   */
+  private static final ThreadLocal<Map<String, DeferredLog>> DEFERRED_LOG_MAP =
+      new InheritableThreadLocal<Map<String, DeferredLog>>() {
+        @Override
+        protected Map<String, DeferredLog> initialValue() {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
   public static void errorDeferred(String msg) {
     DeferredLog deferredLog = getDeferredLog();
     if (deferredLog.isErrorEnabled()) {
@@ -65,12 +79,7 @@ public class LoggerUtil extends BaseLoggerUtil {
      EnvironmentPostProcessor was executed early during SpringBoot loading; At this point the logging system has not been initialized at all; So no logging operations before that will have any effect; use
      DeferredLog Indicates deferred log. And play back the log at the right time
      */
-    DeferredLog deferredLog = ThreadLocalMapUtil.get(className);
-    if (null == deferredLog) {
-      deferredLog = new DeferredLog();
-      ThreadLocalMapUtil.set(className, deferredLog);
-    }
-    return deferredLog;
+    return DEFERRED_LOG_MAP.get().computeIfAbsent(className, key -> new DeferredLog());
   }
 
 }
@@ -0,0 +1,72 @@
+package cn.ares.boot.benchmark.util.common;
+
+import cn.ares.boot.util.common.structure.ConcurrentLruCache;
+import cn.ares.boot.util.common.structure.LruCache;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 13:02:45
+ * @description: 加锁的LruCache与ConcurrentLruCache读吞吐量对比
+ * @description: Read throughput comparison of locking LruCache and ConcurrentLruCache
+ * @version: JDK 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LruCacheBenchmark {
+
+  private static final int[] THREAD_COUNTS = {1, 8, 64};
+  private static final int CAPACITY = 10_000;
+
+  private final LruCache<Integer, Integer> lruCache = new LruCache<>(CAPACITY);
+  private final ConcurrentLruCache<Integer, Integer> concurrentLruCache = new ConcurrentLruCache<>(
+      CAPACITY);
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < CAPACITY; i++) {
+      lruCache.put(i, i);
+      concurrentLruCache.put(i, i);
+    }
+  }
+
+  @Benchmark
+  public Integer lruCacheGet() {
+    return lruCache.get(ThreadLocalRandom.current().nextInt(CAPACITY));
+  }
+
+  @Benchmark
+  public Integer concurrentLruCacheGet() {
+    return concurrentLruCache.get(ThreadLocalRandom.current().nextInt(CAPACITY));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threadCount : THREAD_COUNTS) {
+      Options options = new OptionsBuilder()
+          .include(LruCacheBenchmark.class.getSimpleName())
+          .threads(threadCount)
+          .build();
+      new Runner(options).run();
+    }
+  }
+
+}
@@ -0,0 +1,77 @@
+package cn.ares.boot.benchmark.util.common;
+
+import cn.ares.boot.util.common.SnowFlakeIdWorker;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 10:40:12
+ * @description: 加锁、无锁及线程分片方式生成雪花标识的吞吐量对比
+ * @description: Throughput comparison of locking, lock free and thread slice snowflake id
+ * generation
+ * @version: JDK 1.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnowFlakeIdWorkerBenchmark {
+
+  /**
+   * 线程数 Thread counts
+   */
+  private static final int[] THREAD_COUNTS = {1, 8, 64};
+
+  private final SnowFlakeIdWorker worker = new SnowFlakeIdWorker(1, 1);
+
+  @Benchmark
+  public long nextId() {
+    return worker.nextId();
+  }
+
+  @Benchmark
+  public long nextIdLockFree() {
+    return worker.nextIdLockFree();
+  }
+
+  @Benchmark
+  public long nextIdBySlice() {
+    return worker.nextIdBySlice();
+  }
+
+  @Benchmark
+  public long nextIdByCacheWhenClockMoved() {
+    return worker.nextIdByCacheWhenClockMoved();
+  }
+
+  @Benchmark
+  public long nextIdLockFreeByCacheWhenClockMoved() {
+    return worker.nextIdLockFreeByCacheWhenClockMoved();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threadCount : THREAD_COUNTS) {
+      Options options = new OptionsBuilder()
+          .include(SnowFlakeIdWorkerBenchmark.class.getSimpleName())
+          .threads(threadCount)
+          .build();
+      new Runner(options).run();
+    }
+  }
+
+}
@@ -0,0 +1,79 @@
+package cn.ares.boot.starter.cache.api;
+
+import java.util.function.Function;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 缓存，读穿透到远程缓存和加载器，写穿透到远程缓存
+ * @description: Cache, reads through to the remote cache and the loader, writes through to the
+ * remote cache
+ * @version: JDK 1.8
+ */
+public interface BootCache {
+
+  /**
+   * @author: Ares
+   * @description: 缓存名称
+   * @description: Cache name
+   * @time: 2026-10-18 16:30:12
+   * @params: []
+   * @return: java.lang.String 名称
+   */
+  String getName();
+
+  /**
+   * @author: Ares
+   * @description: 获取缓存值，依次查找本地和远程缓存，不存在或缓存的是空值时返回null
+   * @description: Get cached value, look up the local and remote cache in turn, return null if
+   * absent or a null value is cached
+   * @time: 2026-10-18 16:30:12
+   * @params: [key] 键
+   * @return: T 值
+   */
+  <T> T get(String key);
+
+  /**
+   * @author: Ares
+   * @description: 获取缓存值，本地和远程缓存均未命中时使用加载器加载并写入两级缓存，同一个键的并发加载只执行一次，
+   * 加载结果为null时按配置缓存空值
+   * @description: Get cached value, load by the loader and write into both levels when both the
+   * local and remote cache miss, concurrent loads of the same key are executed only once, a null
+   * result is cached as null value according to the configuration
+   * @time: 2026-10-18 16:30:12
+   * @params: [key, loader] 键，加载器
+   * @return: T 值
+   */
+  <T> T get(String key, Function<String, T> loader);
+
+  /**
+   * @author: Ares
+   * @description: 写入缓存，先写远程缓存再写本地缓存
+   * @description: Put into cache, write the remote cache first and then the local cache
+   * @time: 2026-10-18 16:30:12
+   * @params: [key, value] 键，值
+   * @return: void
+   */
+  void put(String key, Object value);
+
+  /**
+   * @author: Ares
+   * @description: 移除缓存，同时移除远程和本地缓存
+   * @description: Evict from cache, both the remote and local cache are evicted
+   * @time: 2026-10-18 16:30:12
+   * @params: [key] 键
+   * @return: void
+   */
+  void evict(String key);
+
+  /**
+   * @author: Ares
+   * @description: 清空本地缓存，远程缓存不受影响
+   * @description: Clear the local cache, the remote cache is not affected
+   * @time: 2026-10-18 16:30:12
+   * @params: []
+   * @return: void
+   */
+  void clear();
+
+}
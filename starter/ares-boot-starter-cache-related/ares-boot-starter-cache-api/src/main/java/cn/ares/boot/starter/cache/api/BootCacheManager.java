@@ -0,0 +1,34 @@
+package cn.ares.boot.starter.cache.api;
+
+import java.util.Collection;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 缓存管理器
+ * @description: Cache manager
+ * @version: JDK 1.8
+ */
+public interface BootCacheManager {
+
+  /**
+   * @author: Ares
+   * @description: 获取指定名称的缓存，不存在时创建
+   * @description: Get the cache of the specified name, create it if absent
+   * @time: 2026-10-18 16:30:12
+   * @params: [name] 缓存名称
+   * @return: cn.ares.boot.starter.cache.api.BootCache
+   */
+  BootCache getCache(String name);
+
+  /**
+   * @author: Ares
+   * @description: 已创建的缓存名称
+   * @description: Names of the created caches
+   * @time: 2026-10-18 16:30:12
+   * @params: []
+   * @return: java.util.Collection<java.lang.String>
+   */
+  Collection<String> getCacheNames();
+
+}
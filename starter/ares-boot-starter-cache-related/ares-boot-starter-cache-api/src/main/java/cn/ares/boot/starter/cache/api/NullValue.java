@@ -0,0 +1,31 @@
+package cn.ares.boot.starter.cache.api;
+
+import java.io.Serializable;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 空值标记，用于缓存加载结果为null的键以防止缓存穿透，远程缓存实现需要能够存取该标记
+ * @description: Null value marker, used to cache keys whose load result is null to prevent cache
+ * penetration, remote cache implementations need to be able to store and read the marker
+ * @version: JDK 1.8
+ */
+public final class NullValue implements Serializable {
+
+  private static final long serialVersionUID = -3861504917426393826L;
+
+  public static final NullValue INSTANCE = new NullValue();
+
+  private NullValue() {
+  }
+
+  private Object readResolve() {
+    return INSTANCE;
+  }
+
+  @Override
+  public String toString() {
+    return "NullValue";
+  }
+
+}
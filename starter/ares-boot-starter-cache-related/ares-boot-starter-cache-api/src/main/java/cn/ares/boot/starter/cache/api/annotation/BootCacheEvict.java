@@ -0,0 +1,36 @@
+package cn.ares.boot.starter.cache.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 方法执行成功后移除本地和远程缓存
+ * @description: Evict the local and remote cache after the method executes successfully
+ * @version: JDK 1.8
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BootCacheEvict {
+
+  /**
+   * 缓存名称 Cache name
+   */
+  String cacheName();
+
+  /**
+   * 缓存键的SpEL表达式，可通过参数名引用参数，默认为全部参数的类型和json值，与参数相同的BootCacheable方法的默认键一致，
+   * 参数类型未重写equals时必须显式指定
+   * SpEL expression of the cache key, parameters can be referenced by name, the types and json
+   * values of all parameters by default, which equals the default key of a BootCacheable method with
+   * the same arguments, it must be specified explicitly when a parameter type does not override
+   * equals
+   */
+  String key() default "";
+
+}
@@ -0,0 +1,36 @@
+package cn.ares.boot.starter.cache.api.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 方法结果缓存，命中本地或远程缓存时不执行方法
+ * @description: Cache the result of method, the method is not executed when the local or remote
+ * cache hits
+ * @version: JDK 1.8
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BootCacheable {
+
+  /**
+   * 缓存名称，默认为类的全限定名加方法名
+   * Cache name, the full class name plus the method name by default
+   */
+  String cacheName() default "";
+
+  /**
+   * 缓存键的SpEL表达式，可通过参数名引用参数，默认为全部参数的类型和json值，参数类型未重写equals时必须显式指定
+   * SpEL expression of the cache key, parameters can be referenced by name, the types and json
+   * values of all parameters by default, it must be specified explicitly when a parameter type does
+   * not override equals
+   */
+  String key() default "";
+
+}
@@ -0,0 +1,43 @@
+package cn.ares.boot.starter.cache.api.spi;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 二级(远程)缓存后端，如redis，由使用方以bean的形式提供，不提供时仅使用本地缓存
+ * @description: Second level (remote) cache backend such as redis, provided by the user as a bean,
+ * only the local cache is used if not provided
+ * @version: JDK 1.8
+ */
+public interface CacheBackend {
+
+  /**
+   * @author: Ares
+   * @description: 获取远程缓存值，不存在时返回null，可能返回NullValue
+   * @description: Get remote cached value, return null if absent, may return NullValue
+   * @time: 2026-10-18 16:30:12
+   * @params: [cacheName, key] 缓存名称，键
+   * @return: java.lang.Object 值
+   */
+  Object get(String cacheName, String key);
+
+  /**
+   * @author: Ares
+   * @description: 写入远程缓存
+   * @description: Put into remote cache
+   * @time: 2026-10-18 16:30:12
+   * @params: [cacheName, key, value, ttlMillis] 缓存名称，键，值(可能为NullValue)，过期时间(毫秒)
+   * @return: void
+   */
+  void put(String cacheName, String key, Object value, long ttlMillis);
+
+  /**
+   * @author: Ares
+   * @description: 移除远程缓存
+   * @description: Evict from remote cache
+   * @time: 2026-10-18 16:30:12
+   * @params: [cacheName, key] 缓存名称，键
+   * @return: void
+   */
+  void evict(String cacheName, String key);
+
+}
@@ -0,0 +1,53 @@
+package cn.ares.boot.starter.cache;
+
+import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRASTRUCTURE;
+
+import cn.ares.boot.starter.cache.aop.BootCacheInterceptor;
+import cn.ares.boot.starter.cache.api.BootCacheManager;
+import cn.ares.boot.starter.cache.api.annotation.BootCacheEvict;
+import cn.ares.boot.starter.cache.api.annotation.BootCacheable;
+import cn.ares.boot.starter.cache.api.spi.CacheBackend;
+import cn.ares.boot.starter.cache.config.BootCacheProperties;
+import cn.ares.boot.util.spring.aop.BootAnnotationAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 缓存自动配置
+ * @description: Cache auto configuration
+ * @version: JDK 1.8
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BootCacheProperties.class)
+@ConditionalOnProperty(prefix = "ares.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BootCacheAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean(BootCacheManager.class)
+  public NearCacheManager bootCacheManager(BootCacheProperties properties,
+      ObjectProvider<CacheBackend> backendProvider) {
+    return new NearCacheManager(properties, backendProvider.getIfAvailable());
+  }
+
+  @Bean
+  @Role(ROLE_INFRASTRUCTURE)
+  public BootAnnotationAdvisor bootCacheableAdvisor(BootCacheManager cacheManager) {
+    return new BootAnnotationAdvisor(new BootCacheInterceptor(cacheManager, BootCacheable.class),
+        BootCacheable.class);
+  }
+
+  @Bean
+  @Role(ROLE_INFRASTRUCTURE)
+  public BootAnnotationAdvisor bootCacheEvictAdvisor(BootCacheManager cacheManager) {
+    return new BootAnnotationAdvisor(new BootCacheInterceptor(cacheManager, BootCacheEvict.class),
+        BootCacheEvict.class);
+  }
+
+}
@@ -0,0 +1,270 @@
+package cn.ares.boot.starter.cache;
+
+import cn.ares.boot.starter.cache.api.BootCache;
+import cn.ares.boot.starter.cache.api.NullValue;
+import cn.ares.boot.starter.cache.api.spi.CacheBackend;
+import cn.ares.boot.starter.cache.config.BootCacheProperties.CacheSpec;
+import cn.ares.boot.util.common.structure.CacheStats;
+import cn.ares.boot.util.common.structure.ConcurrentLruCache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 近端缓存，进程内有界的一级缓存位于可插拔的二级远程缓存之前，热点键的读取无需远程往返；
+ * 空值单独存放在过期时间更短的本地缓存中；本地缓存的容量和过期时间可在运行时重新配置且不丢弃已缓存的条目
+ * @description: Near cache, an in-process bounded first level cache in front of a pluggable second
+ * level remote cache, reads of hot keys need no remote round trip; null values are kept in a
+ * separate local cache with a shorter expire time; the capacity and expiry of the local cache can be
+ * reconfigured at runtime without dropping the resident entries
+ * @version: JDK 1.8
+ */
+public class NearCache implements BootCache {
+
+  private final String name;
+  private volatile CacheSpec spec;
+  private final CacheBackend backend;
+  private final ConcurrentLruCache<String, Object> localCache;
+  private final ConcurrentLruCache<String, Object> nullValueCache;
+  /**
+   * 进行中的加载，保证同一个键的并发未命中只加载一次
+   * Loads in progress, ensure concurrent misses of the same key load only once
+   */
+  private final ConcurrentHashMap<String, CompletableFuture<Object>> loadings = new ConcurrentHashMap<>();
+
+  public NearCache(String name, CacheSpec spec, CacheBackend backend) {
+    this.name = name;
+    this.spec = spec;
+    this.backend = backend;
+    this.localCache = buildLocalCache(spec.getExpireAfterWrite(), spec.getExpireAfterAccess(),
+        spec.isRecordStats());
+    // 始终创建以便运行时开启空值缓存 Always created so that caching null values can be enabled at
+    // runtime
+    this.nullValueCache = buildLocalCache(spec.getNullValueTtl(), 0, false);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public <T> T get(String key) {
+    Object value = lookupLocal(key);
+    if (null == value && null != backend) {
+      value = backend.get(name, key);
+      if (null != value) {
+        storeLocal(key, value);
+      }
+    }
+    return unwrap(value);
+  }
+
+  @Override
+  public <T> T get(String key, Function<String, T> loader) {
+    Object value = lookupLocal(key);
+    if (null != value) {
+      return unwrap(value);
+    }
+    CompletableFuture<Object> loading = new CompletableFuture<>();
+    CompletableFuture<Object> existing = loadings.putIfAbsent(key, loading);
+    if (null != existing) {
+      return unwrap(join(existing));
+    }
+    try {
+      value = loadThrough(key, loader);
+      loading.complete(value);
+      return unwrap(value);
+    } catch (RuntimeException | Error e) {
+      loading.completeExceptionally(e);
+      throw e;
+    } finally {
+      loadings.remove(key, loading);
+    }
+  }
+
+  @Override
+  public void put(String key, Object value) {
+    Object stored = wrap(value);
+    if (null == stored) {
+      evict(key);
+      return;
+    }
+    if (null != backend) {
+      backend.put(name, key, stored, remoteTtl(stored));
+    }
+    storeLocal(key, stored);
+  }
+
+  @Override
+  public void evict(String key) {
+    if (null != backend) {
+      backend.evict(name, key);
+    }
+    evictLocal(key);
+  }
+
+  @Override
+  public void clear() {
+    localCache.clear();
+    nullValueCache.clear();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 仅移除本地缓存，可用于收到其它实例的失效通知时
+   * @description: Evict the local cache only, can be used when receiving an invalidation
+   * notification from other instances
+   * @time: 2026-10-18 16:30:12
+   * @params: [key] 键
+   * @return: void
+   */
+  public void evictLocal(String key) {
+    localCache.remove(key);
+    nullValueCache.remove(key);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 本地缓存统计快照
+   * @description: Statistics snapshot of the local cache
+   * @time: 2026-10-18 16:30:12
+   * @params: []
+   * @return: cn.ares.boot.util.common.structure.CacheStats
+   */
+  public CacheStats stats() {
+    return localCache.stats();
+  }
+
+  public CacheSpec getSpec() {
+    return spec;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 运行时重新配置，只调整发生变化的项，容量和过期时间的调整在本地缓存后续的回放中分批完成，
+   * 是否记录统计只在创建时生效
+   * @description: Reconfigure at runtime, only the changed items are adjusted, the capacity and
+   * expiry changes are completed in batches in subsequent replays of the local cache, whether to
+   * record statistics only takes effect on creation
+   * @time: 2026-10-18 16:52:08
+   * @params: [newSpec] 新配置
+   * @return: void
+   */
+  public synchronized void reconfigure(CacheSpec newSpec) {
+    CacheSpec oldSpec = this.spec;
+    if (oldSpec.getMaximumSize() != newSpec.getMaximumSize()) {
+      localCache.setMaximumWeight(newSpec.getMaximumSize());
+      nullValueCache.setMaximumWeight(newSpec.getMaximumSize());
+    }
+    if (oldSpec.getExpireAfterWrite() != newSpec.getExpireAfterWrite()) {
+      localCache.setExpireAfterWrite(newSpec.getExpireAfterWrite(), TimeUnit.MILLISECONDS);
+    }
+    if (oldSpec.getExpireAfterAccess() != newSpec.getExpireAfterAccess()) {
+      localCache.setExpireAfterAccess(newSpec.getExpireAfterAccess(), TimeUnit.MILLISECONDS);
+    }
+    if (oldSpec.getNullValueTtl() != newSpec.getNullValueTtl()) {
+      nullValueCache.setExpireAfterWrite(newSpec.getNullValueTtl(), TimeUnit.MILLISECONDS);
+    }
+    this.spec = newSpec;
+    if (!newSpec.isCacheNullValues()) {
+      nullValueCache.clear();
+    }
+  }
+
+  private <T> Object loadThrough(String key, Function<String, T> loader) {
+    // 等待期间其它加载可能已经完成 Another load may have completed while waiting
+    Object value = lookupLocal(key);
+    if (null != value) {
+      return value;
+    }
+    if (null != backend) {
+      value = backend.get(name, key);
+      if (null != value) {
+        storeLocal(key, value);
+        return value;
+      }
+    }
+    value = wrap(loader.apply(key));
+    if (null != value) {
+      if (null != backend) {
+        backend.put(name, key, value, remoteTtl(value));
+      }
+      storeLocal(key, value);
+    }
+    return value;
+  }
+
+  private Object lookupLocal(String key) {
+    Object value = localCache.get(key);
+    if (null == value && spec.isCacheNullValues()) {
+      value = nullValueCache.get(key);
+    }
+    return value;
+  }
+
+  private void storeLocal(String key, Object value) {
+    if (value == NullValue.INSTANCE) {
+      localCache.remove(key);
+      if (spec.isCacheNullValues()) {
+        nullValueCache.put(key, value);
+      }
+    } else {
+      nullValueCache.remove(key);
+      localCache.put(key, value);
+    }
+  }
+
+  private Object wrap(Object value) {
+    if (null == value) {
+      return spec.isCacheNullValues() ? NullValue.INSTANCE : null;
+    }
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T unwrap(Object value) {
+    return value == NullValue.INSTANCE ? null : (T) value;
+  }
+
+  private long remoteTtl(Object value) {
+    return value == NullValue.INSTANCE ? spec.getNullValueTtl() : spec.getRemoteTtl();
+  }
+
+  private ConcurrentLruCache<String, Object> buildLocalCache(long expireAfterWrite,
+      long expireAfterAccess, boolean recordStats) {
+    ConcurrentLruCache.Builder<String, Object> builder = ConcurrentLruCache.<String, Object>builder()
+        .maximumSize(spec.getMaximumSize());
+    // 不大于0时不过期 Never expire when not greater than 0
+    if (expireAfterWrite > 0) {
+      builder.expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS);
+    }
+    if (expireAfterAccess > 0) {
+      builder.expireAfterAccess(expireAfterAccess, TimeUnit.MILLISECONDS);
+    }
+    if (recordStats) {
+      builder.recordStats();
+    }
+    return builder.build();
+  }
+
+  private static Object join(CompletableFuture<Object> loading) {
+    try {
+      return loading.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+}
@@ -0,0 +1,67 @@
+package cn.ares.boot.starter.cache;
+
+import cn.ares.boot.starter.cache.api.BootCache;
+import cn.ares.boot.starter.cache.api.BootCacheManager;
+import cn.ares.boot.starter.cache.api.spi.CacheBackend;
+import cn.ares.boot.starter.cache.config.BootCacheProperties;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 近端缓存管理器，按名称懒创建近端缓存
+ * @description: Near cache manager, create near caches lazily by name
+ * @version: JDK 1.8
+ */
+public class NearCacheManager implements BootCacheManager {
+
+  private volatile BootCacheProperties properties;
+  private final CacheBackend backend;
+  private final ConcurrentMap<String, NearCache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor 构造函数
+   *
+   * @param properties 缓存配置 Cache properties
+   * @param backend    远程缓存后端，为null时仅使用本地缓存 Remote cache backend, only the local cache is
+   *                   used when null
+   */
+  public NearCacheManager(BootCacheProperties properties, CacheBackend backend) {
+    this.properties = properties;
+    this.backend = backend;
+  }
+
+  @Override
+  public BootCache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(caches.keySet());
+  }
+
+  protected NearCache createCache(String name) {
+    return new NearCache(name, properties.getSpec(name), backend);
+  }
+
+  protected ConcurrentMap<String, NearCache> getCaches() {
+    return caches;
+  }
+
+  protected BootCacheProperties getProperties() {
+    return properties;
+  }
+
+  protected void setProperties(BootCacheProperties properties) {
+    this.properties = properties;
+  }
+
+  protected CacheBackend getBackend() {
+    return backend;
+  }
+
+}
@@ -0,0 +1,225 @@
+package cn.ares.boot.starter.cache.aop;
+
+import cn.ares.boot.starter.cache.api.BootCache;
+import cn.ares.boot.starter.cache.api.BootCacheManager;
+import cn.ares.boot.starter.cache.api.annotation.BootCacheEvict;
+import cn.ares.boot.starter.cache.api.annotation.BootCacheable;
+import cn.ares.boot.util.common.structure.ConcurrentLruCache;
+import cn.ares.boot.util.json.JsonUtil;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 缓存注解拦截器，每个实例处理一种注解，配合BootAnnotationAdvisor使用
+ * @description: Cache annotation interceptor, each instance handles one annotation, used with
+ * BootAnnotationAdvisor
+ * @version: JDK 1.8
+ */
+public class BootCacheInterceptor implements MethodInterceptor {
+
+  private static final int EXPRESSION_CACHE_CAPACITY = 1024;
+  private static final String CACHE_NAME_SEPARATOR = ".";
+  /**
+   * 默认键的序列化器，按键排序映射使相等的映射得到相同的键
+   * Serializer of the default key, map entries are ordered by key so that equal maps produce the
+   * same key
+   */
+  private static final JsonMapper KEY_MAPPER = JsonUtil.getJsonMapper();
+  /**
+   * 类型是否具有值语义(重写了equals) Whether the type has value semantics (overrides equals)
+   */
+  private static final Map<Class<?>, Boolean> VALUE_TYPES = new ConcurrentHashMap<>();
+
+  static {
+    KEY_MAPPER.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+  }
+
+  private final BootCacheManager cacheManager;
+  private final Class<? extends Annotation> annotationType;
+  private final ExpressionParser parser = new SpelExpressionParser();
+  private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+  private final ConcurrentLruCache<String, Expression> expressionCache = new ConcurrentLruCache<>(
+      EXPRESSION_CACHE_CAPACITY);
+
+  public BootCacheInterceptor(BootCacheManager cacheManager,
+      Class<? extends Annotation> annotationType) {
+    this.cacheManager = cacheManager;
+    this.annotationType = annotationType;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object target = invocation.getThis();
+    Class<?> targetClass = null == target ? invocation.getMethod().getDeclaringClass()
+        : AopUtils.getTargetClass(target);
+    Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+    if (BootCacheable.class == annotationType) {
+      BootCacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(method,
+          BootCacheable.class);
+      if (null != cacheable) {
+        String cacheName = cacheable.cacheName().isEmpty() ? targetClass.getName()
+            + CACHE_NAME_SEPARATOR + method.getName() : cacheable.cacheName();
+        BootCache cache = cacheManager.getCache(cacheName);
+        String key = generateKey(cacheable.key(), method, invocation.getArguments(), target);
+        try {
+          return cache.get(key, cacheKey -> proceed(invocation));
+        } catch (InvocationThrowable e) {
+          throw e.getCause();
+        }
+      }
+    } else if (BootCacheEvict.class == annotationType) {
+      BootCacheEvict cacheEvict = AnnotatedElementUtils.findMergedAnnotation(method,
+          BootCacheEvict.class);
+      if (null != cacheEvict) {
+        Object result = invocation.proceed();
+        String key = generateKey(cacheEvict.key(), method, invocation.getArguments(), target);
+        cacheManager.getCache(cacheEvict.cacheName()).evict(key);
+        return result;
+      }
+    }
+    return invocation.proceed();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 生成缓存键，默认键只由参数组成(缓存已按名称隔离)，这样参数相同的缓存和移除方法能对应到同一个键
+   * @description: Generate the cache key, the default key is built from the arguments only (caches
+   * are already scoped by name), so that cacheable and evict methods with the same arguments map to
+   * the same key
+   * @time: 2026-10-18 16:30:12
+   * @params: [keyExpression, method, arguments, target] 键表达式，方法，参数，目标对象
+   * @return: java.lang.String 缓存键
+   */
+  private String generateKey(String keyExpression, Method method, Object[] arguments,
+      Object target) {
+    if (keyExpression.isEmpty()) {
+      return defaultKey(method, arguments);
+    }
+    Expression expression = expressionCache.get(keyExpression, parser::parseExpression);
+    MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(target, method,
+        arguments, parameterNameDiscoverer);
+    return String.valueOf(expression.getValue(context));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 默认键，每个参数由其类型和json值组成，因此1和"1"、null和"null"、列表和可变参数不会冲突；
+   * 没有值语义的参数(未重写equals)每次调用都会得到不同的键，需要显式指定key
+   * @description: The default key, each argument is made of its type and json value, so 1 and "1",
+   * null and "null", a list and varargs do not collide; arguments without value semantics (equals
+   * not overridden) would get a different key on every call, an explicit key is required for them
+   * @time: 2026-10-18 23:12:40
+   * @params: [method, arguments] 方法，参数
+   * @return: java.lang.String 缓存键
+   */
+  private static String defaultKey(Method method, Object[] arguments) {
+    Object[][] parts = new Object[arguments.length][];
+    for (int i = 0; i < arguments.length; i++) {
+      Object argument = arguments[i];
+      checkValueSemantics(method, argument);
+      parts[i] = new Object[]{keyType(argument), argument};
+    }
+    return JsonUtil.toJsonString(KEY_MAPPER, parts);
+  }
+
+  /**
+   * 相等的集合和映射实现类可能不同，只使用其接口类型
+   * Equal collections and maps may have different implementations, only their interface types are
+   * used
+   */
+  private static String keyType(Object argument) {
+    if (null == argument) {
+      return null;
+    }
+    if (argument instanceof List) {
+      return List.class.getName();
+    }
+    if (argument instanceof Set) {
+      return Set.class.getName();
+    }
+    if (argument instanceof Collection) {
+      return Collection.class.getName();
+    }
+    if (argument instanceof Map) {
+      return Map.class.getName();
+    }
+    return argument.getClass().getName();
+  }
+
+  private static void checkValueSemantics(Method method, Object argument) {
+    if (null == argument) {
+      return;
+    }
+    if (argument instanceof Object[]) {
+      for (Object element : (Object[]) argument) {
+        checkValueSemantics(method, element);
+      }
+    } else if (argument instanceof Collection) {
+      for (Object element : (Collection<?>) argument) {
+        checkValueSemantics(method, element);
+      }
+    } else if (argument instanceof Map) {
+      for (Entry<?, ?> entry : ((Map<?, ?>) argument).entrySet()) {
+        checkValueSemantics(method, entry.getKey());
+        checkValueSemantics(method, entry.getValue());
+      }
+    } else if (!argument.getClass().isArray() && !VALUE_TYPES.computeIfAbsent(argument.getClass(),
+        BootCacheInterceptor::overridesEquals)) {
+      throw new IllegalArgumentException(String.format(
+          "Argument type %s of method %s does not override equals, specify the key of the cache "
+              + "annotation explicitly",
+          argument.getClass().getName(), method));
+    }
+  }
+
+  private static boolean overridesEquals(Class<?> type) {
+    try {
+      return Object.class != type.getMethod("equals", Object.class).getDeclaringClass();
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static Object proceed(MethodInvocation invocation) {
+    try {
+      return invocation.proceed();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new InvocationThrowable(e);
+    }
+  }
+
+  /**
+   * 在加载器中传递受检异常 Carry checked exceptions through the loader
+   */
+  private static class InvocationThrowable extends RuntimeException {
+
+    private static final long serialVersionUID = 4186342717393581036L;
+
+    InvocationThrowable(Throwable cause) {
+      super(null, cause, false, false);
+    }
+  }
+
+}
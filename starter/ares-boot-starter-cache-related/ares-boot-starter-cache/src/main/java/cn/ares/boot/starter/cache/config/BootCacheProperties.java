@@ -0,0 +1,166 @@
+package cn.ares.boot.starter.cache.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:30:12
+ * @description: 缓存配置
+ * @description: Cache configuration
+ * @version: JDK 1.8
+ */
+@ConfigurationProperties(prefix = "ares.cache")
+public class BootCacheProperties {
+
+  /**
+   * 是否开启 Whether to enable
+   */
+  private boolean enabled = true;
+
+  /**
+   * 默认缓存规格 Default cache spec
+   */
+  private CacheSpec spec = new CacheSpec();
+
+  /**
+   * 按缓存名称指定的规格，未指定的缓存使用默认规格
+   * Specs by cache name, caches not specified use the default spec
+   */
+  private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public CacheSpec getSpec() {
+    return spec;
+  }
+
+  public void setSpec(CacheSpec spec) {
+    this.spec = spec;
+  }
+
+  public Map<String, CacheSpec> getCaches() {
+    return caches;
+  }
+
+  public void setCaches(Map<String, CacheSpec> caches) {
+    this.caches = caches;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取指定缓存的规格
+   * @description: Get the spec of the specified cache
+   * @time: 2026-10-18 16:30:12
+   * @params: [cacheName] 缓存名称
+   * @return: cn.ares.boot.starter.cache.config.BootCacheProperties.CacheSpec
+   */
+  public CacheSpec getSpec(String cacheName) {
+    CacheSpec cacheSpec = caches.get(cacheName);
+    return null == cacheSpec ? spec : cacheSpec;
+  }
+
+  public static class CacheSpec {
+
+    /**
+     * 本地缓存最大条目数 Maximum entry count of local cache
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * 本地缓存写入后过期时间，单位毫秒 Expire time after write of local cache, in milliseconds
+     */
+    private long expireAfterWrite = 60_000;
+
+    /**
+     * 本地缓存访问后过期时间，单位毫秒，不大于0时不按访问过期 Expire time after access of local cache, in
+     * milliseconds, not expire by access when not greater than 0
+     */
+    private long expireAfterAccess;
+
+    /**
+     * 远程缓存过期时间，单位毫秒 Expire time of remote cache, in milliseconds
+     */
+    private long remoteTtl = 1_800_000;
+
+    /**
+     * 是否缓存空值以防止缓存穿透 Whether to cache null values to prevent cache penetration
+     */
+    private boolean cacheNullValues = true;
+
+    /**
+     * 空值在本地和远程缓存中的过期时间，单位毫秒 Expire time of null values in local and remote cache, in
+     * milliseconds
+     */
+    private long nullValueTtl = 10_000;
+
+    /**
+     * 是否记录本地缓存统计 Whether to record local cache statistics
+     */
+    private boolean recordStats = true;
+
+    public long getMaximumSize() {
+      return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+      this.maximumSize = maximumSize;
+    }
+
+    public long getExpireAfterWrite() {
+      return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(long expireAfterWrite) {
+      this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public long getExpireAfterAccess() {
+      return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(long expireAfterAccess) {
+      this.expireAfterAccess = expireAfterAccess;
+    }
+
+    public long getRemoteTtl() {
+      return remoteTtl;
+    }
+
+    public void setRemoteTtl(long remoteTtl) {
+      this.remoteTtl = remoteTtl;
+    }
+
+    public boolean isCacheNullValues() {
+      return cacheNullValues;
+    }
+
+    public void setCacheNullValues(boolean cacheNullValues) {
+      this.cacheNullValues = cacheNullValues;
+    }
+
+    public long getNullValueTtl() {
+      return nullValueTtl;
+    }
+
+    public void setNullValueTtl(long nullValueTtl) {
+      this.nullValueTtl = nullValueTtl;
+    }
+
+    public boolean isRecordStats() {
+      return recordStats;
+    }
+
+    public void setRecordStats(boolean recordStats) {
+      this.recordStats = recordStats;
+    }
+  }
+
+}
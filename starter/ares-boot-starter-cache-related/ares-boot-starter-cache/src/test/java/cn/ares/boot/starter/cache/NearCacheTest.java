@@ -0,0 +1,125 @@
+package cn.ares.boot.starter.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import cn.ares.boot.starter.cache.api.NullValue;
+import cn.ares.boot.starter.cache.api.spi.CacheBackend;
+import cn.ares.boot.starter.cache.config.BootCacheProperties.CacheSpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 23:20:05
+ * @description: 近端缓存测试
+ * @description: Near cache test
+ * @version: JDK 1.8
+ */
+public class NearCacheTest {
+
+  @Test
+  public void testSingleFlightLoading() throws Exception {
+    NearCache cache = new NearCache("single-flight", new CacheSpec(), null);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> cache.get("key", key -> {
+          loads.incrementAndGet();
+          loading.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return "value";
+        })));
+      }
+      loading.await(1, TimeUnit.SECONDS);
+      // 让其它线程进入等待 Let the other threads start waiting
+      TimeUnit.MILLISECONDS.sleep(50);
+      release.countDown();
+      for (Future<String> future : futures) {
+        assertEquals("value", future.get(1, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testNullValueCaching() {
+    MapCacheBackend backend = new MapCacheBackend();
+    CacheSpec spec = new CacheSpec();
+    NearCache cache = new NearCache("null-value", spec, backend);
+    AtomicInteger loads = new AtomicInteger();
+    for (int i = 0; i < 3; i++) {
+      assertNull(cache.get("absent", key -> {
+        loads.incrementAndGet();
+        return null;
+      }));
+    }
+    assertEquals(1, loads.get());
+    assertSame(NullValue.INSTANCE, backend.values.get("absent"));
+    assertEquals(spec.getNullValueTtl(), backend.ttls.get("absent").longValue());
+
+    // 本地未命中时从远程读取空值标记 Read the null marker from the remote cache on a local miss
+    cache.evictLocal("absent");
+    assertNull(cache.get("absent", key -> {
+      loads.incrementAndGet();
+      return null;
+    }));
+    assertEquals(1, loads.get());
+
+    CacheSpec disabled = new CacheSpec();
+    disabled.setCacheNullValues(false);
+    NearCache noNullCache = new NearCache("no-null-value", disabled,
+        new MapCacheBackend());
+    for (int i = 0; i < 3; i++) {
+      assertNull(noNullCache.get("absent", key -> {
+        loads.incrementAndGet();
+        return null;
+      }));
+    }
+    assertEquals(4, loads.get());
+  }
+
+  private static class MapCacheBackend implements CacheBackend {
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+    private final Map<String, Long> ttls = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, String key) {
+      return values.get(key);
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, long ttlMillis) {
+      values.put(key, value);
+      ttls.put(key, ttlMillis);
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+      values.remove(key);
+      ttls.remove(key);
+    }
+  }
+
+}
@@ -0,0 +1,145 @@
+package cn.ares.boot.starter.cache.aop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cn.ares.boot.starter.cache.NearCacheManager;
+import cn.ares.boot.starter.cache.api.annotation.BootCacheEvict;
+import cn.ares.boot.starter.cache.api.annotation.BootCacheable;
+import cn.ares.boot.starter.cache.config.BootCacheProperties;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 23:20:05
+ * @description: 缓存注解拦截器测试
+ * @description: Cache annotation interceptor test
+ * @version: JDK 1.8
+ */
+public class BootCacheInterceptorTest {
+
+  private final NearCacheManager cacheManager = new NearCacheManager(new BootCacheProperties(),
+      null);
+  private final BootCacheInterceptor cacheableInterceptor = new BootCacheInterceptor(cacheManager,
+      BootCacheable.class);
+  private final BootCacheInterceptor evictInterceptor = new BootCacheInterceptor(cacheManager,
+      BootCacheEvict.class);
+  private final UserService userService = new UserService();
+
+  @Test
+  public void testCacheableAndEvictKeyMatch() throws Throwable {
+    assertEquals("user-1", cacheable("find", 1));
+    assertEquals("user-1", cacheable("find", 1));
+    assertEquals(1, userService.loads.get());
+
+    evict("evict", 1);
+    assertEquals("user-1", cacheable("find", 1));
+    assertEquals(2, userService.loads.get());
+
+    // 相等的列表实现类不同时键相同 Equal lists of different implementations have the same key
+    cacheable("find", Arrays.asList("a", "b"));
+    cacheable("find", new ArrayList<>(Arrays.asList("a", "b")));
+    assertEquals(3, userService.loads.get());
+    evict("evict", Collections.unmodifiableList(Arrays.asList("a", "b")));
+    cacheable("find", Arrays.asList("a", "b"));
+    assertEquals(4, userService.loads.get());
+  }
+
+  @Test
+  public void testDefaultKeyDistinguishArgumentTypes() throws Throwable {
+    cacheable("find", 1);
+    cacheable("find", "1");
+    cacheable("find", (Object) null);
+    cacheable("find", "null");
+    cacheable("find", Arrays.asList("a", "b"));
+    cacheable("find", (Object) new String[]{"a", "b"});
+    assertEquals(6, userService.loads.get());
+  }
+
+  @Test
+  public void testRejectArgumentWithoutValueSemantics() throws Throwable {
+    assertThrows(IllegalArgumentException.class, () -> cacheable("find", new Object()));
+    assertThrows(IllegalArgumentException.class,
+        () -> cacheable("find", Arrays.asList(new Object())));
+    assertEquals("user-identity", cacheable("findByName", new Object()));
+    assertEquals(1, userService.loads.get());
+  }
+
+  private Object cacheable(String methodName, Object argument) throws Throwable {
+    return cacheableInterceptor.invoke(new SimpleMethodInvocation(userService, methodName,
+        argument));
+  }
+
+  private void evict(String methodName, Object argument) throws Throwable {
+    evictInterceptor.invoke(new SimpleMethodInvocation(userService, methodName, argument));
+  }
+
+  public static class UserService {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BootCacheable(cacheName = "user")
+    public String find(Object id) {
+      loads.incrementAndGet();
+      return "user-" + id;
+    }
+
+    @BootCacheable(cacheName = "user", key = "'identity'")
+    public String findByName(Object name) {
+      loads.incrementAndGet();
+      return "user-identity";
+    }
+
+    @BootCacheEvict(cacheName = "user")
+    public void evict(Object id) {
+    }
+  }
+
+  private static class SimpleMethodInvocation implements MethodInvocation {
+
+    private final Object target;
+    private final Method method;
+    private final Object[] arguments;
+
+    SimpleMethodInvocation(Object target, String methodName, Object argument) {
+      this.target = target;
+      this.method = Arrays.stream(target.getClass().getMethods())
+          .filter(candidate -> candidate.getName().equals(methodName)).findFirst()
+          .orElseThrow(IllegalArgumentException::new);
+      this.arguments = new Object[]{argument};
+    }
+
+    @Override
+    public Method getMethod() {
+      return method;
+    }
+
+    @Override
+    public Object[] getArguments() {
+      return arguments;
+    }
+
+    @Override
+    public Object proceed() throws Throwable {
+      return method.invoke(target, arguments);
+    }
+
+    @Override
+    public Object getThis() {
+      return target;
+    }
+
+    @Override
+    public AccessibleObject getStaticPart() {
+      return method;
+    }
+  }
+
+}
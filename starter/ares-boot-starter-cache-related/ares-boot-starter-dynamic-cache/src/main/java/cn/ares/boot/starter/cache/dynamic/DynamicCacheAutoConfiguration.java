@@ -0,0 +1,48 @@
+package cn.ares.boot.starter.cache.dynamic;
+
+import cn.ares.boot.starter.cache.BootCacheAutoConfiguration;
+import cn.ares.boot.starter.cache.api.BootCacheManager;
+import cn.ares.boot.starter.cache.api.spi.CacheBackend;
+import cn.ares.boot.starter.cache.config.BootCacheProperties;
+import cn.ares.boot.starter.cache.dynamic.config.DynamicCacheProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:52:08
+ * @description: 动态缓存自动配置，先于缓存自动配置注册可重新配置的缓存管理器
+ * @description: Dynamic cache auto configuration, register the reconfigurable cache manager before
+ * the cache auto configuration
+ * @version: JDK 1.8
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureBefore(BootCacheAutoConfiguration.class)
+@EnableConfigurationProperties({BootCacheProperties.class, DynamicCacheProperties.class})
+@ConditionalOnProperty(prefix = "ares.cache.dynamic", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DynamicCacheAutoConfiguration {
+
+  static final String CACHE_PREFIX = "ares.cache";
+
+  @Bean
+  @ConditionalOnMissingBean(BootCacheManager.class)
+  public DynamicCacheManager bootCacheManager(BootCacheProperties properties,
+      ObjectProvider<CacheBackend> backendProvider) {
+    return new DynamicCacheManager(properties, backendProvider.getIfAvailable());
+  }
+
+  @Bean
+  @ConditionalOnBean(DynamicCacheManager.class)
+  public DynamicCacheRefresher dynamicCacheRefresher(DynamicCacheManager cacheManager,
+      Environment environment, DynamicCacheProperties properties) {
+    return new DynamicCacheRefresher(cacheManager, environment, properties.getRefreshInterval());
+  }
+
+}
@@ -0,0 +1,38 @@
+package cn.ares.boot.starter.cache.dynamic;
+
+import cn.ares.boot.starter.cache.NearCache;
+import cn.ares.boot.starter.cache.NearCacheManager;
+import cn.ares.boot.starter.cache.api.spi.CacheBackend;
+import cn.ares.boot.starter.cache.config.BootCacheProperties;
+import java.util.Map.Entry;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:52:08
+ * @description: 可在运行时重新配置的缓存管理器，刷新时已创建的缓存就地调整容量和过期时间，不会重建也不会丢弃已缓存的条目
+ * @description: Cache manager reconfigurable at runtime, the created caches adjust their capacity
+ * and expiry in place on refresh, without rebuilding or dropping the resident entries
+ * @version: JDK 1.8
+ */
+public class DynamicCacheManager extends NearCacheManager {
+
+  public DynamicCacheManager(BootCacheProperties properties, CacheBackend backend) {
+    super(properties, backend);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用新的配置刷新，之后创建的缓存也使用新的配置
+   * @description: Refresh with the new properties, caches created afterwards also use them
+   * @time: 2026-10-18 16:52:08
+   * @params: [properties] 新的缓存配置
+   * @return: void
+   */
+  public synchronized void refresh(BootCacheProperties properties) {
+    setProperties(properties);
+    for (Entry<String, NearCache> entry : getCaches().entrySet()) {
+      entry.getValue().reconfigure(properties.getSpec(entry.getKey()));
+    }
+  }
+
+}
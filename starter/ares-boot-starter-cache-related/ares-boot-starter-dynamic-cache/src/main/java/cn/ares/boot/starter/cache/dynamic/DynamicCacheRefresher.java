@@ -0,0 +1,97 @@
+package cn.ares.boot.starter.cache.dynamic;
+
+import static cn.ares.boot.starter.cache.dynamic.DynamicCacheAutoConfiguration.CACHE_PREFIX;
+
+import cn.ares.boot.starter.cache.config.BootCacheProperties;
+import cn.ares.boot.util.common.thread.NameThreadFactory;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:52:08
+ * @description: 动态缓存刷新器，收到环境变更事件(如spring cloud的EnvironmentChangeEvent)或定时从环境中重新绑定缓存配置并刷新缓存管理器
+ * @description: Dynamic cache refresher, rebind the cache properties from the environment and
+ * refresh the cache manager on environment change events (such as EnvironmentChangeEvent of spring
+ * cloud) or periodically
+ * @version: JDK 1.8
+ */
+public class DynamicCacheRefresher implements ApplicationListener<ApplicationEvent>,
+    SmartInitializingSingleton, DisposableBean {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DynamicCacheRefresher.class);
+
+  /**
+   * 按类名匹配以避免依赖spring cloud Match by class name to avoid depending on spring cloud
+   */
+  private static final String ENVIRONMENT_CHANGE_EVENT = "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+  private static final String REFRESH_THREAD_NAME_FORMAT = "Dynamic-Cache-Refresh-Thread-%d";
+
+  private final DynamicCacheManager cacheManager;
+  private final Environment environment;
+  private final long refreshInterval;
+  private ScheduledExecutorService refreshExecutor;
+
+  public DynamicCacheRefresher(DynamicCacheManager cacheManager, Environment environment,
+      long refreshInterval) {
+    this.cacheManager = cacheManager;
+    this.environment = environment;
+    this.refreshInterval = refreshInterval;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationEvent event) {
+    if (ENVIRONMENT_CHANGE_EVENT.equals(event.getClass().getName())) {
+      refresh();
+    }
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (refreshInterval > 0) {
+      refreshExecutor = new ScheduledThreadPoolExecutor(1,
+          new NameThreadFactory().setNameFormat(REFRESH_THREAD_NAME_FORMAT).setDaemon(true)
+              .build());
+      refreshExecutor.scheduleWithFixedDelay(this::refresh, refreshInterval, refreshInterval,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (null != refreshExecutor) {
+      refreshExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 从环境中重新绑定缓存配置并刷新，绑定失败时保留原配置
+   * @description: Rebind the cache properties from the environment and refresh, keep the original
+   * properties when binding fails
+   * @time: 2026-10-18 16:52:08
+   * @params: []
+   * @return: void
+   */
+  public void refresh() {
+    try {
+      BootCacheProperties properties = Binder.get(environment)
+          .bind(CACHE_PREFIX, Bindable.of(BootCacheProperties.class))
+          .orElseGet(BootCacheProperties::new);
+      cacheManager.refresh(properties);
+    } catch (RuntimeException e) {
+      LOGGER.warn("refresh dynamic cache fail: ", e);
+    }
+  }
+
+}
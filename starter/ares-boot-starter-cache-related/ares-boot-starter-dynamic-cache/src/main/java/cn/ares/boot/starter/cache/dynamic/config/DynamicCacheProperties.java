@@ -0,0 +1,43 @@
+package cn.ares.boot.starter.cache.dynamic.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 16:52:08
+ * @description: 动态缓存配置
+ * @description: Dynamic cache properties
+ * @version: JDK 1.8
+ */
+@ConfigurationProperties(prefix = "ares.cache.dynamic")
+public class DynamicCacheProperties {
+
+  /**
+   * 是否开启运行时重新配置 Whether to enable runtime reconfiguration
+   */
+  private boolean enabled = true;
+
+  /**
+   * 主动从环境中重新绑定缓存配置的间隔，单位毫秒，不大于0时只在收到环境变更事件时刷新
+   * Interval to actively rebind the cache properties from the environment, in milliseconds, only
+   * refresh on environment change events when not greater than 0
+   */
+  private long refreshInterval = 0;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getRefreshInterval() {
+    return refreshInterval;
+  }
+
+  public void setRefreshInterval(long refreshInterval) {
+    this.refreshInterval = refreshInterval;
+  }
+
+}
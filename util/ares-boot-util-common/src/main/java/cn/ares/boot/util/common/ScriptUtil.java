@@ -6,12 +6,11 @@ import static cn.ares.boot.util.common.constant.ScriptConstant.SCRIPT_TEMPLATE_S
 import static cn.ares.boot.util.common.constant.ScriptConstant.SIMPLE_FUNCTION_PARAM;
 
 import cn.ares.boot.util.common.constant.ScriptLang;
+import cn.ares.boot.util.common.structure.ConcurrentLruCache;
 import cn.ares.boot.util.common.throwable.ExecuteScriptException;
 import cn.ares.boot.util.common.throwable.UnknownException;
 import cn.ares.boot.util.common.thread.ThreadUtil;
 import java.io.InputStream;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import javax.script.Invocable;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
@@ -25,8 +24,11 @@ import javax.script.ScriptEngineManager;
 public class ScriptUtil {
 
   private static ScriptEngineManager engineManager = new ScriptEngineManager();
-  private static final Map<String, String> SCRIPT_TEMPLATE_CACHE = new ConcurrentHashMap<>();
-  private static final Map<String, ScriptEngine> SCRIPT_ENGINE_CACHE = new ConcurrentHashMap<>();
+  private static final int SCRIPT_CACHE_CAPACITY = 64;
+  private static final ConcurrentLruCache<String, String> SCRIPT_TEMPLATE_CACHE = new ConcurrentLruCache<>(
+      SCRIPT_CACHE_CAPACITY);
+  private static final ConcurrentLruCache<String, ScriptEngine> SCRIPT_ENGINE_CACHE = new ConcurrentLruCache<>(
+      SCRIPT_CACHE_CAPACITY);
   private static final String RETURN = "return";
 
   /**
@@ -50,13 +52,13 @@ public class ScriptUtil {
       if (StringUtil.isEmpty(templatePath)) {
         templatePath = langName + SCRIPT_TEMPLATE_SUFFIX;
       }
-      ScriptEngine engine = SCRIPT_ENGINE_CACHE.computeIfAbsent(langName,
+      ScriptEngine engine = SCRIPT_ENGINE_CACHE.get(langName,
           value -> engineManager.getEngineByName(langName));
       if (null == engine) {
         throw new ExecuteScriptException("Not found script engine by " + langName);
       }
       String finalTemplatePath = templatePath;
-      String template = SCRIPT_TEMPLATE_CACHE.computeIfAbsent(templatePath, value -> {
+      String template = SCRIPT_TEMPLATE_CACHE.get(templatePath, value -> {
         InputStream templateStream = ThreadUtil.getResourceAsStream(finalTemplatePath);
         if (null == templateStream) {
           templateStream = ScriptUtil.class.getClassLoader().getResourceAsStream(finalTemplatePath);
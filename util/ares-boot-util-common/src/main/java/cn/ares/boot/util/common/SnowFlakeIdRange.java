@@ -0,0 +1,135 @@
+package cn.ares.boot.util.common;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 11:05:37
+ * @description: 批量预留的雪花标识区间，按毫秒分段保存，可作为无装箱的游标重复使用
+ * @description: Snowflake id range reserved in batch, stored in segments of milliseconds, can be
+ * reused as a cursor without boxing
+ * @version: JDK 1.8
+ */
+public final class SnowFlakeIdRange implements PrimitiveIterator.OfLong {
+
+  private static final int DEFAULT_SEGMENT_CAPACITY = 4;
+
+  /**
+   * 每段的标识前缀(时间截、数据中心和机器位)
+   * Id prefix of each segment (timestamp, data center and worker bits)
+   */
+  private long[] segmentPrefixes = new long[DEFAULT_SEGMENT_CAPACITY];
+  /**
+   * 每段的起始序列(包含)
+   * Start sequence of each segment (inclusive)
+   */
+  private int[] segmentStarts = new int[DEFAULT_SEGMENT_CAPACITY];
+  /**
+   * 每段的结束序列(包含)
+   * End sequence of each segment (inclusive)
+   */
+  private int[] segmentEnds = new int[DEFAULT_SEGMENT_CAPACITY];
+  private int segmentCount;
+  private int size;
+
+  private int cursorSegment;
+  private int cursorSequence;
+
+  /**
+   * @author: Ares
+   * @description: 清空区间以便重新填充
+   * @description: Clear the range for refilling
+   * @time: 2026-10-18 11:05:37
+   * @params: []
+   * @return: void
+   */
+  void reset() {
+    segmentCount = 0;
+    size = 0;
+    cursorSegment = 0;
+    cursorSequence = 0;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 追加一段同一毫秒内的连续序列
+   * @description: Append a segment of continuous sequences within the same millisecond
+   * @time: 2026-10-18 11:05:37
+   * @params: [prefix, start, end] 标识前缀，起始序列(包含)，结束序列(包含)
+   * @return: void
+   */
+  void addSegment(long prefix, int start, int end) {
+    if (segmentCount == segmentPrefixes.length) {
+      int newCapacity = segmentCount << 1;
+      segmentPrefixes = Arrays.copyOf(segmentPrefixes, newCapacity);
+      segmentStarts = Arrays.copyOf(segmentStarts, newCapacity);
+      segmentEnds = Arrays.copyOf(segmentEnds, newCapacity);
+    }
+    if (segmentCount == 0) {
+      cursorSequence = start;
+    }
+    segmentPrefixes[segmentCount] = prefix;
+    segmentStarts[segmentCount] = start;
+    segmentEnds[segmentCount] = end;
+    segmentCount++;
+    size += end - start + 1;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 区间内标识的数量
+   * @description: Number of ids in the range
+   * @time: 2026-10-18 11:05:37
+   * @params: []
+   * @return: int 数量
+   */
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return cursorSegment < segmentCount;
+  }
+
+  @Override
+  public long nextLong() {
+    if (cursorSegment >= segmentCount) {
+      throw new NoSuchElementException();
+    }
+    long id = segmentPrefixes[cursorSegment] | cursorSequence;
+    if (cursorSequence == segmentEnds[cursorSegment]) {
+      cursorSegment++;
+      if (cursorSegment < segmentCount) {
+        cursorSequence = segmentStarts[cursorSegment];
+      }
+    } else {
+      cursorSequence++;
+    }
+    return id;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 将区间内全部标识写入数组(不影响游标)
+   * @description: Write all ids in the range into an array (the cursor is not affected)
+   * @time: 2026-10-18 11:05:37
+   * @params: []
+   * @return: long[] 标识数组
+   */
+  public long[] toArray() {
+    long[] ids = new long[size];
+    int index = 0;
+    for (int i = 0; i < segmentCount; i++) {
+      long prefix = segmentPrefixes[i];
+      int end = segmentEnds[i];
+      for (int sequence = segmentStarts[i]; sequence <= end; sequence++) {
+        ids[index++] = prefix | sequence;
+      }
+    }
+    return ids;
+  }
+
+}
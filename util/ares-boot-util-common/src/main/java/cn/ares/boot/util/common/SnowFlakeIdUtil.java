@@ -23,6 +23,43 @@ public class SnowFlakeIdUtil {
     return SNOWFLAKE_ID_WORKER.nextId();
   }
 
+  /**
+   * @author: Ares
+   * @description: 批量获取分布式标识 (该方法是线程安全的)
+   * @description: Get distributed identities in batch (this method is thread-safe)
+   * @time: 2026-10-18 11:20:08
+   * @params: [count] 数量
+   * @return: long[] 分布式标识数组
+   */
+  public static long[] nextIds(int count) {
+    return SNOWFLAKE_ID_WORKER.nextIds(count);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 批量预留分布式标识区间 (该方法是线程安全的)
+   * @description: Reserve a range of distributed identities in batch (this method is thread-safe)
+   * @time: 2026-10-18 11:20:08
+   * @params: [count] 数量
+   * @return: cn.ares.boot.util.common.SnowFlakeIdRange 标识区间
+   */
+  public static SnowFlakeIdRange nextIdRange(int count) {
+    return SNOWFLAKE_ID_WORKER.nextIdRange(count);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 批量预留分布式标识区间并填充到传入的区间中以便重复使用 (该方法是线程安全的)
+   * @description: Reserve a range of distributed identities in batch and fill it into the given
+   * range for reuse (this method is thread-safe)
+   * @time: 2026-10-18 11:20:08
+   * @params: [count, range] 数量，标识区间
+   * @return: cn.ares.boot.util.common.SnowFlakeIdRange 标识区间
+   */
+  public static SnowFlakeIdRange nextIdRange(int count, SnowFlakeIdRange range) {
+    return SNOWFLAKE_ID_WORKER.nextIdRange(count, range);
+  }
+
   /**
    * @author: Ares
    * @description: 获取分布式标识字符串
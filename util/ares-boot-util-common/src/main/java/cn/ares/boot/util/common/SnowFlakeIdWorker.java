@@ -1,9 +1,17 @@
 package cn.ares.boot.util.common;
 
 import cn.ares.boot.util.common.network.NetworkUtil;
+import cn.ares.boot.util.common.spi.FileLeaseWorkerIdAssigner;
+import cn.ares.boot.util.common.spi.WorkerIdAssigner;
 import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -69,11 +77,28 @@ public class SnowFlakeIdWorker {
    * Sequence cache default size
    */
   private static final int DEFAULT_SEQUENCE_CACHE_SIZE = 2000;
+  /**
+   * 序列分片最多可占用的位数，至少保留4个毫秒内序列给每个分片
+   * The maximum number of bits that sequence slices can occupy, at least 4 sequences within
+   * milliseconds are reserved for each slice
+   */
+  private static final int MAX_SEQUENCE_SLICE_BITS = 10;
+  /**
+   * 默认的序列分片位数按cpu核数计算时的上限(16个分片，每个分片每毫秒256个序列)
+   * The upper limit of the default sequence slice bits calculated by the number of cpu cores (16
+   * slices, 256 sequences per millisecond for each slice)
+   */
+  private static final int DEFAULT_MAX_SEQUENCE_SLICE_BITS = 4;
   /**
    * 工作机器ID(0~31)
    * Work machine ID (0~31)
    */
   private final long workerId;
+  /**
+   * 分配工作ID的分配器，使用指定工作ID构造时为空
+   * Assigner of the worker id, null when constructed with a specified worker id
+   */
+  private final WorkerIdAssigner workerIdAssigner;
   /**
    * 数据中心ID(0~31)
    * Data center ID (0~31)
@@ -99,20 +124,52 @@ public class SnowFlakeIdWorker {
 
   private final Lock nextIdLock = new ReentrantLock();
   private final Lock nextIdByCacheWhenClockMovedLock = new ReentrantLock();
+  /**
+   * 无锁模式下的状态，高位为上次生成ID的时间截，低12位为毫秒内序列
+   * State of lock free mode, the high bits are the last timestamp and the low 12 bits are the
+   * sequence within milliseconds
+   */
+  private final AtomicLong lockFreeState = new AtomicLong();
+  /**
+   * 无锁模式下上次生成ID的时间截(兼容时钟回拨方式) The last timestamp of lock free mode (clock moved compatible)
+   */
+  private final AtomicLong lockFreeLastTimestamp = new AtomicLong(-1L);
+  /**
+   * 无锁模式下的序列缓存，每个槽位存放该槽位最近时间截及其序列(兼容时钟回拨方式)
+   * Sequence cache of lock free mode, each slot holds the latest timestamp of the slot and its
+   * sequence (clock moved compatible)
+   */
+  private final AtomicLongArray lockFreeSequenceCache;
+  /**
+   * 序列分片所占的位数，序列的低位为分片标识
+   * The number of bits occupied by the sequence slice, the low bits of the sequence are the slice id
+   */
+  private final int sequenceSliceBits;
+  /**
+   * 序列分片，每个线程绑定一个分片
+   * Sequence slices, each thread is bound to one slice
+   */
+  private final SequenceSlice[] sequenceSlices;
+  private final AtomicInteger sequenceSliceIndex = new AtomicInteger();
+  private final ThreadLocal<SequenceSlice> threadSequenceSlice = ThreadLocal.withInitial(
+      this::nextSequenceSlice);
+
   /**
    * 构造函数 Constructor
    */
   protected SnowFlakeIdWorker() {
-    this(getWorkId());
+    this(loadWorkerIdAssigner());
   }
 
   /**
    * 构造函数 Constructor
    *
-   * @param workerId 工作ID (0~31)
+   * @param workerIdAssigner 工作ID分配器(为空时使用mac地址哈希) Worker id assigner (mac address hash
+   *                         when null)
    */
-  private SnowFlakeIdWorker(long workerId) {
-    this(workerId, 0);
+  private SnowFlakeIdWorker(WorkerIdAssigner workerIdAssigner) {
+    this(getWorkId(workerIdAssigner), 0, ARES_EPOCH, DEFAULT_SEQUENCE_CACHE_SIZE,
+        getDefaultSequenceSliceBits(), workerIdAssigner);
   }
 
   /**
@@ -134,6 +191,26 @@ public class SnowFlakeIdWorker {
   }
 
   public SnowFlakeIdWorker(long workerId, long dataCenterId, long epoch, int sequenceCacheSize) {
+    this(workerId, dataCenterId, epoch, sequenceCacheSize, getDefaultSequenceSliceBits());
+  }
+
+  /**
+   * Constructor 构造函数
+   *
+   * @param workerId          工作ID (0~31)
+   * @param dataCenterId      数据中心ID (0~31)
+   * @param epoch             时间起点 start timestamp
+   * @param sequenceCacheSize 序列缓存大小 Sequence cache size
+   * @param sequenceSliceBits 序列分片位数 (0~10)，分片数为2的该次方 Sequence slice bits (0~10), the number of
+   *                          slices is 2 to the power of it
+   */
+  public SnowFlakeIdWorker(long workerId, long dataCenterId, long epoch, int sequenceCacheSize,
+      int sequenceSliceBits) {
+    this(workerId, dataCenterId, epoch, sequenceCacheSize, sequenceSliceBits, null);
+  }
+
+  private SnowFlakeIdWorker(long workerId, long dataCenterId, long epoch, int sequenceCacheSize,
+      int sequenceSliceBits, WorkerIdAssigner workerIdAssigner) {
     if (workerId > MAX_WORKER_ID || workerId < 0) {
       throw new IllegalArgumentException(
           String.format("Worker Id can't be greater than %d or less than 0", MAX_WORKER_ID));
@@ -144,19 +221,53 @@ public class SnowFlakeIdWorker {
               MAX_DATA_CENTER_ID));
     }
     this.workerId = workerId;
+    this.workerIdAssigner = workerIdAssigner;
     this.dataCenterId = dataCenterId;
     this.epoch = epoch;
     this.sequenceCache = new long[sequenceCacheSize];
+    this.lockFreeSequenceCache = new AtomicLongArray(sequenceCacheSize);
+    if (sequenceSliceBits > MAX_SEQUENCE_SLICE_BITS || sequenceSliceBits < 0) {
+      throw new IllegalArgumentException(
+          String.format("Sequence slice bits can't be greater than %d or less than 0",
+              MAX_SEQUENCE_SLICE_BITS));
+    }
+    this.sequenceSliceBits = sequenceSliceBits;
+    this.sequenceSlices = new SequenceSlice[1 << sequenceSliceBits];
+    for (int i = 0; i < sequenceSlices.length; i++) {
+      this.sequenceSlices[i] = new SequenceSlice(i);
+    }
   }
 
   /**
    * @author: Ares
-   * @description: 获取工作ID
-   * @time: 2020-09-01 15:26:00
+   * @description: 按cpu核数获取默认的序列分片位数
+   * @description: Get the default sequence slice bits by the number of cpu cores
+   * @time: 2026-10-18 11:48:52
    * @params: []
+   * @return: int 序列分片位数
+   */
+  private static int getDefaultSequenceSliceBits() {
+    int coreCount = Runtime.getRuntime().availableProcessors();
+    int sliceBits = 0;
+    while ((1 << sliceBits) < coreCount && sliceBits < DEFAULT_MAX_SEQUENCE_SLICE_BITS) {
+      sliceBits++;
+    }
+    return sliceBits;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取工作ID，优先使用系统属性指定或ServiceLoader加载的分配器，没有时使用mac地址哈希
+   * @description: Get worker id, use the assigner specified by system property or loaded by
+   * ServiceLoader first, and use the mac address hash when there is none
+   * @time: 2020-09-01 15:26:00
+   * @params: [workerIdAssigner] 工作ID分配器(可能为空)
    * @return: java.lang.Long 工作标识
    */
-  private static Long getWorkId() {
+  private static Long getWorkId(WorkerIdAssigner workerIdAssigner) {
+    if (null != workerIdAssigner) {
+      return workerIdAssigner.assignWorkerId(MAX_WORKER_ID);
+    }
     int[] macArr;
     try {
       macArr = toCodePoints(NetworkUtil.getMac());
@@ -170,6 +281,40 @@ public class SnowFlakeIdWorker {
     return (long) (sums % 32);
   }
 
+  /**
+   * @author: Ares
+   * @description: 加载工作ID分配器
+   * @description: Load worker id assigner
+   * @time: 2026-10-18 12:20:14
+   * @params: []
+   * @return: cn.ares.boot.util.common.spi.WorkerIdAssigner 工作ID分配器(可能为空)
+   */
+  private static WorkerIdAssigner loadWorkerIdAssigner() {
+    String assignerName = System.getProperty(WorkerIdAssigner.WORKER_ID_ASSIGNER);
+    if (StringUtil.isBlank(assignerName)) {
+      Iterator<WorkerIdAssigner> iterator = ServiceLoader.load(WorkerIdAssigner.class).iterator();
+      return iterator.hasNext() ? iterator.next() : null;
+    }
+    if (WorkerIdAssigner.FILE_LEASE.equalsIgnoreCase(assignerName)) {
+      // 注册目录必须为各实例共享的卷，默认的临时目录每个实例各不相同，会导致各实例都租到同一个工作ID
+      // The registry directory must be a volume shared by instances, a default temporary directory
+      // differs on each instance and every instance would lease the same worker id
+      String directory = System.getProperty(WorkerIdAssigner.WORKER_ID_LEASE_DIRECTORY);
+      if (StringUtil.isBlank(directory)) {
+        throw new IllegalArgumentException(String.format(
+            "System property %s is required when the worker id assigner is %s",
+            WorkerIdAssigner.WORKER_ID_LEASE_DIRECTORY, WorkerIdAssigner.FILE_LEASE));
+      }
+      return new FileLeaseWorkerIdAssigner(directory);
+    }
+    try {
+      return (WorkerIdAssigner) Class.forName(assignerName, true,
+          Thread.currentThread().getContextClassLoader()).getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Can not create worker id assigner: " + assignerName, e);
+    }
+  }
+
   /**
    * @author: Ares
    * @description: 获取分布式标识 (该方法是线程安全的)
@@ -293,6 +438,264 @@ public class SnowFlakeIdWorker {
   }
 
 
+  /**
+   * @author: Ares
+   * @description: 批量获取分布式标识，在一次加锁内预留跨一个或多个毫秒的连续序列，与nextId共用状态 (该方法是线程安全的)
+   * @description: Get distributed identities in batch, a continuous range of sequences across one
+   * or more milliseconds is reserved within one lock, the state is shared with nextId (the method
+   * is thread-safe)
+   * @time: 2026-10-18 11:20:08
+   * @params: [count] 数量
+   * @return: long[] 分布式标识数组
+   */
+  public long[] nextIds(int count) {
+    return nextIdRange(count).toArray();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 批量预留分布式标识区间 (该方法是线程安全的)
+   * @description: Reserve a range of distributed identities in batch (the method is thread-safe)
+   * @time: 2026-10-18 11:20:08
+   * @params: [count] 数量
+   * @return: cn.ares.boot.util.common.SnowFlakeIdRange 标识区间
+   */
+  public SnowFlakeIdRange nextIdRange(int count) {
+    return nextIdRange(count, new SnowFlakeIdRange());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 批量预留分布式标识区间并填充到传入的区间中以便重复使用 (该方法是线程安全的，但传入的区间不能被多个线程共享)
+   * @description: Reserve a range of distributed identities in batch and fill it into the given
+   * range for reuse (the method is thread-safe, but the given range must not be shared by threads)
+   * @time: 2026-10-18 11:20:08
+   * @params: [count, range] 数量，标识区间
+   * @return: cn.ares.boot.util.common.SnowFlakeIdRange 标识区间
+   */
+  public SnowFlakeIdRange nextIdRange(int count, SnowFlakeIdRange range) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("Count must be greater than 0");
+    }
+    range.reset();
+    nextIdLock.lock();
+    try {
+      long timestamp = timeGen();
+      if (timestamp < this.lastTimestamp) {
+        throw new RuntimeException(String.format(
+            "Clock moved backwards, refusing to generate id for %d ms, last time is %d ms, current time is %d ms.",
+            lastTimestamp - timestamp, lastTimestamp, timestamp));
+      }
+
+      long start = 0L;
+      if (this.lastTimestamp == timestamp) {
+        start = this.sequence + 1;
+        // 当前毫秒的序列已用完
+        // The sequence of current millisecond is used up
+        if (start > SEQUENCE_MASK) {
+          timestamp = tilNextMillis(this.lastTimestamp);
+          start = 0L;
+        }
+      }
+
+      int remaining = count;
+      for (; ; ) {
+        // 一次性预留当前毫秒内尽可能多的序列，只在毫秒用完时才重新取时间
+        // Reserve as many sequences as possible in current millisecond at once, and get the
+        // time again only when the millisecond is used up
+        long end = Math.min(SEQUENCE_MASK, start + remaining - 1);
+        range.addSegment(allocate(timestamp - this.epoch, 0L), (int) start, (int) end);
+        remaining -= (int) (end - start + 1);
+        this.sequence = end;
+        this.lastTimestamp = timestamp;
+        if (remaining == 0) {
+          return range;
+        }
+        timestamp = tilNextMillis(timestamp);
+        start = 0L;
+      }
+    } finally {
+      nextIdLock.unlock();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 以无锁方式获取分布式标识，时间截和序列打包在同一个原子变量中通过CAS推进，位布局、起始时间和时钟回拨语义与nextId一致
+   * (该方法是线程安全的，但其状态独立于加锁方式，同一实例请勿与nextId混用)
+   * @description: Get the distributed identity lock free, the timestamp and sequence are packed in
+   * one atomic variable and advanced by CAS, the bit layout, epoch and clock moved semantics are
+   * the same as nextId (the method is thread-safe, but its state is independent of the locking
+   * methods, so do not mix it with nextId on the same instance)
+   * @time: 2026-10-18 10:12:31
+   * @params: []
+   * @return: long 分布式标识
+   */
+  public long nextIdLockFree() {
+    for (; ; ) {
+      // 先读状态再取时间，保证取到的时间不早于状态中的时间截(除非时钟真的回退)
+      // Read the state before the time, so that the time obtained is not earlier than the
+      // timestamp in the state (unless the clock really moved backwards)
+      long state = this.lockFreeState.get();
+      long lastTimestamp = state >>> SEQUENCE_BITS;
+      long timestamp = timeGen();
+
+      // 时钟回退时与nextId一样拒绝生成
+      // Refuse to generate like nextId when the clock moved backwards
+      if (timestamp < lastTimestamp) {
+        throw new RuntimeException(String.format(
+            "Clock moved backwards, refusing to generate id for %d ms, last time is %d ms, current time is %d ms.",
+            lastTimestamp - timestamp, lastTimestamp, timestamp));
+      }
+
+      long sequence;
+      if (timestamp == lastTimestamp) {
+        sequence = (state + 1) & SEQUENCE_MASK;
+        // 毫秒内序列溢出，自旋到下一个毫秒后重试
+        // Sequence overflow in milliseconds, spin to the next millisecond and try again
+        if (sequence == 0) {
+          tilNextMillis(lastTimestamp);
+          continue;
+        }
+      } else {
+        sequence = 0L;
+      }
+
+      if (this.lockFreeState.compareAndSet(state, (timestamp << SEQUENCE_BITS) | sequence)) {
+        return allocate(timestamp - this.epoch, sequence);
+      }
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 以无锁方式获取兼容短暂时钟回拨的分布式标识，序列缓存的每个槽位记录最近的时间截及其序列并通过CAS推进，
+   * 回拨范围与nextIdByCacheWhenClockMoved一致 (该方法是线程安全的，但其状态独立于加锁方式，同一实例请勿与nextIdByCacheWhenClockMoved混用)
+   * @description: A lock free way to obtain distributed identities that is compatible with short
+   * clock backticks, each slot of the sequence cache records the latest timestamp and its sequence
+   * and is advanced by CAS, the tolerated range is the same as nextIdByCacheWhenClockMoved (the
+   * method is thread-safe, but its state is independent of the locking methods, so do not mix it
+   * with nextIdByCacheWhenClockMoved on the same instance)
+   * @time: 2026-10-18 10:12:31
+   * @params: []
+   * @return: long 分布式标识
+   */
+  public long nextIdLockFreeByCacheWhenClockMoved() {
+    int sequenceCacheSize = this.lockFreeSequenceCache.length();
+    for (; ; ) {
+      long lastTimestamp = this.lockFreeLastTimestamp.get();
+      long timestamp = timeGen();
+      if (timestamp > lastTimestamp) {
+        lastTimestamp = this.lockFreeLastTimestamp.accumulateAndGet(timestamp, Math::max);
+      }
+      if ((lastTimestamp - timestamp) > sequenceCacheSize) {
+        throw new UnsupportedOperationException(
+            String.format("The time back range is too large and exceeds %dms caches",
+                sequenceCacheSize));
+      }
+
+      int index = (int) (timestamp % sequenceCacheSize);
+      long slot = this.lockFreeSequenceCache.get(index);
+      long slotTimestamp = slot >>> SEQUENCE_BITS;
+      long sequence;
+      if (slotTimestamp == timestamp) {
+        sequence = (slot + 1) & SEQUENCE_MASK;
+        // 该毫秒的序列已用完，等待下一个毫秒(即使仍处于回拨中也可以使用下一个毫秒的缓存)
+        // The sequence of this millisecond is used up, wait for the next millisecond (even if
+        // the clock is still moved back, the cache of the next millisecond can be used)
+        if (sequence == 0) {
+          tilNextMillis(timestamp);
+          continue;
+        }
+      } else if (slotTimestamp < timestamp) {
+        // 该毫秒尚未生成过标识
+        // No identity has been generated in this millisecond
+        sequence = 0L;
+      } else {
+        // 槽位已被更新的时间截覆盖(取时间后线程被长时间挂起)，重新取时间
+        // The slot has been overwritten by a newer timestamp (the thread was suspended for a long
+        // time after getting the time), get the time again
+        continue;
+      }
+
+      if (this.lockFreeSequenceCache.compareAndSet(index, slot,
+          (timestamp << SEQUENCE_BITS) | sequence)) {
+        return allocate(timestamp - this.epoch, sequence);
+      }
+    }
+  }
+
+
+  /**
+   * @author: Ares
+   * @description: 以线程分片的方式获取分布式标识，序列的低sequenceSliceBits位为当前线程绑定的分片标识，
+   * 线程数不超过分片数时各线程互不共享状态，标识全局唯一且大致按时间有序，时钟回拨语义与nextId一致
+   * (该方法是线程安全的，但其状态独立于其它方式，同一实例请勿混用)
+   * @description: Get the distributed identity by thread slice, the low sequenceSliceBits bits of
+   * the sequence are the id of the slice bound to current thread, threads share no state when the
+   * number of threads does not exceed the number of slices, ids are globally unique and roughly
+   * ordered by time, the clock moved semantics are the same as nextId (the method is thread-safe,
+   * but its state is independent of other methods, so do not mix them on the same instance)
+   * @time: 2026-10-18 11:48:52
+   * @params: []
+   * @return: long 分布式标识
+   */
+  public long nextIdBySlice() {
+    SequenceSlice slice = this.threadSequenceSlice.get();
+    long counterMask = SEQUENCE_MASK >>> this.sequenceSliceBits;
+    for (; ; ) {
+      long state = slice.state;
+      long lastTimestamp = state >>> SEQUENCE_BITS;
+      long timestamp = timeGen();
+
+      if (timestamp < lastTimestamp) {
+        throw new RuntimeException(String.format(
+            "Clock moved backwards, refusing to generate id for %d ms, last time is %d ms, current time is %d ms.",
+            lastTimestamp - timestamp, lastTimestamp, timestamp));
+      }
+
+      long counter;
+      if (timestamp == lastTimestamp) {
+        counter = (state & SEQUENCE_MASK) + 1;
+        // 分片在当前毫秒内的序列已用完
+        // The sequence of the slice in current millisecond is used up
+        if (counter > counterMask) {
+          tilNextMillis(lastTimestamp);
+          continue;
+        }
+      } else {
+        counter = 0L;
+      }
+
+      // 线程独占分片时CAS不会失败，仅在多个线程共享分片时重试
+      // CAS will not fail when the thread owns the slice exclusively, retry only when several
+      // threads share the slice
+      if (SequenceSlice.STATE_UPDATER.compareAndSet(slice, state,
+          (timestamp << SEQUENCE_BITS) | counter)) {
+        return allocate(timestamp - this.epoch,
+            (counter << this.sequenceSliceBits) | slice.sliceId);
+      }
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 按轮询方式为新线程分配序列分片
+   * @description: Assign a sequence slice to a new thread by round-robin
+   * @time: 2026-10-18 11:48:52
+   * @params: []
+   * @return: cn.ares.boot.util.common.SnowFlakeIdWorker.SequenceSlice 序列分片
+   */
+  private SequenceSlice nextSequenceSlice() {
+    int index = this.sequenceSliceIndex.getAndIncrement() & (this.sequenceSlices.length - 1);
+    return this.sequenceSlices[index];
+  }
+
+  public int getSequenceSliceBits() {
+    return sequenceSliceBits;
+  }
+
+
   private long allocate(long deltaSeconds) {
     return allocate(deltaSeconds, this.sequence);
   }
@@ -306,6 +709,13 @@ public class SnowFlakeIdWorker {
    * @return: long id
    */
   private long allocate(long deltaMillisSeconds, long sequence) {
+    // 工作ID的租约丢失后其它实例可能正在使用同一工作ID，继续生成会产生重复ID
+    // Another instance may be using the same worker id after the lease is lost, generating would
+    // produce duplicate ids
+    if (null != workerIdAssigner && !workerIdAssigner.isValid()) {
+      throw new IllegalStateException(String.format(
+          "Worker id %d is no longer held by this instance, refusing to generate id", workerId));
+    }
     return (deltaMillisSeconds << TIMESTAMP_LEFT_SHIFT) | (dataCenterId << DATA_CENTER_ID_SHIFT) | (
         workerId << WORKER_ID_SHIFT) | sequence;
   }
@@ -354,4 +764,29 @@ public class SnowFlakeIdWorker {
     }
   }
 
+  /**
+   * 序列分片，前后填充以避免与其它分片发生伪共享
+   * Sequence slice, padded before and after to avoid false sharing with other slices
+   */
+  private static final class SequenceSlice {
+
+    private static final AtomicLongFieldUpdater<SequenceSlice> STATE_UPDATER = AtomicLongFieldUpdater.newUpdater(
+        SequenceSlice.class, "state");
+
+    private long p01, p02, p03, p04, p05, p06, p07;
+    /**
+     * 高位为上次生成ID的时间截，低位为分片内的毫秒内计数
+     * The high bits are the last timestamp and the low bits are the counter within milliseconds of
+     * the slice
+     */
+    private volatile long state;
+    private long p11, p12, p13, p14, p15, p16, p17;
+
+    private final long sliceId;
+
+    private SequenceSlice(long sliceId) {
+      this.sliceId = sliceId;
+    }
+  }
+
 }
@@ -7,6 +7,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.zip.GZIPInputStream;
@@ -23,6 +26,10 @@ import java.util.zip.ZipInputStream;
 public class FileUtil {
 
   private static final String TEMP_PATH = System.getProperty("java.io.tmpdir");
+  /**
+   * 单次通道传输的最大字节数 The maximum number of bytes of a single channel transfer
+   */
+  private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
 
   /**
    * @author: Ares
@@ -308,6 +315,27 @@ public class FileUtil {
     }
   }
 
+  /**
+   * @author: Ares
+   * @description: 通过NIO通道传输把输入流写入文件（覆盖），不在堆上缓冲整个内容，输入流不会被关闭
+   * @description: Write the input stream to the file (overwrite) by NIO channel transfer without
+   * buffering the whole content on heap, the input stream is left open
+   * @time: 2026-10-18 20:06:52
+   * @params: [inputStream, file] 输入流，文件
+   * @return: long 写入的字节数
+   */
+  public static long transferToFile(InputStream inputStream, File file) throws IOException {
+    ReadableByteChannel source = Channels.newChannel(inputStream);
+    try (FileChannel target = openOutputStream(file).getChannel()) {
+      long position = 0;
+      long transferred;
+      while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+        position += transferred;
+      }
+      return position;
+    }
+  }
+
   /**
    * @author: Ares
    * @description: 解压gzip文件夹
@@ -0,0 +1,296 @@
+package cn.ares.boot.util.common.spi;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import cn.ares.boot.util.common.thread.NameThreadFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 12:20:14
+ * @description: 基于文件锁注册表的工作ID租约分配器，每个工作ID对应一个租约文件，持有者定时续约，
+ * 超过租约时间未续约的工作ID可被其它实例接管，注册目录可放在多个实例共享的卷上
+ * @description: Worker id assigner leased from a file locked registry, each worker id has a lease
+ * file renewed by its holder periodically, a worker id whose lease is not renewed within the lease
+ * time can be taken over by other instances, the registry directory can be on a volume shared by
+ * instances
+ * @version: JDK 1.8
+ */
+public class FileLeaseWorkerIdAssigner implements WorkerIdAssigner {
+
+  /**
+   * common模块不依赖日志框架，使用jdk日志(Spring Boot会桥接到slf4j)
+   * The common module does not depend on a logging framework, use jdk logging (bridged to slf4j by
+   * Spring Boot)
+   */
+  private static final Logger LOGGER = Logger.getLogger(FileLeaseWorkerIdAssigner.class.getName());
+
+  private static final String REGISTRY_LOCK_FILE_NAME = "registry.lock";
+  private static final String LEASE_FILE_FORMAT = "worker-%d.lease";
+  private static final String HEARTBEAT_THREAD_NAME_FORMAT = "Worker-Id-Lease-Heartbeat-Thread-%d";
+  /**
+   * 默认租约时间 Default lease time
+   */
+  private static final long DEFAULT_LEASE_MILLIS = 30_000L;
+  /**
+   * 同一个jvm内的文件锁不可重入，使用该对象串行化本进程内对注册表的访问
+   * File locks are not reentrant in the same jvm, use this object to serialize access to the
+   * registry within this process
+   */
+  private static final Object REGISTRY_MONITOR = new Object();
+
+  private final Path directory;
+  private final long leaseMillis;
+  private final String owner;
+
+  private ScheduledExecutorService heartbeatExecutor;
+  private Thread releaseHook;
+  private volatile long workerId = -1L;
+  private volatile boolean leaseLost;
+  /**
+   * 由续约线程维护的有效标记，生成ID的热路径只读该标记而不取系统时间 Validity flag maintained by the
+   * heartbeat thread, the id generation hot path only reads it without getting the system time
+   */
+  private volatile boolean valid;
+  private volatile long lastRenewMillis;
+
+  public FileLeaseWorkerIdAssigner(String directory) {
+    this(Paths.get(directory), DEFAULT_LEASE_MILLIS);
+  }
+
+  /**
+   * Constructor 构造函数
+   *
+   * @param directory   注册目录 Registry directory
+   * @param leaseMillis 租约时间，每三分之一租约时间续约一次 Lease time, renewed every third of it
+   */
+  public FileLeaseWorkerIdAssigner(Path directory, long leaseMillis) {
+    if (leaseMillis <= 0) {
+      throw new IllegalArgumentException("Lease millis must be greater than 0");
+    }
+    this.directory = directory;
+    this.leaseMillis = leaseMillis;
+    this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+  }
+
+  @Override
+  public synchronized long assignWorkerId(long maxWorkerId) {
+    if (workerId >= 0) {
+      return workerId;
+    }
+    long assigned = withRegistryLock(() -> {
+      long now = System.currentTimeMillis();
+      for (long id = 0; id <= maxWorkerId; id++) {
+        Path leaseFile = leaseFile(id);
+        Lease lease = readLease(leaseFile);
+        if (null == lease || lease.isExpired(now, leaseMillis)) {
+          writeLease(leaseFile, now);
+          return id;
+        }
+      }
+      return -1L;
+    });
+    if (assigned < 0) {
+      throw new IllegalStateException(String.format(
+          "No free worker id in registry %s, all %d worker ids are leased", directory,
+          maxWorkerId + 1));
+    }
+    this.workerId = assigned;
+    this.leaseLost = false;
+    this.lastRenewMillis = System.currentTimeMillis();
+    this.valid = true;
+    startHeartbeat();
+    return assigned;
+  }
+
+  @Override
+  public synchronized void release() {
+    if (workerId < 0) {
+      return;
+    }
+    valid = false;
+    if (null != heartbeatExecutor) {
+      heartbeatExecutor.shutdownNow();
+      heartbeatExecutor = null;
+    }
+    if (null != releaseHook && Thread.currentThread() != releaseHook) {
+      try {
+        Runtime.getRuntime().removeShutdownHook(releaseHook);
+      } catch (IllegalStateException e) {
+        // ignore - VM is already shutting down
+      }
+    }
+    releaseHook = null;
+    Path leaseFile = leaseFile(workerId);
+    withRegistryLock(() -> {
+      Lease lease = readLease(leaseFile);
+      if (null != lease && owner.equals(lease.owner)) {
+        Files.deleteIfExists(leaseFile);
+      }
+      return null;
+    });
+    workerId = -1L;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 租约是否已被其它实例接管(续约中断超过租约时间时可能发生)
+   * @description: Whether the lease has been taken over by another instance (may happen when the
+   * renewal is interrupted for longer than the lease time)
+   * @time: 2026-10-18 12:20:14
+   * @params: []
+   * @return: boolean 是否丢失
+   */
+  public boolean isLeaseLost() {
+    return leaseLost;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 租约未丢失且续约未中断到下次续约前会超过租约时间时有效，由续约线程计算，超过租约时间后其它实例可能已接管该工作ID
+   * @description: Valid when the lease is not lost and the renewal has not been interrupted so long
+   * that the lease would expire before the next renewal, computed by the heartbeat thread, beyond
+   * the lease time another instance may have taken over the worker id
+   * @time: 2026-10-18 23:48:10
+   * @params: []
+   * @return: boolean 是否有效
+   */
+  @Override
+  public boolean isValid() {
+    return valid;
+  }
+
+  private void startHeartbeat() {
+    long period = heartbeatPeriod();
+    heartbeatExecutor = new ScheduledThreadPoolExecutor(1,
+        new NameThreadFactory().setNameFormat(HEARTBEAT_THREAD_NAME_FORMAT).setDaemon(true)
+            .build());
+    heartbeatExecutor.scheduleAtFixedRate(this::renew, period, period, TimeUnit.MILLISECONDS);
+    releaseHook = new Thread(this::release);
+    Runtime.getRuntime().addShutdownHook(releaseHook);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 续约，租约已被其它实例接管时标记为丢失
+   * @description: Renew the lease, mark it lost when it has been taken over by another instance
+   * @time: 2026-10-18 12:20:14
+   * @params: []
+   * @return: void
+   */
+  private void renew() {
+    long id = workerId;
+    if (id < 0 || leaseLost) {
+      return;
+    }
+    Path leaseFile = leaseFile(id);
+    try {
+      withRegistryLock(() -> {
+        long now = System.currentTimeMillis();
+        Lease lease = readLease(leaseFile);
+        if (null == lease || owner.equals(lease.owner) || lease.isExpired(now, leaseMillis)) {
+          writeLease(leaseFile, now);
+          lastRenewMillis = now;
+          valid = true;
+        } else {
+          leaseLost = true;
+          valid = false;
+          LOGGER.severe(String.format("Worker id %d lease in registry %s has been taken over by %s",
+              id, directory, lease.owner));
+        }
+        return null;
+      });
+    } catch (RuntimeException e) {
+      // 注册表暂时不可用时等待下次续约，下次续约前租约就会过期时提前置为无效
+      // Wait for the next renewal when the registry is temporarily unavailable, invalidate in
+      // advance when the lease would expire before the next renewal
+      LOGGER.log(Level.WARNING, "Renew worker id " + id + " lease fail", e);
+      if (System.currentTimeMillis() - lastRenewMillis + heartbeatPeriod() > leaseMillis) {
+        valid = false;
+        LOGGER.severe(String.format(
+            "Worker id %d lease in registry %s is about to expire, stop generating ids", id,
+            directory));
+      }
+    }
+  }
+
+  private long heartbeatPeriod() {
+    return Math.max(1L, leaseMillis / 3);
+  }
+
+  private <T> T withRegistryLock(Callable<T> callable) {
+    synchronized (REGISTRY_MONITOR) {
+      try {
+        Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(directory.resolve(REGISTRY_LOCK_FILE_NAME),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+          FileLock lock = channel.lock();
+          try {
+            return callable.call();
+          } finally {
+            lock.release();
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Access worker id registry " + directory + " fail", e);
+      } catch (Exception e) {
+        throw new IllegalStateException("Access worker id registry " + directory + " fail", e);
+      }
+    }
+  }
+
+  private Path leaseFile(long id) {
+    return directory.resolve(String.format(LEASE_FILE_FORMAT, id));
+  }
+
+  private Lease readLease(Path leaseFile) throws IOException {
+    if (!Files.exists(leaseFile)) {
+      return null;
+    }
+    List<String> lines = Files.readAllLines(leaseFile, UTF_8);
+    if (lines.size() < 2) {
+      return null;
+    }
+    try {
+      return new Lease(lines.get(0), Long.parseLong(lines.get(1).trim()));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private void writeLease(Path leaseFile, long heartbeatMillis) throws IOException {
+    Files.write(leaseFile, (owner + "\n" + heartbeatMillis + "\n").getBytes(UTF_8));
+  }
+
+  private static class Lease {
+
+    private final String owner;
+    private final long heartbeatMillis;
+
+    private Lease(String owner, long heartbeatMillis) {
+      this.owner = owner;
+      this.heartbeatMillis = heartbeatMillis;
+    }
+
+    private boolean isExpired(long now, long leaseMillis) {
+      return now - heartbeatMillis > leaseMillis;
+    }
+  }
+
+}
@@ -0,0 +1,63 @@
+package cn.ares.boot.util.common.spi;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 12:20:14
+ * @description: 雪花算法工作ID分配器，可通过ServiceLoader或系统属性替换默认的mac地址哈希方式
+ * @description: Worker id assigner of snowflake, the default mac address hash can be replaced by
+ * ServiceLoader or system property
+ * @version: JDK 1.8
+ */
+public interface WorkerIdAssigner {
+
+  /**
+   * 指定分配器的系统属性，可为file-lease或分配器的全限定类名
+   * System property to specify the assigner, can be file-lease or the full class name of assigner
+   */
+  String WORKER_ID_ASSIGNER = "ares.snowflake.worker-id-assigner";
+  /**
+   * 文件租约分配器的名称 Name of the file lease assigner
+   */
+  String FILE_LEASE = "file-lease";
+  /**
+   * 文件租约分配器的注册目录，使用file-lease时必填，需为多个实例共享的卷
+   * Registry directory of the file lease assigner, required for file-lease, must be a volume shared
+   * by instances
+   */
+  String WORKER_ID_LEASE_DIRECTORY = "ares.snowflake.worker-id-lease-directory";
+
+  /**
+   * @author: Ares
+   * @description: 分配工作ID
+   * @description: Assign worker id
+   * @time: 2026-10-18 12:20:14
+   * @params: [maxWorkerId] 最大工作ID(包含)
+   * @return: long 工作ID
+   */
+  long assignWorkerId(long maxWorkerId);
+
+  /**
+   * @author: Ares
+   * @description: 释放已分配的工作ID
+   * @description: Release the assigned worker id
+   * @time: 2026-10-18 12:20:14
+   * @params: []
+   * @return: void
+   */
+  default void release() {
+  }
+
+  /**
+   * @author: Ares
+   * @description: 已分配的工作ID是否仍由当前实例独占，无效时雪花算法拒绝生成ID以避免与其它实例重复
+   * @description: Whether the assigned worker id is still held exclusively by this instance, the
+   * snowflake refuses to generate ids when invalid to avoid duplicates with other instances
+   * @time: 2026-10-18 23:48:10
+   * @params: []
+   * @return: boolean 是否有效
+   */
+  default boolean isValid() {
+    return true;
+  }
+
+}
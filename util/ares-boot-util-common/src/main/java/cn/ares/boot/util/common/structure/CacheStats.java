@@ -0,0 +1,192 @@
+package cn.ares.boot.util.common.structure;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 15:02:33
+ * @description: 缓存统计快照，不可变，可周期性导出并通过minus计算区间增量
+ * @description: Immutable snapshot of cache statistics, can be exported periodically and the
+ * increment of an interval can be calculated by minus
+ * @version: JDK 1.8
+ */
+public final class CacheStats {
+
+  private static final RemovalCause[] CAUSES = RemovalCause.values();
+
+  private final long hitCount;
+  private final long missCount;
+  private final long loadSuccessCount;
+  private final long loadFailureCount;
+  private final long totalLoadTime;
+  private final long[] removalCounts;
+  private final long evictionWeight;
+  private final long weightedSize;
+
+  CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+      long totalLoadTime, long[] removalCounts, long evictionWeight, long weightedSize) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.loadSuccessCount = loadSuccessCount;
+    this.loadFailureCount = loadFailureCount;
+    this.totalLoadTime = totalLoadTime;
+    this.removalCounts = removalCounts;
+    this.evictionWeight = evictionWeight;
+    this.weightedSize = weightedSize;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getRequestCount() {
+    return hitCount + missCount;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 命中率，没有请求时为1
+   * @description: Hit rate, 1 if there is no request
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: double 命中率
+   */
+  public double getHitRate() {
+    long requestCount = getRequestCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  public long getLoadSuccessCount() {
+    return loadSuccessCount;
+  }
+
+  public long getLoadFailureCount() {
+    return loadFailureCount;
+  }
+
+  public long getLoadCount() {
+    return loadSuccessCount + loadFailureCount;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 加载总耗时(纳秒)
+   * @description: Total load time in nanoseconds
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: long 加载总耗时
+   */
+  public long getTotalLoadTime() {
+    return totalLoadTime;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 平均加载耗时(纳秒)
+   * @description: Average load time in nanoseconds
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: double 平均加载耗时
+   */
+  public double getAverageLoadPenalty() {
+    long loadCount = getLoadCount();
+    return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 指定原因的移除次数
+   * @description: Removal count of the specified cause
+   * @time: 2026-10-18 15:02:33
+   * @params: [cause] 移除原因
+   * @return: long 移除次数
+   */
+  public long getRemovalCount(RemovalCause cause) {
+    return removalCounts[cause.ordinal()];
+  }
+
+  /**
+   * @author: Ares
+   * @description: 淘汰次数(过期及超过容量)
+   * @description: Eviction count (expired and exceeding the capacity)
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: long 淘汰次数
+   */
+  public long getEvictionCount() {
+    long evictionCount = 0;
+    for (RemovalCause cause : CAUSES) {
+      if (cause.isEvicted()) {
+        evictionCount += removalCounts[cause.ordinal()];
+      }
+    }
+    return evictionCount;
+  }
+
+  public long getEvictionWeight() {
+    return evictionWeight;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 生成快照时缓存的当前权重(未指定权重计算器时即条目数)
+   * @description: Current weight of the cache when the snapshot was generated (it is the entry
+   * count when no weigher is specified)
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: long 当前权重
+   */
+  public long getWeightedSize() {
+    return weightedSize;
+  }
+
+  public Map<RemovalCause, Long> getRemovalCounts() {
+    Map<RemovalCause, Long> counts = new EnumMap<>(RemovalCause.class);
+    for (RemovalCause cause : CAUSES) {
+      counts.put(cause, removalCounts[cause.ordinal()]);
+    }
+    return counts;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 计算与上一个快照之间的增量，当前权重取本快照的值
+   * @description: Calculate the increment since the previous snapshot, the current weight takes the
+   * value of this snapshot
+   * @time: 2026-10-18 15:02:33
+   * @params: [previous] 上一个快照
+   * @return: cn.ares.boot.util.common.structure.CacheStats
+   */
+  public CacheStats minus(CacheStats previous) {
+    long[] counts = new long[CAUSES.length];
+    for (int i = 0; i < CAUSES.length; i++) {
+      counts[i] = Math.max(0L, removalCounts[i] - previous.removalCounts[i]);
+    }
+    return new CacheStats(Math.max(0L, hitCount - previous.hitCount),
+        Math.max(0L, missCount - previous.missCount),
+        Math.max(0L, loadSuccessCount - previous.loadSuccessCount),
+        Math.max(0L, loadFailureCount - previous.loadFailureCount),
+        Math.max(0L, totalLoadTime - previous.totalLoadTime), counts,
+        Math.max(0L, evictionWeight - previous.evictionWeight), weightedSize);
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStats{" +
+        "hitCount=" + hitCount +
+        ", missCount=" + missCount +
+        ", loadSuccessCount=" + loadSuccessCount +
+        ", loadFailureCount=" + loadFailureCount +
+        ", totalLoadTime=" + totalLoadTime +
+        ", removalCounts=" + getRemovalCounts() +
+        ", evictionWeight=" + evictionWeight +
+        ", weightedSize=" + weightedSize +
+        '}';
+  }
+
+}
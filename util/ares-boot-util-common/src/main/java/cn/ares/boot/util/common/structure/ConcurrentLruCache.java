@@ -0,0 +1,1348 @@
+package cn.ares.boot.util.common.structure;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 13:02:45
+ * @description: 高并发的有界Lru缓存，数据存放在ConcurrentHashMap中，读操作只把访问记录写入分段的有损环形缓冲区，
+ * 写操作把变更写入写缓冲区，由获得淘汰锁的线程批量回放以维护访问顺序并按最大权重淘汰，读操作不需要加锁；
+ * 支持按权重计算容量、写入后过期和访问后过期，过期由分层时间轮驱动而非扫描，容量和过期时间可在运行时调整且不丢弃已缓存的条目
+ * @description: High concurrent bounded lru cache, the data is stored in ConcurrentHashMap, a read
+ * only records the access into striped lossy ring buffers, a write records the change into the write
+ * buffer, the thread which acquires the eviction lock replays them in batch to maintain the access
+ * order and evict by the maximum weight, so reads do not need to lock; supports weighted capacity,
+ * expire after write and expire after access, the expiration is driven by a hierarchical timer wheel
+ * instead of scanning, the capacity and expiry can be changed at runtime without dropping the
+ * resident entries
+ * @version: JDK 1.8
+ */
+public class ConcurrentLruCache<K, V> {
+
+  private static final int DEFAULT_MAX_CAPACITY = 1000;
+  private static final long UNBOUNDED = Long.MAX_VALUE;
+  /**
+   * 最大过期时间(约146年)，避免截止时间溢出
+   * Maximum expiry (about 146 years), avoid overflow of the deadline
+   */
+  private static final long MAXIMUM_EXPIRY_NANOS = Long.MAX_VALUE >> 1;
+  private static final int NCPU = Runtime.getRuntime().availableProcessors();
+  /**
+   * 读缓冲区分段数 Stripe count of read buffers
+   */
+  private static final int READ_BUFFER_STRIPES = ceilingPowerOfTwo(NCPU);
+  private static final int READ_BUFFER_STRIPES_MASK = READ_BUFFER_STRIPES - 1;
+  /**
+   * 每段读缓冲区大小 Size of each read buffer
+   */
+  private static final int READ_BUFFER_SIZE = 64;
+  private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  /**
+   * 读缓冲区积压到该值时尝试回放 Try to replay when the read buffer pending reaches this value
+   */
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+  /**
+   * 写缓冲区积压超过该值时阻塞等待淘汰锁，防止写入速度超过回放速度
+   * Block on the eviction lock when the write buffer pending exceeds this value, prevent writes from
+   * outpacing the replay
+   */
+  private static final int WRITE_BUFFER_MAX = 128 * ceilingPowerOfTwo(NCPU);
+  /**
+   * 每次回放最多淘汰或迁移的节点数，调小容量或修改过期时间后分多次回放逐步完成，不会长时间持有淘汰锁
+   * Maximum nodes evicted or migrated in each replay, shrinking the capacity or changing the expiry
+   * is completed gradually over several replays without holding the eviction lock for long
+   */
+  private static final int MAINTENANCE_BATCH = 1024;
+
+  private static final int IDLE = 0;
+  private static final int REQUIRED = 1;
+  private static final int PROCESSING = 2;
+
+  private final ConcurrentHashMap<K, Node<K, V>> data;
+  private final ReadBuffer<K, V>[] readBuffers;
+  private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger writeBufferPending = new AtomicInteger();
+  private final AtomicInteger drainStatus = new AtomicInteger(IDLE);
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final Consumer<Node<K, V>> accessReplayer = this::onAccess;
+  private final ToIntBiFunction<? super K, ? super V> weigher;
+  private volatile long expireAfterWriteNanos;
+  private volatile long expireAfterAccessNanos;
+  /**
+   * 时间原点，使缓存内的时间始终为非负数 Time origin, keep the time in cache non-negative
+   */
+  private final long originNanos = System.nanoTime();
+  private final StatsCounter statsCounter;
+  private final RemovalListener<K, V> removalListener;
+  /**
+   * 淘汰锁内产生的移除通知，释放锁后回调 Removal notifications generated under the eviction lock,
+   * called back after releasing the lock
+   */
+  private final Queue<Notification<K, V>> pendingNotifications = new ConcurrentLinkedQueue<>();
+  private final TimerWheel timerWheel = new TimerWheel();
+
+  /**
+   * 访问顺序链表，头部最久未访问，由淘汰锁保护
+   * Access order list, the head is the least recently used, guarded by the eviction lock
+   */
+  private Node<K, V> head;
+  private Node<K, V> tail;
+  private long weightedSize;
+  /**
+   * 修改过期时间后按新的截止时间重新调度的游标，为null时没有进行中的迁移，由淘汰锁保护
+   * Cursor to reschedule nodes by the new deadline after changing the expiry, null when no migration
+   * is in progress, guarded by the eviction lock
+   */
+  private Node<K, V> expiryMigrationCursor;
+  private volatile long maximumWeight;
+
+  public ConcurrentLruCache() {
+    this(DEFAULT_MAX_CAPACITY);
+  }
+
+  public ConcurrentLruCache(int maxCapacity) {
+    this(new Builder<K, V>().maximumSize(maxCapacity));
+  }
+
+  @SuppressWarnings("unchecked")
+  private ConcurrentLruCache(Builder<K, V> builder) {
+    this.maximumWeight = builder.maximumWeight;
+    this.weigher = builder.weigher;
+    this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+    this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+    this.statsCounter = builder.recordStats ? new StatsCounter() : StatsCounter.disabled();
+    this.removalListener = builder.removalListener;
+    this.data = new ConcurrentHashMap<>(16);
+    this.readBuffers = (ReadBuffer<K, V>[]) new ReadBuffer<?, ?>[READ_BUFFER_STRIPES];
+    for (int i = 0; i < READ_BUFFER_STRIPES; i++) {
+      readBuffers[i] = new ReadBuffer<>();
+    }
+  }
+
+  public static <K, V> Builder<K, V> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取缓存值，不存在或已过期时返回null
+   * @description: Get cached value, return null if absent or expired
+   * @time: 2026-10-18 13:02:45
+   * @params: [key] 键
+   * @return: V 值
+   */
+  public V get(Object key) {
+    Node<K, V> node = data.get(key);
+    if (null == node) {
+      statsCounter.recordMisses(1);
+      return null;
+    }
+    if (expires()) {
+      long now = now();
+      if (hasExpired(node, now)) {
+        statsCounter.recordMisses(1);
+        scheduleDrain();
+        return null;
+      }
+      touch(node, now);
+    }
+    statsCounter.recordHits(1);
+    afterRead(node);
+    return node.value;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取缓存值，不存在或已过期时使用加载器加载并放入缓存，并发未命中同一个键时只加载一次，
+   * 加载器返回null时不缓存，加载器内不能再操作本缓存
+   * @description: Get cached value, load by the loader and put into cache if absent or expired, the
+   * same key is loaded only once under concurrent misses, nothing is cached when the loader returns
+   * null, the loader must not operate this cache
+   * @time: 2026-10-18 14:10:26
+   * @params: [key, loader] 键，加载器
+   * @return: V 值
+   */
+  public V get(K key, Function<? super K, ? extends V> loader) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(loader);
+    Node<K, V> node = data.get(key);
+    if (null != node) {
+      long now = expires() ? now() : 0L;
+      if (!hasExpired(node, now)) {
+        touch(node, now);
+        statsCounter.recordHits(1);
+        afterRead(node);
+        return node.value;
+      }
+    }
+    return load(key, loader);
+  }
+
+  private V load(K key, Function<? super K, ? extends V> loader) {
+    // 0: 命中 hit, 1: 新增 add, 2: 更新过期节点 update expired node, 3: 移除过期节点 remove expired node
+    int[] outcome = new int[1];
+    Node<K, V>[] expired = newNodeArray();
+    Object[] expiredValue = new Object[1];
+    int[] expiredWeight = new int[1];
+    Node<K, V> computed = data.compute(key, (k, prior) -> {
+      if (null != prior) {
+        long now = expires() ? now() : 0L;
+        if (!hasExpired(prior, now)) {
+          touch(prior, now);
+          statsCounter.recordHits(1);
+          return prior;
+        }
+      }
+      statsCounter.recordMisses(1);
+      V value = loadValue(k, loader);
+      // 写入时间始终记录，运行时开启过期后才能正确计算 The write time is always recorded so that it
+      // is correct after enabling the expiration at runtime
+      long now = now();
+      if (null == prior) {
+        if (null == value) {
+          return null;
+        }
+        outcome[0] = 1;
+        return new Node<>(k, value, weigh(k, value), now);
+      }
+      expired[0] = prior;
+      synchronized (prior) {
+        expiredValue[0] = prior.value;
+        expiredWeight[0] = prior.weight;
+        if (null == value) {
+          prior.retire();
+          outcome[0] = 3;
+          return null;
+        }
+        prior.value = value;
+        prior.weight = weigh(k, value);
+        prior.writeTime = now;
+        prior.accessTime = now;
+      }
+      outcome[0] = 2;
+      return prior;
+    });
+    // 回放可能修改map，必须在compute之外进行
+    // The replay may modify the map, so it must be done outside of compute
+    switch (outcome[0]) {
+      case 1:
+        afterWrite(new AddTask(computed));
+        break;
+      case 2:
+        afterWrite(new UpdateTask(computed));
+        statsCounter.recordRemoval(RemovalCause.EXPIRED, expiredWeight[0]);
+        notifyRemoval(key, expiredValue[0], RemovalCause.EXPIRED);
+        break;
+      case 3:
+        afterWrite(new RemovalTask(expired[0]));
+        statsCounter.recordRemoval(RemovalCause.EXPIRED, expiredWeight[0]);
+        notifyRemoval(key, expiredValue[0], RemovalCause.EXPIRED);
+        break;
+      default:
+        if (null != computed) {
+          afterRead(computed);
+        }
+    }
+    return null == computed ? null : computed.value;
+  }
+
+  private V loadValue(K key, Function<? super K, ? extends V> loader) {
+    long start = System.nanoTime();
+    V value;
+    try {
+      value = loader.apply(key);
+    } catch (RuntimeException | Error e) {
+      statsCounter.recordLoadFailure(System.nanoTime() - start);
+      throw e;
+    }
+    long loadTime = System.nanoTime() - start;
+    if (null == value) {
+      statsCounter.recordLoadFailure(loadTime);
+    } else {
+      statsCounter.recordLoadSuccess(loadTime);
+    }
+    return value;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 放入缓存，返回旧值
+   * @description: Put into cache, return the old value
+   * @time: 2026-10-18 13:02:45
+   * @params: [key, value] 键，值
+   * @return: V 旧值
+   */
+  public V put(K key, V value) {
+    return put(key, value, false);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 不存在时放入缓存，返回已存在的值
+   * @description: Put into cache if absent, return the existing value
+   * @time: 2026-10-18 13:02:45
+   * @params: [key, value] 键，值
+   * @return: V 已存在的值
+   */
+  public V putIfAbsent(K key, V value) {
+    return put(key, value, true);
+  }
+
+  private V put(K key, V value, boolean onlyIfAbsent) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    int weight = weigh(key, value);
+    long now = now();
+    Node<K, V> node = null;
+    for (; ; ) {
+      if (null == node) {
+        node = new Node<>(key, value, weight, now);
+      }
+      Node<K, V> prior = data.putIfAbsent(key, node);
+      if (null == prior) {
+        afterWrite(new AddTask(node));
+        return null;
+      }
+      V oldValue;
+      V priorValue;
+      boolean expired;
+      int oldWeight;
+      synchronized (prior) {
+        // 已退役的节点已从map中移除，重试即可
+        // A retired node has been removed from the map, just retry
+        if (!prior.isAlive()) {
+          continue;
+        }
+        expired = hasExpired(prior, now);
+        priorValue = prior.value;
+        oldValue = expired ? null : priorValue;
+        oldWeight = prior.weight;
+        if (!onlyIfAbsent || expired) {
+          prior.value = value;
+          prior.weight = weight;
+          prior.writeTime = now;
+          prior.accessTime = now;
+        }
+      }
+      if (onlyIfAbsent && !expired) {
+        touch(prior, now);
+        afterRead(prior);
+      } else if (weight != oldWeight || expiresAfterWrite() || expired) {
+        afterWrite(new UpdateTask(prior));
+      } else {
+        afterRead(prior);
+      }
+      if (!onlyIfAbsent || expired) {
+        RemovalCause cause = expired ? RemovalCause.EXPIRED : RemovalCause.REPLACED;
+        statsCounter.recordRemoval(cause, oldWeight);
+        notifyRemoval(key, priorValue, cause);
+      }
+      return oldValue;
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 移除缓存，返回旧值
+   * @description: Remove from cache, return the old value
+   * @time: 2026-10-18 13:02:45
+   * @params: [key] 键
+   * @return: V 旧值
+   */
+  public V remove(Object key) {
+    Node<K, V> node = data.remove(key);
+    if (null == node) {
+      return null;
+    }
+    V value;
+    boolean expired;
+    synchronized (node) {
+      value = node.value;
+      expired = hasExpired(node, expires() ? now() : 0L);
+      node.retire();
+    }
+    afterWrite(new RemovalTask(node));
+    RemovalCause cause = expired ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT;
+    statsCounter.recordRemoval(cause, node.weight);
+    notifyRemoval(node.key, value, cause);
+    return expired ? null : value;
+  }
+
+  public boolean containsKey(Object key) {
+    Node<K, V> node = data.get(key);
+    return null != node && !hasExpired(node, expires() ? now() : 0L);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 缓存条目数(未回放的写入及尚未清理的过期条目可能使其短暂偏大)
+   * @description: Entry count of cache (writes not yet replayed and expired entries not yet cleaned
+   * up may make it larger briefly)
+   * @time: 2026-10-18 13:02:45
+   * @params: []
+   * @return: int 条目数
+   */
+  public int size() {
+    return data.size();
+  }
+
+  public boolean isEmpty() {
+    return data.isEmpty();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 清空缓存，在淘汰锁内移除条目并暂存通知，释放锁之后再回调移除监听器
+   * @description: Clear the cache, remove the entries and hold the notifications within the eviction
+   * lock, call back the removal listener after releasing the lock
+   * @time: 2026-10-18 13:02:45
+   * @params: []
+   * @return: void
+   */
+  public void clear() {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+      long now = expires() ? now() : 0L;
+      for (Node<K, V> node : data.values()) {
+        if (!data.remove(node.key, node)) {
+          continue;
+        }
+        V value;
+        boolean expired;
+        synchronized (node) {
+          value = node.value;
+          expired = hasExpired(node, now);
+          node.retire();
+        }
+        new RemovalTask(node).run();
+        RemovalCause cause = expired ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT;
+        statsCounter.recordRemoval(cause, node.weight);
+        if (null != removalListener) {
+          pendingNotifications.add(new Notification<>(node.key, value, cause));
+        }
+      }
+    } finally {
+      drainStatus.compareAndSet(PROCESSING, IDLE);
+      evictionLock.unlock();
+    }
+    notifyPendingRemovals();
+    if (drainStatus.get() == REQUIRED) {
+      scheduleDrain();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 立即回放缓冲区并执行过期和淘汰
+   * @description: Replay the buffers and perform expiration and eviction immediately
+   * @time: 2026-10-18 13:02:45
+   * @params: []
+   * @return: void
+   */
+  public void cleanUp() {
+    evictionLock.lock();
+    try {
+      drainBuffers();
+    } finally {
+      drainStatus.compareAndSet(PROCESSING, IDLE);
+      evictionLock.unlock();
+    }
+    notifyPendingRemovals();
+    if (drainStatus.get() == REQUIRED) {
+      scheduleDrain();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 最大容量，未指定权重计算器时即最大条目数
+   * @description: Max capacity, it is the maximum entry count when no weigher is specified
+   * @time: 2026-10-18 13:02:45
+   * @params: []
+   * @return: int 最大容量
+   */
+  public int getMaxCapacity() {
+    return (int) Math.min(maximumWeight, Integer.MAX_VALUE);
+  }
+
+  public void setMaxCapacity(int maxCapacity) {
+    setMaximumWeight(maxCapacity);
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  public void setMaximumWeight(long maximumWeight) {
+    if (maximumWeight < 0) {
+      throw new IllegalArgumentException("Maximum weight must not be negative");
+    }
+    this.maximumWeight = maximumWeight;
+    cleanUp();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 写入后过期时间，未开启时为0
+   * @description: Expiry after write, 0 when disabled
+   * @time: 2026-10-18 16:52:08
+   * @params: [unit] 时间单位
+   * @return: long 过期时间
+   */
+  public long getExpireAfterWrite(TimeUnit unit) {
+    return unit.convert(expireAfterWriteNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 运行时修改写入后过期时间，不大于0时关闭，已缓存的条目按新的时间从其写入时刻计算，
+   * 时间轮中的节点在后续回放中分批重新调度
+   * @description: Change the expiry after write at runtime, disabled when not greater than 0, the
+   * resident entries are measured from their write time by the new expiry, nodes in the timer wheel
+   * are rescheduled in batches in subsequent replays
+   * @time: 2026-10-18 16:52:08
+   * @params: [duration, unit] 时长，时间单位
+   * @return: void
+   */
+  public void setExpireAfterWrite(long duration, TimeUnit unit) {
+    evictionLock.lock();
+    try {
+      this.expireAfterWriteNanos = toExpiryNanos(duration, unit);
+      startExpiryMigration();
+    } finally {
+      evictionLock.unlock();
+    }
+    scheduleDrain();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 访问后过期时间，未开启时为0
+   * @description: Expiry after access, 0 when disabled
+   * @time: 2026-10-18 16:52:08
+   * @params: [unit] 时间单位
+   * @return: long 过期时间
+   */
+  public long getExpireAfterAccess(TimeUnit unit) {
+    return unit.convert(expireAfterAccessNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 运行时修改访问后过期时间，不大于0时关闭，未开启期间的读取不会被记录，已缓存的条目从其最后一次写入时刻计算
+   * @description: Change the expiry after access at runtime, disabled when not greater than 0, reads
+   * are not recorded while it is disabled, so the resident entries are measured from their last write
+   * @time: 2026-10-18 16:52:08
+   * @params: [duration, unit] 时长，时间单位
+   * @return: void
+   */
+  public void setExpireAfterAccess(long duration, TimeUnit unit) {
+    evictionLock.lock();
+    try {
+      this.expireAfterAccessNanos = toExpiryNanos(duration, unit);
+      startExpiryMigration();
+    } finally {
+      evictionLock.unlock();
+    }
+    scheduleDrain();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 当前权重(未指定权重计算器时即已回放的条目数)
+   * @description: Current weight (it is the replayed entry count when no weigher is specified)
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: long 当前权重
+   */
+  public long weightedSize() {
+    evictionLock.lock();
+    try {
+      return weightedSize;
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 统计快照，构建时未开启统计则各计数均为0
+   * @description: Statistics snapshot, all counts are 0 if statistics was not enabled when building
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: cn.ares.boot.util.common.structure.CacheStats
+   */
+  public CacheStats stats() {
+    return statsCounter.snapshot(weightedSize());
+  }
+
+  private void onEvicted(Node<K, V> node, RemovalCause cause) {
+    statsCounter.recordRemoval(cause, node.policyWeight);
+    if (null != removalListener) {
+      pendingNotifications.add(new Notification<>(node.key, node.value, cause));
+    }
+  }
+
+  private void notifyPendingRemovals() {
+    if (null == removalListener) {
+      return;
+    }
+    Notification<K, V> notification;
+    while (null != (notification = pendingNotifications.poll())) {
+      notifyRemoval(notification.key, notification.value, notification.cause);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void notifyRemoval(K key, Object value, RemovalCause cause) {
+    if (null == removalListener) {
+      return;
+    }
+    try {
+      removalListener.onRemoval(key, (V) value, cause);
+    } catch (RuntimeException ignored) {
+      // 监听器异常不影响缓存操作 Exceptions of the listener do not affect cache operations
+    }
+  }
+
+  private boolean expires() {
+    return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+  }
+
+  private boolean expiresAfterWrite() {
+    return expireAfterWriteNanos > 0;
+  }
+
+  private boolean expiresAfterAccess() {
+    return expireAfterAccessNanos > 0;
+  }
+
+  private long now() {
+    return System.nanoTime() - originNanos;
+  }
+
+  private int weigh(K key, V value) {
+    if (null == weigher) {
+      return 1;
+    }
+    int weight = weigher.applyAsInt(key, value);
+    if (weight < 0) {
+      throw new IllegalArgumentException("Weight must not be negative");
+    }
+    return weight;
+  }
+
+  private boolean hasExpired(Node<K, V> node, long now) {
+    // 过期时间可能被并发修改，各读取一次 The expiry may be changed concurrently, read each once
+    long afterWrite = expireAfterWriteNanos;
+    long afterAccess = expireAfterAccessNanos;
+    return (afterWrite > 0 && now - node.writeTime >= afterWrite)
+        || (afterAccess > 0 && now - node.accessTime >= afterAccess);
+  }
+
+  private long deadline(Node<K, V> node) {
+    long afterWrite = expireAfterWriteNanos;
+    long afterAccess = expireAfterAccessNanos;
+    long deadline = Long.MAX_VALUE;
+    if (afterWrite > 0) {
+      deadline = node.writeTime + afterWrite;
+    }
+    if (afterAccess > 0) {
+      deadline = Math.min(deadline, node.accessTime + afterAccess);
+    }
+    return deadline;
+  }
+
+  /**
+   * 按当前过期配置调度节点，关闭过期时从时间轮移出，由淘汰锁保护
+   * Schedule the node by the current expiry, deschedule it when the expiration is disabled, guarded
+   * by the eviction lock
+   */
+  private void scheduleByExpiry(Node<K, V> node) {
+    if (expires()) {
+      timerWheel.reschedule(node, deadline(node));
+    } else {
+      timerWheel.deschedule(node);
+    }
+  }
+
+  private void startExpiryMigration() {
+    // 从关闭切换为开启时时间轮的当前时间可能已经很旧 The current time of the timer wheel may be
+    // stale when switching from disabled to enabled
+    timerWheel.advance(now());
+    expiryMigrationCursor = head;
+    drainStatus.set(REQUIRED);
+  }
+
+  private void touch(Node<K, V> node, long now) {
+    if (expiresAfterAccess()) {
+      node.accessTime = now;
+    }
+  }
+
+  private void afterRead(Node<K, V> node) {
+    int index = spread(Thread.currentThread().getId()) & READ_BUFFER_STRIPES_MASK;
+    int pending = readBuffers[index].offer(node);
+    if (pending >= READ_BUFFER_DRAIN_THRESHOLD || drainStatus.get() == REQUIRED) {
+      scheduleDrain();
+    }
+  }
+
+  private void afterWrite(Runnable task) {
+    writeBuffer.add(task);
+    int pending = writeBufferPending.incrementAndGet();
+    drainStatus.set(REQUIRED);
+    if (pending > WRITE_BUFFER_MAX) {
+      cleanUp();
+    } else {
+      scheduleDrain();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 尝试获取淘汰锁回放缓冲区，获取失败说明持有者会在释放后重新检查状态
+   * @description: Try to acquire the eviction lock to replay the buffers, if it fails the holder
+   * will recheck the status after releasing
+   * @time: 2026-10-18 13:02:45
+   * @params: []
+   * @return: void
+   */
+  private void scheduleDrain() {
+    do {
+      if (!evictionLock.tryLock()) {
+        return;
+      }
+      try {
+        drainBuffers();
+      } finally {
+        drainStatus.compareAndSet(PROCESSING, IDLE);
+        evictionLock.unlock();
+      }
+      notifyPendingRemovals();
+    } while (drainStatus.get() == REQUIRED);
+  }
+
+  private void drainBuffers() {
+    drainStatus.set(PROCESSING);
+    for (ReadBuffer<K, V> readBuffer : readBuffers) {
+      readBuffer.drainTo(accessReplayer);
+    }
+    Runnable task;
+    while (null != (task = writeBuffer.poll())) {
+      writeBufferPending.decrementAndGet();
+      task.run();
+    }
+    if (expires()) {
+      timerWheel.advance(now());
+    }
+    migrateExpiry();
+    evict();
+  }
+
+  private void migrateExpiry() {
+    Node<K, V> node = expiryMigrationCursor;
+    for (int i = 0; null != node && i < MAINTENANCE_BATCH; i++) {
+      if (!node.linked) {
+        node = null;
+        break;
+      }
+      scheduleByExpiry(node);
+      node = node.next;
+    }
+    expiryMigrationCursor = node;
+    if (null != node) {
+      drainStatus.set(REQUIRED);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 按最大权重淘汰最久未访问的节点，每次最多淘汰一批，剩余的在后续回放中继续
+   * @description: Evict the least recently used nodes by the maximum weight, at most one batch each
+   * time, the rest continues in subsequent replays
+   * @time: 2026-10-18 16:52:08
+   * @params: []
+   * @return: void
+   */
+  private void evict() {
+    int evicted = 0;
+    while (weightedSize > maximumWeight) {
+      Node<K, V> node = head;
+      if (null == node) {
+        break;
+      }
+      if (evicted++ == MAINTENANCE_BATCH) {
+        drainStatus.set(REQUIRED);
+        break;
+      }
+      removeFromPolicy(node);
+      // 被并发移除的节点由其移除任务标记为死亡
+      // A node removed concurrently is marked dead by its removal task
+      if (data.remove(node.key, node)) {
+        synchronized (node) {
+          node.die();
+        }
+        onEvicted(node, RemovalCause.SIZE);
+      }
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 时间轮到期的节点，已过期则移除，否则(期间被访问或更新)按最新截止时间重新调度
+   * @description: Node due in the timer wheel, remove it if expired, otherwise (accessed or updated
+   * in the meantime) reschedule it by the latest deadline
+   * @time: 2026-10-18 14:10:26
+   * @params: [node, now] 节点，当前时间
+   * @return: void
+   */
+  private void expireOrReschedule(Node<K, V> node, long now) {
+    boolean[] expired = new boolean[1];
+    data.computeIfPresent(node.key, (key, current) -> {
+      if (current != node) {
+        return current;
+      }
+      synchronized (node) {
+        if (hasExpired(node, now)) {
+          node.retire();
+          expired[0] = true;
+          return null;
+        }
+      }
+      return current;
+    });
+    if (expired[0]) {
+      removeFromPolicy(node);
+      synchronized (node) {
+        node.die();
+      }
+      onEvicted(node, RemovalCause.EXPIRED);
+    } else if (node.linked && expires()) {
+      timerWheel.schedule(node, deadline(node));
+    }
+  }
+
+  private void onAccess(Node<K, V> node) {
+    if (!node.linked) {
+      return;
+    }
+    if (node != tail) {
+      unlink(node);
+      linkLast(node);
+    }
+    if (expiresAfterAccess()) {
+      timerWheel.reschedule(node, deadline(node));
+    }
+  }
+
+  private void removeFromPolicy(Node<K, V> node) {
+    if (node.linked) {
+      unlink(node);
+      weightedSize -= node.policyWeight;
+    }
+    // 关闭过期前调度的节点可能仍在时间轮中 A node scheduled before disabling the expiration may
+    // still be in the timer wheel
+    timerWheel.deschedule(node);
+  }
+
+  private void linkLast(Node<K, V> node) {
+    node.prev = tail;
+    node.next = null;
+    if (null == tail) {
+      head = node;
+    } else {
+      tail.next = node;
+    }
+    tail = node;
+    node.linked = true;
+  }
+
+  private void unlink(Node<K, V> node) {
+    Node<K, V> prev = node.prev;
+    Node<K, V> next = node.next;
+    // 游标停在最后一个节点上，被访问移到尾部时仍会被迁移 The cursor stays on the last node, which is
+    // still migrated when moved to the tail by an access
+    if (node == expiryMigrationCursor && null != next) {
+      expiryMigrationCursor = next;
+    }
+    if (null == prev) {
+      head = next;
+    } else {
+      prev.next = next;
+    }
+    if (null == next) {
+      tail = prev;
+    } else {
+      next.prev = prev;
+    }
+    node.prev = null;
+    node.next = null;
+    node.linked = false;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Node<K, V>[] newNodeArray() {
+    return (Node<K, V>[]) new Node<?, ?>[1];
+  }
+
+  private static int spread(long threadId) {
+    int hash = (int) (threadId ^ (threadId >>> 32)) * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static long toExpiryNanos(long duration, TimeUnit unit) {
+    return duration <= 0 ? 0L : Math.min(unit.toNanos(duration), MAXIMUM_EXPIRY_NANOS);
+  }
+
+  private static int ceilingPowerOfTwo(int value) {
+    return 1 << -Integer.numberOfLeadingZeros(Math.max(1, value) - 1);
+  }
+
+  private static long ceilingPowerOfTwo(long value) {
+    return 1L << -Long.numberOfLeadingZeros(Math.max(1L, value) - 1);
+  }
+
+  private final class AddTask implements Runnable {
+
+    private final Node<K, V> node;
+
+    AddTask(Node<K, V> node) {
+      this.node = node;
+    }
+
+    @Override
+    public void run() {
+      // 移除任务可能先于添加任务回放
+      // The removal task may be replayed before the add task
+      if (node.isAlive() && !node.linked) {
+        linkLast(node);
+        node.policyWeight = node.weight;
+        weightedSize += node.policyWeight;
+        if (expires()) {
+          timerWheel.schedule(node, deadline(node));
+        }
+      }
+    }
+  }
+
+  private final class UpdateTask implements Runnable {
+
+    private final Node<K, V> node;
+
+    UpdateTask(Node<K, V> node) {
+      this.node = node;
+    }
+
+    @Override
+    public void run() {
+      // 尚未回放添加任务时由添加任务读取最新权重
+      // The add task reads the latest weight if it has not been replayed yet
+      if (node.linked) {
+        int weight = node.weight;
+        weightedSize += weight - node.policyWeight;
+        node.policyWeight = weight;
+        onAccess(node);
+        scheduleByExpiry(node);
+      }
+    }
+  }
+
+  private final class RemovalTask implements Runnable {
+
+    private final Node<K, V> node;
+
+    RemovalTask(Node<K, V> node) {
+      this.node = node;
+    }
+
+    @Override
+    public void run() {
+      removeFromPolicy(node);
+      synchronized (node) {
+        node.die();
+      }
+    }
+  }
+
+  private static final class Notification<K, V> {
+
+    private final K key;
+    private final V value;
+    private final RemovalCause cause;
+
+    Notification(K key, V value, RemovalCause cause) {
+      this.key = key;
+      this.value = value;
+      this.cause = cause;
+    }
+  }
+
+  private static final class Node<K, V> {
+
+    private static final int ALIVE = 0;
+    private static final int RETIRED = 1;
+    private static final int DEAD = 2;
+
+    private final K key;
+    private volatile V value;
+    private volatile int weight;
+    private volatile long writeTime;
+    private volatile long accessTime;
+    private volatile int state = ALIVE;
+
+    /**
+     * 以下字段由淘汰锁保护 The following fields are guarded by the eviction lock
+     */
+    private Node<K, V> prev;
+    private Node<K, V> next;
+    private boolean linked;
+    private int policyWeight;
+    private Node<K, V> prevInWheel;
+    private Node<K, V> nextInWheel;
+    private long deadline;
+
+    Node(K key, V value, int weight, long now) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+      this.writeTime = now;
+      this.accessTime = now;
+    }
+
+    boolean isAlive() {
+      return state == ALIVE;
+    }
+
+    void retire() {
+      state = RETIRED;
+    }
+
+    void die() {
+      state = DEAD;
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @time: 2026-10-18 14:10:26
+   * @description: 分层时间轮，各层桶的跨度约为1秒、1分钟、1小时、1天和6天，节点按截止时间与当前时间的距离放入对应层，
+   * 时间推进时只处理经过的桶，高层桶中的节点在到期前降级到低层，由淘汰锁保护
+   * @description: Hierarchical timer wheel, the bucket spans of each level are about 1 second, 1
+   * minute, 1 hour, 1 day and 6 days, a node is put into the level by the distance between its
+   * deadline and the current time, only the passed buckets are processed when the time advances,
+   * nodes in higher levels cascade down before due, guarded by the eviction lock
+   * @version: JDK 1.8
+   */
+  private final class TimerWheel {
+
+    private final int[] buckets = {64, 64, 32, 4, 1};
+    private final long[] spans = {
+        ceilingPowerOfTwo(TimeUnit.SECONDS.toNanos(1)),
+        ceilingPowerOfTwo(TimeUnit.MINUTES.toNanos(1)),
+        ceilingPowerOfTwo(TimeUnit.HOURS.toNanos(1)),
+        ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+        4 * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+        4 * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1))
+    };
+    private final long[] shifts = new long[spans.length];
+    private final Node<K, V>[][] wheel;
+    private long nanos;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel() {
+      for (int i = 0; i < spans.length; i++) {
+        shifts[i] = Long.numberOfTrailingZeros(spans[i]);
+      }
+      wheel = (Node<K, V>[][]) new Node<?, ?>[buckets.length][];
+      for (int i = 0; i < buckets.length; i++) {
+        wheel[i] = (Node<K, V>[]) new Node<?, ?>[buckets[i]];
+        for (int j = 0; j < buckets[i]; j++) {
+          Node<K, V> sentinel = new Node<>(null, null, 0, 0L);
+          sentinel.prevInWheel = sentinel;
+          sentinel.nextInWheel = sentinel;
+          wheel[i][j] = sentinel;
+        }
+      }
+      nanos = now();
+    }
+
+    void schedule(Node<K, V> node, long deadline) {
+      node.deadline = deadline;
+      Node<K, V> sentinel = findBucket(Math.max(deadline, nanos));
+      Node<K, V> last = sentinel.prevInWheel;
+      node.prevInWheel = last;
+      node.nextInWheel = sentinel;
+      last.nextInWheel = node;
+      sentinel.prevInWheel = node;
+    }
+
+    void reschedule(Node<K, V> node, long deadline) {
+      deschedule(node);
+      schedule(node, deadline);
+    }
+
+    void deschedule(Node<K, V> node) {
+      if (null != node.nextInWheel) {
+        node.nextInWheel.prevInWheel = node.prevInWheel;
+        node.prevInWheel.nextInWheel = node.nextInWheel;
+        node.nextInWheel = null;
+        node.prevInWheel = null;
+      }
+    }
+
+    /**
+     * @author: Ares
+     * @description: 推进时间轮，处理各层自上次推进以来经过的桶
+     * @description: Advance the timer wheel, process the buckets passed since the last advance in
+     * each level
+     * @time: 2026-10-18 14:10:26
+     * @params: [now] 当前时间
+     * @return: void
+     */
+    void advance(long now) {
+      long previous = nanos;
+      nanos = now;
+      for (int i = 0; i < buckets.length; i++) {
+        long previousTicks = previous >>> shifts[i];
+        long currentTicks = now >>> shifts[i];
+        long delta = currentTicks - previousTicks;
+        if (delta <= 0L) {
+          break;
+        }
+        expire(i, previousTicks, delta);
+      }
+    }
+
+    private void expire(int level, long previousTicks, long delta) {
+      Node<K, V>[] timerWheel = wheel[level];
+      int mask = timerWheel.length - 1;
+      int steps = (int) Math.min(1 + delta, timerWheel.length);
+      int start = (int) (previousTicks & mask);
+      int end = start + steps;
+      for (int i = start; i < end; i++) {
+        Node<K, V> sentinel = timerWheel[i & mask];
+        Node<K, V> node = sentinel.nextInWheel;
+        sentinel.prevInWheel = sentinel;
+        sentinel.nextInWheel = sentinel;
+        while (node != sentinel) {
+          Node<K, V> next = node.nextInWheel;
+          node.prevInWheel = null;
+          node.nextInWheel = null;
+          if (node.deadline > nanos) {
+            schedule(node, node.deadline);
+          } else {
+            expireOrReschedule(node, nanos);
+          }
+          node = next;
+        }
+      }
+    }
+
+    private Node<K, V> findBucket(long time) {
+      long duration = time - nanos;
+      int length = wheel.length - 1;
+      for (int i = 0; i < length; i++) {
+        if (duration < spans[i + 1]) {
+          long ticks = time >>> shifts[i];
+          int index = (int) (ticks & (wheel[i].length - 1));
+          return wheel[i][index];
+        }
+      }
+      return wheel[length][0];
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @time: 2026-10-18 13:02:45
+   * @description: 有损的多生产者单消费者环形缓冲区，满时直接丢弃访问记录
+   * @description: Lossy multiple producer single consumer ring buffer, the access record is dropped
+   * when full
+   * @version: JDK 1.8
+   */
+  private static final class ReadBuffer<K, V> {
+
+    private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(
+        READ_BUFFER_SIZE);
+    private final AtomicLong writeCounter = new AtomicLong();
+    private volatile long readCounter;
+
+    /**
+     * @author: Ares
+     * @description: 记录一次访问，返回积压数量(竞争失败或已满时直接丢弃)
+     * @description: Record an access, return the pending count (dropped when contended or full)
+     * @time: 2026-10-18 13:02:45
+     * @params: [node] 节点
+     * @return: int 积压数量
+     */
+    int offer(Node<K, V> node) {
+      long head = readCounter;
+      long tail = writeCounter.get();
+      long size = tail - head;
+      if (size >= READ_BUFFER_SIZE) {
+        return READ_BUFFER_SIZE;
+      }
+      if (writeCounter.compareAndSet(tail, tail + 1)) {
+        buffer.lazySet((int) (tail & READ_BUFFER_MASK), node);
+        return (int) size + 1;
+      }
+      return (int) size;
+    }
+
+    void drainTo(Consumer<Node<K, V>> consumer) {
+      long head = readCounter;
+      long tail = writeCounter.get();
+      for (; head < tail; head++) {
+        int index = (int) (head & READ_BUFFER_MASK);
+        Node<K, V> node = buffer.get(index);
+        // 生产者已占位但尚未写入，留待下次回放
+        // The producer has claimed the slot but not yet written, leave it to the next replay
+        if (null == node) {
+          break;
+        }
+        buffer.lazySet(index, null);
+        consumer.accept(node);
+      }
+      readCounter = head;
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @time: 2026-10-18 14:10:26
+   * @description: 缓存构建器
+   * @description: Cache builder
+   * @version: JDK 1.8
+   */
+  public static final class Builder<K, V> {
+
+    private long maximumWeight = UNBOUNDED;
+    private ToIntBiFunction<? super K, ? super V> weigher;
+    private long expireAfterWriteNanos;
+    private long expireAfterAccessNanos;
+    private boolean recordStats;
+    private RemovalListener<K, V> removalListener;
+
+    /**
+     * @author: Ares
+     * @description: 最大条目数
+     * @description: Maximum entry count
+     * @time: 2026-10-18 14:10:26
+     * @params: [maximumSize] 最大条目数
+     * @return: cn.ares.boot.util.common.structure.ConcurrentLruCache.Builder<K,V>
+     */
+    public Builder<K, V> maximumSize(long maximumSize) {
+      if (maximumSize < 0) {
+        throw new IllegalArgumentException("Maximum size must not be negative");
+      }
+      this.maximumWeight = maximumSize;
+      return this;
+    }
+
+    /**
+     * @author: Ares
+     * @description: 最大权重，与权重计算器配合使用
+     * @description: Maximum weight, used with the weigher
+     * @time: 2026-10-18 14:10:26
+     * @params: [maximumWeight] 最大权重
+     * @return: cn.ares.boot.util.common.structure.ConcurrentLruCache.Builder<K,V>
+     */
+    public Builder<K, V> maximumWeight(long maximumWeight) {
+      if (maximumWeight < 0) {
+        throw new IllegalArgumentException("Maximum weight must not be negative");
+      }
+      this.maximumWeight = maximumWeight;
+      return this;
+    }
+
+    /**
+     * @author: Ares
+     * @description: 条目权重计算器，权重不能为负数，写入时计算
+     * @description: Entry weigher, the weight must not be negative, calculated on write
+     * @time: 2026-10-18 14:10:26
+     * @params: [weigher] 权重计算器
+     * @return: cn.ares.boot.util.common.structure.ConcurrentLruCache.Builder<K,V>
+     */
+    public Builder<K, V> weigher(ToIntBiFunction<? super K, ? super V> weigher) {
+      this.weigher = Objects.requireNonNull(weigher);
+      return this;
+    }
+
+    /**
+     * @author: Ares
+     * @description: 写入(创建或替换)后经过指定时间过期
+     * @description: Expire after the specified time since written (created or replaced)
+     * @time: 2026-10-18 14:10:26
+     * @params: [duration, unit] 时长，时间单位
+     * @return: cn.ares.boot.util.common.structure.ConcurrentLruCache.Builder<K,V>
+     */
+    public Builder<K, V> expireAfterWrite(long duration, TimeUnit unit) {
+      this.expireAfterWriteNanos = checkExpiryNanos(duration, unit);
+      return this;
+    }
+
+    /**
+     * @author: Ares
+     * @description: 最后一次读写后经过指定时间过期
+     * @description: Expire after the specified time since the last read or write
+     * @time: 2026-10-18 14:10:26
+     * @params: [duration, unit] 时长，时间单位
+     * @return: cn.ares.boot.util.common.structure.ConcurrentLruCache.Builder<K,V>
+     */
+    public Builder<K, V> expireAfterAccess(long duration, TimeUnit unit) {
+      this.expireAfterAccessNanos = checkExpiryNanos(duration, unit);
+      return this;
+    }
+
+    /**
+     * @author: Ares
+     * @description: 开启统计
+     * @description: Enable statistics
+     * @time: 2026-10-18 15:02:33
+     * @params: []
+     * @return: cn.ares.boot.util.common.structure.ConcurrentLruCache.Builder<K,V>
+     */
+    public Builder<K, V> recordStats() {
+      this.recordStats = true;
+      return this;
+    }
+
+    /**
+     * @author: Ares
+     * @description: 条目移除监听器
+     * @description: Removal listener of entries
+     * @time: 2026-10-18 15:02:33
+     * @params: [removalListener] 移除监听器
+     * @return: cn.ares.boot.util.common.structure.ConcurrentLruCache.Builder<K,V>
+     */
+    public Builder<K, V> removalListener(RemovalListener<K, V> removalListener) {
+      this.removalListener = Objects.requireNonNull(removalListener);
+      return this;
+    }
+
+    public ConcurrentLruCache<K, V> build() {
+      return new ConcurrentLruCache<>(this);
+    }
+
+    private static long checkExpiryNanos(long duration, TimeUnit unit) {
+      if (duration <= 0) {
+        throw new IllegalArgumentException("Expiry duration must be greater than 0");
+      }
+      return toExpiryNanos(duration, unit);
+    }
+  }
+
+}
@@ -0,0 +1,104 @@
+package cn.ares.boot.util.common.structure;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 17:45:10
+ * @description: 直方图快照，不可变，可周期性导出并通过minus计算区间增量(区间快照的最大值为累计最大值)
+ * @description: Immutable snapshot of histogram, can be exported periodically and the increment of
+ * an interval can be calculated by minus (the max of an interval snapshot is the cumulative max)
+ * @version: JDK 1.8
+ */
+public final class HistogramSnapshot {
+
+  private final long[] counts;
+  private final long count;
+  private final long sum;
+  private final long max;
+
+  HistogramSnapshot(long[] counts, long sum, long max) {
+    this.counts = counts;
+    long total = 0;
+    for (long bucketCount : counts) {
+      total += bucketCount;
+    }
+    this.count = total;
+    this.sum = sum;
+    this.max = max;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getSum() {
+    return sum;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 平均值，没有记录时为0
+   * @description: Mean value, 0 if there is no record
+   * @time: 2026-10-18 17:45:10
+   * @params: []
+   * @return: double 平均值
+   */
+  public double getMean() {
+    return count == 0 ? 0.0 : (double) sum / count;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 指定百分位的值(所在桶可表示的最大值，不超过最大值)，没有记录时为0
+   * @description: Value at the specified percentile (the highest value of its bucket, not exceeding
+   * the max), 0 if there is no record
+   * @time: 2026-10-18 17:45:10
+   * @params: [percentile] 百分位，取值0到100
+   * @return: long 值
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0.0 || percentile > 100.0) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    if (count == 0) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(LogLinearHistogram.highestValue(i), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 与更早的快照之差，即两次快照之间的区间统计
+   * @description: Difference from an earlier snapshot, that is the statistics of the interval
+   * between the two snapshots
+   * @time: 2026-10-18 17:45:10
+   * @params: [other] 更早的快照
+   * @return: cn.ares.boot.util.common.structure.HistogramSnapshot
+   */
+  public HistogramSnapshot minus(HistogramSnapshot other) {
+    long[] difference = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      difference[i] = Math.max(0L, counts[i] - other.counts[i]);
+    }
+    return new HistogramSnapshot(difference, Math.max(0L, sum - other.sum), max);
+  }
+
+  @Override
+  public String toString() {
+    return "HistogramSnapshot{count=" + count + ", mean=" + (long) getMean() + ", p50="
+        + getValueAtPercentile(50) + ", p90=" + getValueAtPercentile(90) + ", p99="
+        + getValueAtPercentile(99) + ", p999=" + getValueAtPercentile(99.9) + ", max=" + max + '}';
+  }
+
+}
@@ -0,0 +1,93 @@
+package cn.ares.boot.util.common.structure;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 17:45:10
+ * @description: 对数线性直方图(HDR风格)，每个2的幂区间再线性划分为32个子桶，相对误差约3%，
+ * 记录只是一次无锁的原子累加，内存固定不随记录数增长，适合高频记录耗时等非负值
+ * @description: Log linear histogram (HDR style), each power of two range is linearly divided into
+ * 32 sub buckets with a relative error of about 3%, recording is just a lock free atomic increment
+ * and the memory is fixed regardless of the record count, suitable for recording non-negative values
+ * such as latencies at high frequency
+ * @version: JDK 1.8
+ */
+public final class LogLinearHistogram {
+
+  /**
+   * 子桶位数 Sub bucket bits
+   */
+  static final int SUB_BUCKET_BITS = 5;
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  /**
+   * 正的long最高位为62，需要(62 - 5 + 2)组子桶
+   * The highest bit of a positive long is 62, (62 - 5 + 2) groups of sub buckets are needed
+   */
+  static final int BUCKET_COUNT = (Long.SIZE - 1 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * @author: Ares
+   * @description: 记录一个值，负数按0记录
+   * @description: Record a value, negative values are recorded as 0
+   * @time: 2026-10-18 17:45:10
+   * @params: [value] 值
+   * @return: void
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    counts.incrementAndGet(bucketIndex(value));
+    sum.add(value);
+    long currentMax;
+    while (value > (currentMax = max.get())) {
+      if (max.compareAndSet(currentMax, value)) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 当前累计的快照，与并发记录之间不保证原子性
+   * @description: Snapshot of the current accumulation, not atomic with concurrent records
+   * @time: 2026-10-18 17:45:10
+   * @params: []
+   * @return: cn.ares.boot.util.common.structure.HistogramSnapshot
+   */
+  public HistogramSnapshot snapshot() {
+    long[] snapshotCounts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshotCounts[i] = counts.get(i);
+    }
+    return new HistogramSnapshot(snapshotCounts, sum.sum(), max.get());
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  /**
+   * 桶内可表示的最大值 The highest value represented by the bucket
+   */
+  static long highestValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = (index >>> SUB_BUCKET_BITS) - 1;
+    long mantissa = (index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+    return ((mantissa + 1) << shift) - 1;
+  }
+
+}
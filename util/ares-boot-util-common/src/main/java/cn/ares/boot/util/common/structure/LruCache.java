@@ -1,7 +1,9 @@
 package cn.ares.boot.util.common.structure;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.concurrent.locks.Lock;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -16,8 +18,15 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
 
   private static final float DEFAULT_LOAD_FACTOR = 0.75f;
   private static final int DEFAULT_MAX_CAPACITY = 1000;
-  private final Lock lock = new ReentrantLock();
+  private final ReentrantLock lock = new ReentrantLock();
   private volatile int maxCapacity;
+  private final StatsCounter statsCounter = new StatsCounter();
+  private transient volatile RemovalListener<K, V> removalListener;
+  /**
+   * 锁内产生的移除通知，释放锁后回调 Removal notifications produced within the lock, called back after
+   * releasing the lock
+   */
+  private transient List<Removal<K, V>> pendingRemovals;
 
   public LruCache() {
     this(DEFAULT_MAX_CAPACITY);
@@ -30,7 +39,16 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
 
   @Override
   protected boolean removeEldestEntry(java.util.Map.Entry<K, V> eldest) {
-    return size() > maxCapacity;
+    boolean evict = size() > maxCapacity;
+    if (evict) {
+      if (lock.isHeldByCurrentThread()) {
+        deferRemoval(eldest.getKey(), eldest.getValue(), RemovalCause.SIZE);
+      } else {
+        statsCounter.recordRemoval(RemovalCause.SIZE, 1);
+        notifyRemoval(eldest.getKey(), eldest.getValue(), RemovalCause.SIZE);
+      }
+    }
+    return evict;
   }
 
   @Override
@@ -47,7 +65,13 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
   public V get(Object key) {
     lock.lock();
     try {
-      return super.get(key);
+      V value = super.get(key);
+      if (null == value) {
+        statsCounter.recordMisses(1);
+      } else {
+        statsCounter.recordHits(1);
+      }
+      return value;
     } finally {
       lock.unlock();
     }
@@ -55,22 +79,39 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
 
   @Override
   public V put(K key, V value) {
+    V oldValue;
+    List<Removal<K, V>> removals;
     lock.lock();
     try {
-      return super.put(key, value);
+      oldValue = super.put(key, value);
+      if (null != oldValue) {
+        deferRemoval(key, oldValue, RemovalCause.REPLACED);
+      }
     } finally {
+      removals = drainRemovals();
       lock.unlock();
     }
+    notifyRemovals(removals);
+    return oldValue;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public V remove(Object key) {
+    V oldValue;
+    List<Removal<K, V>> removals;
     lock.lock();
     try {
-      return super.remove(key);
+      oldValue = super.remove(key);
+      if (null != oldValue) {
+        deferRemoval((K) key, oldValue, RemovalCause.EXPLICIT);
+      }
     } finally {
+      removals = drainRemovals();
       lock.unlock();
     }
+    notifyRemovals(removals);
+    return oldValue;
   }
 
   @Override
@@ -85,12 +126,18 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
 
   @Override
   public void clear() {
+    List<Removal<K, V>> removals;
     lock.lock();
     try {
+      for (Entry<K, V> entry : entrySet()) {
+        deferRemoval(entry.getKey(), entry.getValue(), RemovalCause.EXPLICIT);
+      }
       super.clear();
     } finally {
+      removals = drainRemovals();
       lock.unlock();
     }
+    notifyRemovals(removals);
   }
 
   public int getMaxCapacity() {
@@ -101,4 +148,82 @@ public class LruCache<K, V> extends LinkedHashMap<K, V> {
     this.maxCapacity = maxCapacity;
   }
 
+  /**
+   * @author: Ares
+   * @description: 统计快照，可周期性导出
+   * @description: Statistics snapshot, can be exported periodically
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: cn.ares.boot.util.common.structure.CacheStats
+   */
+  public CacheStats stats() {
+    return statsCounter.snapshot(size());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 设置移除监听器，在释放锁之后回调
+   * @description: Set the removal listener, called back after releasing the lock
+   * @time: 2026-10-18 15:02:33
+   * @params: [removalListener] 移除监听器
+   * @return: void
+   */
+  public void setRemovalListener(RemovalListener<K, V> removalListener) {
+    this.removalListener = removalListener;
+  }
+
+  /**
+   * 在锁内记录移除统计并暂存通知 Record the removal statistics and hold the notification within the lock
+   */
+  private void deferRemoval(K key, V value, RemovalCause cause) {
+    statsCounter.recordRemoval(cause, 1);
+    if (null == removalListener) {
+      return;
+    }
+    if (null == pendingRemovals) {
+      pendingRemovals = new ArrayList<>();
+    }
+    pendingRemovals.add(new Removal<>(key, value, cause));
+  }
+
+  private List<Removal<K, V>> drainRemovals() {
+    List<Removal<K, V>> removals = pendingRemovals;
+    pendingRemovals = null;
+    return removals;
+  }
+
+  private void notifyRemovals(List<Removal<K, V>> removals) {
+    if (null == removals) {
+      return;
+    }
+    for (Removal<K, V> removal : removals) {
+      notifyRemoval(removal.key, removal.value, removal.cause);
+    }
+  }
+
+  private void notifyRemoval(K key, V value, RemovalCause cause) {
+    RemovalListener<K, V> listener = removalListener;
+    if (null == listener) {
+      return;
+    }
+    try {
+      listener.onRemoval(key, value, cause);
+    } catch (RuntimeException ignored) {
+      // 监听器异常不影响缓存操作 Exceptions of the listener do not affect cache operations
+    }
+  }
+
+  private static final class Removal<K, V> {
+
+    private final K key;
+    private final V value;
+    private final RemovalCause cause;
+
+    private Removal(K key, V value, RemovalCause cause) {
+      this.key = key;
+      this.value = value;
+      this.cause = cause;
+    }
+  }
+
 }
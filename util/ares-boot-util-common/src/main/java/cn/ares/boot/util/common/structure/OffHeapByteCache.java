@@ -0,0 +1,595 @@
+package cn.ares.boot.util.common.structure;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 15:48:20
+ * @description: 堆外字节缓存，值按大小分级存放在slab分配的直接内存页中，堆内只保留紧凑的索引(键、页、槽位和长度)，
+ * 按总字节数淘汰最久未使用的条目，适合缓存大量数KB的序列化值以减少老年代增长和GC停顿
+ * @description: Off heap byte cache, values are stored by size class in slab allocated direct
+ * memory pages, only a compact index (key, page, slot and length) is kept on heap, the least
+ * recently used entries are evicted by total bytes, suitable for caching lots of serialized values of
+ * several KB to reduce old generation growth and GC pauses
+ * @version: JDK 1.8
+ */
+public class OffHeapByteCache<K> {
+
+  /**
+   * 默认页大小，也是可缓存的最大值长度 Default page size, also the max length of a cacheable value
+   */
+  private static final int DEFAULT_PAGE_SIZE = 1 << 20;
+  private static final int MIN_SLOT_SIZE = 64;
+  /**
+   * 槽位大小的增长因子，越小内部碎片越少但分级越多
+   * Growth factor of slot size, the smaller the less internal fragmentation but the more classes
+   */
+  private static final double SLOT_GROWTH_FACTOR = 1.25;
+  private static final int SLOT_ALIGNMENT = 8;
+  private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+  private final Segment<K>[] segments;
+  private final int segmentMask;
+  private final int[] slotSizes;
+  private final int pageSize;
+  private final long capacity;
+  private final StatsCounter statsCounter = new StatsCounter();
+
+  public OffHeapByteCache(long capacity) {
+    this(capacity, DEFAULT_PAGE_SIZE, NCPU);
+  }
+
+  /**
+   * Constructor 构造函数
+   *
+   * @param capacity     总容量(字节)，按段均分 Total capacity in bytes, divided equally by segments
+   * @param pageSize     页大小(字节)，也是可缓存的最大值长度 Page size in bytes, also the max length of a
+   *                     cacheable value
+   * @param segmentCount 段数，各段独立加锁，会向上取整为2的幂且保证每段至少一页 Segment count, each
+   *                     segment is locked independently, rounded up to a power of two and each segment
+   *                     has one page at least
+   */
+  @SuppressWarnings("unchecked")
+  public OffHeapByteCache(long capacity, int pageSize, int segmentCount) {
+    if (pageSize < MIN_SLOT_SIZE) {
+      throw new IllegalArgumentException("Page size must not be less than " + MIN_SLOT_SIZE);
+    }
+    if (capacity < pageSize) {
+      throw new IllegalArgumentException("Capacity must not be less than the page size");
+    }
+    this.pageSize = pageSize;
+    this.slotSizes = slotSizes(pageSize);
+    long totalPages = capacity / pageSize;
+    int count = 1;
+    while (count < segmentCount && (count << 1) <= totalPages) {
+      count <<= 1;
+    }
+    this.segments = (Segment<K>[]) new Segment<?>[count];
+    this.segmentMask = count - 1;
+    int segmentPages = (int) Math.min(Integer.MAX_VALUE, totalPages / count);
+    this.capacity = (long) segmentPages * count * pageSize;
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment<>(this, segmentPages);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 放入缓存，值会被复制到堆外，超过页大小的值不缓存
+   * @description: Put into cache, the value is copied to off heap, a value larger than the page size
+   * is not cached
+   * @time: 2026-10-18 15:48:20
+   * @params: [key, value] 键，值
+   * @return: boolean 是否缓存成功
+   */
+  public boolean put(K key, byte[] value) {
+    Objects.requireNonNull(value);
+    return put(key, ByteBuffer.wrap(value));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 放入缓存，复制value中position到limit之间的字节(不改变value的position)，超过页大小的值不缓存
+   * @description: Put into cache, copy the bytes between position and limit of the value (the
+   * position of value is not changed), a value larger than the page size is not cached
+   * @time: 2026-10-18 15:48:20
+   * @params: [key, value] 键，值
+   * @return: boolean 是否缓存成功
+   */
+  public boolean put(K key, ByteBuffer value) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    if (value.remaining() > pageSize) {
+      remove(key);
+      return false;
+    }
+    return segmentFor(key).put(key, value);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取值的堆内拷贝，拷贝不受后续的移除、替换或淘汰影响，需要零拷贝时请使用read
+   * @description: Get an on heap copy of the value, the copy is not affected by later removal,
+   * replacement or eviction, use read if zero copy is needed
+   * @time: 2026-10-18 15:48:20
+   * @params: [key] 键
+   * @return: java.nio.ByteBuffer 值的拷贝
+   */
+  public ByteBuffer get(Object key) {
+    byte[] bytes = getBytes(key);
+    return null == bytes ? null : ByteBuffer.wrap(bytes);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 在段锁内以只读零拷贝视图读取值，读取期间视图保证有效，读取函数应尽量简短且不能再操作本缓存
+   * @description: Read the value by a read only zero copy view within the segment lock, the view is
+   * guaranteed to be valid during reading, the reader should be short and must not operate this
+   * cache
+   * @time: 2026-10-18 15:48:20
+   * @params: [key, reader] 键，读取函数
+   * @return: R 读取结果，不存在时为null
+   */
+  public <R> R read(Object key, Function<ByteBuffer, ? extends R> reader) {
+    Objects.requireNonNull(key);
+    return segmentFor(key).read(key, reader);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取值的堆内拷贝
+   * @description: Get an on heap copy of the value
+   * @time: 2026-10-18 15:48:20
+   * @params: [key] 键
+   * @return: byte[] 值
+   */
+  public byte[] getBytes(Object key) {
+    return read(key, view -> {
+      byte[] bytes = new byte[view.remaining()];
+      view.get(bytes);
+      return bytes;
+    });
+  }
+
+  public boolean containsKey(Object key) {
+    Objects.requireNonNull(key);
+    return segmentFor(key).containsKey(key);
+  }
+
+  public boolean remove(Object key) {
+    Objects.requireNonNull(key);
+    return segmentFor(key).remove(key);
+  }
+
+  public void clear() {
+    for (Segment<K> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (Segment<K> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 缓存值的总字节数
+   * @description: Total bytes of cached values
+   * @time: 2026-10-18 15:48:20
+   * @params: []
+   * @return: long 字节数
+   */
+  public long usedBytes() {
+    long usedBytes = 0;
+    for (Segment<K> segment : segments) {
+      usedBytes += segment.usedBytes();
+    }
+    return usedBytes;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 已分配的直接内存字节数，分配后的页会被复用而不会归还
+   * @description: Bytes of allocated direct memory, allocated pages are reused rather than returned
+   * @time: 2026-10-18 15:48:20
+   * @params: []
+   * @return: long 字节数
+   */
+  public long allocatedBytes() {
+    long allocatedBytes = 0;
+    for (Segment<K> segment : segments) {
+      allocatedBytes += segment.allocatedBytes();
+    }
+    return allocatedBytes;
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 统计快照，当前权重为缓存值的总字节数
+   * @description: Statistics snapshot, the current weight is the total bytes of cached values
+   * @time: 2026-10-18 15:48:20
+   * @params: []
+   * @return: cn.ares.boot.util.common.structure.CacheStats
+   */
+  public CacheStats stats() {
+    return statsCounter.snapshot(usedBytes());
+  }
+
+  private Segment<K> segmentFor(Object key) {
+    int hash = key.hashCode() * 0x9E3779B9;
+    return segments[(hash ^ (hash >>> 16)) & segmentMask];
+  }
+
+  private int slotClassOf(int length) {
+    int low = 0;
+    int high = slotSizes.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (slotSizes[mid] < length) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static int[] slotSizes(int pageSize) {
+    List<Integer> sizes = new ArrayList<>();
+    int size = MIN_SLOT_SIZE;
+    while (size < pageSize) {
+      sizes.add(size);
+      int next = (int) Math.ceil(size * SLOT_GROWTH_FACTOR);
+      size = (next + SLOT_ALIGNMENT - 1) & -SLOT_ALIGNMENT;
+    }
+    sizes.add(pageSize);
+    int[] slotSizes = new int[sizes.size()];
+    for (int i = 0; i < slotSizes.length; i++) {
+      slotSizes[i] = sizes.get(i);
+    }
+    return slotSizes;
+  }
+
+  /**
+   * @author: Ares
+   * @time: 2026-10-18 15:48:20
+   * @description: 缓存段，独立持有页、分级和索引，所有操作在段锁内进行
+   * @description: Cache segment, owns pages, size classes and index independently, all operations
+   * are performed within the segment lock
+   * @version: JDK 1.8
+   */
+  private static final class Segment<K> {
+
+    private final OffHeapByteCache<K> cache;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HashMap<K, Entry<K>> index = new HashMap<>();
+    private final SlabClass<K>[] classes;
+    private final ArrayDeque<Page> freePages = new ArrayDeque<>();
+    private final int maxPages;
+    private int allocatedPages;
+    private long usedBytes;
+
+    @SuppressWarnings("unchecked")
+    Segment(OffHeapByteCache<K> cache, int maxPages) {
+      this.cache = cache;
+      this.maxPages = maxPages;
+      this.classes = (SlabClass<K>[]) new SlabClass<?>[cache.slotSizes.length];
+      for (int i = 0; i < classes.length; i++) {
+        classes[i] = new SlabClass<>(i, cache.slotSizes[i]);
+      }
+    }
+
+    boolean put(K key, ByteBuffer value) {
+      int length = value.remaining();
+      int classIndex = cache.slotClassOf(length);
+      lock.lock();
+      try {
+        Entry<K> prior = index.remove(key);
+        if (null != prior) {
+          release(prior);
+          cache.statsCounter.recordRemoval(RemovalCause.REPLACED, prior.length);
+        }
+        SlabClass<K> slabClass = classes[classIndex];
+        Entry<K> entry = allocate(key, slabClass, length);
+        if (null == entry) {
+          return false;
+        }
+        ByteBuffer target = entry.page.buffer.duplicate();
+        target.position(entry.offset());
+        target.put(value.duplicate());
+        index.put(key, entry);
+        slabClass.linkLast(entry);
+        usedBytes += length;
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    <R> R read(Object key, Function<ByteBuffer, ? extends R> reader) {
+      lock.lock();
+      try {
+        Entry<K> entry = index.get(key);
+        if (null == entry) {
+          cache.statsCounter.recordMisses(1);
+          return null;
+        }
+        cache.statsCounter.recordHits(1);
+        classes[entry.page.classIndex].moveToLast(entry);
+        ByteBuffer view = entry.page.buffer.duplicate();
+        int offset = entry.offset();
+        view.limit(offset + entry.length).position(offset);
+        return reader.apply(view.slice().asReadOnlyBuffer());
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    boolean containsKey(Object key) {
+      lock.lock();
+      try {
+        return index.containsKey(key);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    boolean remove(Object key) {
+      lock.lock();
+      try {
+        Entry<K> entry = index.remove(key);
+        if (null == entry) {
+          return false;
+        }
+        release(entry);
+        cache.statsCounter.recordRemoval(RemovalCause.EXPLICIT, entry.length);
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void clear() {
+      lock.lock();
+      try {
+        for (Entry<K> entry : index.values()) {
+          release(entry);
+        }
+        index.clear();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    int size() {
+      lock.lock();
+      try {
+        return index.size();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    long usedBytes() {
+      lock.lock();
+      try {
+        return usedBytes;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    long allocatedBytes() {
+      lock.lock();
+      try {
+        return (long) allocatedPages * cache.pageSize;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * @author: Ares
+     * @description: 在指定分级分配槽位，依次尝试该分级的空闲槽位、空闲页和新页，都不可用时淘汰最久未使用的条目后重试，
+     * 该分级没有条目时从占用页最多的分级淘汰以腾出整页
+     * @description: Allocate a slot in the specified class, try the free slots of the class, free
+     * pages and a new page in turn, evict the least recently used entry and retry when none is
+     * available, evict from the class holding the most pages to free a whole page when the class has
+     * no entries
+     * @time: 2026-10-18 15:48:20
+     * @params: [key, slabClass, length] 键，分级，值长度
+     * @return: cn.ares.boot.util.common.structure.OffHeapByteCache.Entry<K>
+     */
+    private Entry<K> allocate(K key, SlabClass<K> slabClass, int length) {
+      for (; ; ) {
+        Page page = slabClass.partialPages.peekFirst();
+        if (null != page) {
+          int slot = page.freeSlots[--page.freeCount];
+          page.used++;
+          if (page.freeCount == 0) {
+            slabClass.partialPages.pollFirst();
+            page.partial = false;
+          }
+          return new Entry<>(key, page, slot, length);
+        }
+        page = freePages.pollFirst();
+        if (null == page && allocatedPages < maxPages) {
+          page = new Page(ByteBuffer.allocateDirect(cache.pageSize));
+          allocatedPages++;
+        }
+        if (null != page) {
+          page.assign(slabClass.index, slabClass.slotSize, cache.pageSize);
+          slabClass.pages++;
+          slabClass.partialPages.addFirst(page);
+          page.partial = true;
+          continue;
+        }
+        SlabClass<K> victimClass = null != slabClass.head ? slabClass : largestClass();
+        if (null == victimClass) {
+          return null;
+        }
+        Entry<K> victim = victimClass.head;
+        index.remove(victim.key);
+        release(victim);
+        cache.statsCounter.recordRemoval(RemovalCause.SIZE, victim.length);
+      }
+    }
+
+    private SlabClass<K> largestClass() {
+      SlabClass<K> largest = null;
+      for (SlabClass<K> slabClass : classes) {
+        if (null != slabClass.head && (null == largest || slabClass.pages > largest.pages)) {
+          largest = slabClass;
+        }
+      }
+      return largest;
+    }
+
+    private void release(Entry<K> entry) {
+      Page page = entry.page;
+      SlabClass<K> slabClass = classes[page.classIndex];
+      slabClass.unlink(entry);
+      usedBytes -= entry.length;
+      page.freeSlots[page.freeCount++] = entry.slot;
+      page.used--;
+      if (page.used == 0) {
+        // 整页空闲时归还给段，可被其它分级复用
+        // Return the whole page to the segment when it is free, it can be reused by other classes
+        if (page.partial) {
+          slabClass.partialPages.remove(page);
+          page.partial = false;
+        }
+        slabClass.pages--;
+        freePages.addLast(page);
+      } else if (!page.partial) {
+        slabClass.partialPages.addLast(page);
+        page.partial = true;
+      }
+    }
+  }
+
+  private static final class SlabClass<K> {
+
+    private final int index;
+    private final int slotSize;
+    private final ArrayDeque<Page> partialPages = new ArrayDeque<>();
+    private int pages;
+    /**
+     * 该分级的访问顺序链表，头部最久未使用 Access order list of the class, the head is the least
+     * recently used
+     */
+    private Entry<K> head;
+    private Entry<K> tail;
+
+    SlabClass(int index, int slotSize) {
+      this.index = index;
+      this.slotSize = slotSize;
+    }
+
+    void linkLast(Entry<K> entry) {
+      entry.prev = tail;
+      entry.next = null;
+      if (null == tail) {
+        head = entry;
+      } else {
+        tail.next = entry;
+      }
+      tail = entry;
+    }
+
+    void unlink(Entry<K> entry) {
+      Entry<K> prev = entry.prev;
+      Entry<K> next = entry.next;
+      if (null == prev) {
+        head = next;
+      } else {
+        prev.next = next;
+      }
+      if (null == next) {
+        tail = prev;
+      } else {
+        next.prev = prev;
+      }
+      entry.prev = null;
+      entry.next = null;
+    }
+
+    void moveToLast(Entry<K> entry) {
+      if (entry != tail) {
+        unlink(entry);
+        linkLast(entry);
+      }
+    }
+  }
+
+  private static final class Page {
+
+    private final ByteBuffer buffer;
+    private int classIndex;
+    private int slotSize;
+    private int[] freeSlots;
+    private int freeCount;
+    private int used;
+    private boolean partial;
+
+    Page(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    void assign(int classIndex, int slotSize, int pageSize) {
+      this.classIndex = classIndex;
+      this.slotSize = slotSize;
+      int slotCount = pageSize / slotSize;
+      if (null == freeSlots || freeSlots.length < slotCount) {
+        freeSlots = new int[slotCount];
+      }
+      // 倒序压栈使槽位按地址顺序分配 Push in reverse so that slots are allocated in address order
+      for (int i = 0; i < slotCount; i++) {
+        freeSlots[i] = slotCount - 1 - i;
+      }
+      freeCount = slotCount;
+      used = 0;
+    }
+  }
+
+  private static final class Entry<K> {
+
+    private final K key;
+    private final Page page;
+    private final int slot;
+    private final int length;
+    private Entry<K> prev;
+    private Entry<K> next;
+
+    Entry(K key, Page page, int slot, int length) {
+      this.key = key;
+      this.page = page;
+      this.slot = slot;
+      this.length = length;
+    }
+
+    int offset() {
+      return slot * page.slotSize;
+    }
+  }
+
+}
@@ -0,0 +1,420 @@
+package cn.ares.boot.util.common.structure;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 18:55:17
+ * @description: 不可变的持久化哈希映射(哈希数组映射前缀树)，每次修改只复制从根到被修改节点的路径(每层最多32个槽)，
+ * 未修改的部分在新旧版本之间共享，因此可以无锁地在线程之间传递而无需防御性复制；值不能为null，键可以为null
+ * @description: Immutable persistent hash map (hash array mapped trie), each modification only
+ * copies the path from the root to the modified node (at most 32 slots per level), the unmodified
+ * parts are shared between the old and new versions, so it can be passed between threads without
+ * locks or defensive copies; values must not be null, keys may be null
+ * @version: JDK 1.8
+ */
+public final class PersistentHashMap<K, V> {
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  /**
+   * 32位哈希在该层之后已全部用完 The 32 bit hash has been used up after this level
+   */
+  private static final int MAX_SHIFT = 30;
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+  private final BitmapNode root;
+  private final int size;
+
+  private PersistentHashMap(BitmapNode root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    if (null == root) {
+      return null;
+    }
+    int hash = hash(key);
+    Object node = root;
+    for (int shift = 0; ; shift += BITS) {
+      if (node instanceof BitmapNode) {
+        BitmapNode bitmapNode = (BitmapNode) node;
+        int bit = bit(hash, shift);
+        if ((bitmapNode.bitmap & bit) == 0) {
+          return null;
+        }
+        node = bitmapNode.slots[bitmapNode.index(bit)];
+      } else if (node instanceof Entry) {
+        Entry entry = (Entry) node;
+        return entry.hash == hash && Objects.equals(entry.key, key) ? (V) entry.value : null;
+      } else {
+        Entry entry = ((CollisionNode) node).find(key);
+        return null == entry ? null : (V) entry.value;
+      }
+    }
+  }
+
+  public boolean containsKey(Object key) {
+    return null != get(key);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 返回放入键值后的新映射，值与原值相同(同一对象)时返回自身
+   * @description: Return a new map with the key value put, return itself when the value is the same
+   * object as the original value
+   * @time: 2026-10-18 18:55:17
+   * @params: [key, value] 键，值
+   * @return: cn.ares.boot.util.common.structure.PersistentHashMap<K,V>
+   */
+  public PersistentHashMap<K, V> with(K key, V value) {
+    Objects.requireNonNull(value);
+    Entry entry = new Entry(hash(key), key, value);
+    boolean[] added = new boolean[1];
+    BitmapNode newRoot = null == root ? BitmapNode.EMPTY.put(entry, 0, added)
+        : root.put(entry, 0, added);
+    if (newRoot == root) {
+      return this;
+    }
+    return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 返回移除键后的新映射，键不存在时返回自身
+   * @description: Return a new map with the key removed, return itself when the key is absent
+   * @time: 2026-10-18 18:55:17
+   * @params: [key] 键
+   * @return: cn.ares.boot.util.common.structure.PersistentHashMap<K,V>
+   */
+  @SuppressWarnings("unchecked")
+  public PersistentHashMap<K, V> without(Object key) {
+    if (null == root) {
+      return this;
+    }
+    Object newRoot = root.remove(hash(key), key, 0);
+    if (newRoot == root) {
+      return this;
+    }
+    if (size == 1) {
+      return (PersistentHashMap<K, V>) EMPTY;
+    }
+    return new PersistentHashMap<>((BitmapNode) newRoot, size - 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super K, ? super V> action) {
+    if (null != root) {
+      root.forEach((BiConsumer<Object, Object>) action);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 不可修改的Map视图
+   * @description: Unmodifiable Map view
+   * @time: 2026-10-18 18:55:17
+   * @params: []
+   * @return: java.util.Map<K,V>
+   */
+  public Map<K, V> asMap() {
+    return new MapView();
+  }
+
+  @Override
+  public String toString() {
+    return asMap().toString();
+  }
+
+  private static int hash(Object key) {
+    int hash = Objects.hashCode(key);
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int bit(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  private static Object merge(Entry first, Entry second, int shift) {
+    if (first.hash == second.hash || shift > MAX_SHIFT) {
+      return new CollisionNode(first.hash, new Entry[]{first, second});
+    }
+    int firstBit = bit(first.hash, shift);
+    int secondBit = bit(second.hash, shift);
+    if (firstBit == secondBit) {
+      return new BitmapNode(firstBit, new Object[]{merge(first, second, shift + BITS)});
+    }
+    return new BitmapNode(firstBit | secondBit,
+        firstBit < secondBit ? new Object[]{first, second} : new Object[]{second, first});
+  }
+
+  private static Object merge(CollisionNode collisionNode, Entry entry, int shift) {
+    int collisionBit = bit(collisionNode.hash, shift);
+    int entryBit = bit(entry.hash, shift);
+    if (collisionBit == entryBit) {
+      return new BitmapNode(collisionBit, new Object[]{merge(collisionNode, entry, shift + BITS)});
+    }
+    return new BitmapNode(collisionBit | entryBit, collisionBit < entryBit
+        ? new Object[]{collisionNode, entry} : new Object[]{entry, collisionNode});
+  }
+
+  private static final class Entry {
+
+    private final int hash;
+    private final Object key;
+    private final Object value;
+
+    private Entry(int hash, Object key, Object value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /**
+   * 槽为Entry、BitmapNode或CollisionNode，按位图中的位顺序存放
+   * A slot is an Entry, BitmapNode or CollisionNode, stored in the order of bits in the bitmap
+   */
+  private static final class BitmapNode {
+
+    private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] slots;
+
+    private BitmapNode(int bitmap, Object[] slots) {
+      this.bitmap = bitmap;
+      this.slots = slots;
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private BitmapNode put(Entry entry, int shift, boolean[] added) {
+      int bit = bit(entry.hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        Object[] newSlots = new Object[slots.length + 1];
+        System.arraycopy(slots, 0, newSlots, 0, index);
+        newSlots[index] = entry;
+        System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+        added[0] = true;
+        return new BitmapNode(bitmap | bit, newSlots);
+      }
+      Object slot = slots[index];
+      Object newSlot;
+      if (slot instanceof Entry) {
+        Entry existing = (Entry) slot;
+        if (existing.hash == entry.hash && Objects.equals(existing.key, entry.key)) {
+          if (existing.value == entry.value) {
+            return this;
+          }
+          newSlot = entry;
+        } else {
+          newSlot = merge(existing, entry, shift + BITS);
+          added[0] = true;
+        }
+      } else if (slot instanceof BitmapNode) {
+        newSlot = ((BitmapNode) slot).put(entry, shift + BITS, added);
+      } else {
+        CollisionNode collisionNode = (CollisionNode) slot;
+        if (collisionNode.hash == entry.hash) {
+          newSlot = collisionNode.put(entry, added);
+        } else {
+          newSlot = merge(collisionNode, entry, shift + BITS);
+          added[0] = true;
+        }
+      }
+      if (newSlot == slot) {
+        return this;
+      }
+      Object[] newSlots = slots.clone();
+      newSlots[index] = newSlot;
+      return new BitmapNode(bitmap, newSlots);
+    }
+
+    /**
+     * 返回自身(未找到)、null(已空)、Entry(只剩一个条目，可由上层内联)或新节点
+     * Return itself (not found), null (empty), an Entry (only one entry left, can be inlined by the
+     * upper level) or a new node
+     */
+    private Object remove(int hash, Object key, int shift) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int index = index(bit);
+      Object slot = slots[index];
+      Object newSlot;
+      if (slot instanceof Entry) {
+        Entry existing = (Entry) slot;
+        if (existing.hash != hash || !Objects.equals(existing.key, key)) {
+          return this;
+        }
+        newSlot = null;
+      } else if (slot instanceof BitmapNode) {
+        newSlot = ((BitmapNode) slot).remove(hash, key, shift + BITS);
+      } else {
+        newSlot = ((CollisionNode) slot).remove(key);
+      }
+      if (newSlot == slot) {
+        return this;
+      }
+      if (null == newSlot) {
+        if (slots.length == 1) {
+          return null;
+        }
+        if (slots.length == 2 && shift > 0) {
+          Object remaining = slots[1 - index];
+          if (remaining instanceof Entry) {
+            return remaining;
+          }
+        }
+        Object[] newSlots = new Object[slots.length - 1];
+        System.arraycopy(slots, 0, newSlots, 0, index);
+        System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+        return new BitmapNode(bitmap & ~bit, newSlots);
+      }
+      if (slots.length == 1 && shift > 0 && newSlot instanceof Entry) {
+        return newSlot;
+      }
+      Object[] newSlots = slots.clone();
+      newSlots[index] = newSlot;
+      return new BitmapNode(bitmap, newSlots);
+    }
+
+    private void forEach(BiConsumer<Object, Object> action) {
+      for (Object slot : slots) {
+        if (slot instanceof Entry) {
+          action.accept(((Entry) slot).key, ((Entry) slot).value);
+        } else if (slot instanceof BitmapNode) {
+          ((BitmapNode) slot).forEach(action);
+        } else {
+          for (Entry entry : ((CollisionNode) slot).entries) {
+            action.accept(entry.key, entry.value);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * 哈希完全相同的条目 Entries with exactly the same hash
+   */
+  private static final class CollisionNode {
+
+    private final int hash;
+    private final Entry[] entries;
+
+    private CollisionNode(int hash, Entry[] entries) {
+      this.hash = hash;
+      this.entries = entries;
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < entries.length; i++) {
+        if (Objects.equals(entries[i].key, key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private Entry find(Object key) {
+      int index = indexOf(key);
+      return index < 0 ? null : entries[index];
+    }
+
+    private CollisionNode put(Entry entry, boolean[] added) {
+      int index = indexOf(entry.key);
+      if (index >= 0) {
+        if (entries[index].value == entry.value) {
+          return this;
+        }
+        Entry[] newEntries = entries.clone();
+        newEntries[index] = entry;
+        return new CollisionNode(hash, newEntries);
+      }
+      Entry[] newEntries = new Entry[entries.length + 1];
+      System.arraycopy(entries, 0, newEntries, 0, entries.length);
+      newEntries[entries.length] = entry;
+      added[0] = true;
+      return new CollisionNode(hash, newEntries);
+    }
+
+    private Object remove(Object key) {
+      int index = indexOf(key);
+      if (index < 0) {
+        return this;
+      }
+      if (entries.length == 2) {
+        return entries[1 - index];
+      }
+      Entry[] newEntries = new Entry[entries.length - 1];
+      System.arraycopy(entries, 0, newEntries, 0, index);
+      System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+      return new CollisionNode(hash, newEntries);
+    }
+  }
+
+  private final class MapView extends AbstractMap<K, V> {
+
+    @Override
+    public V get(Object key) {
+      return PersistentHashMap.this.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return PersistentHashMap.this.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+      return new AbstractSet<Map.Entry<K, V>>() {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+          List<Map.Entry<K, V>> entries = new ArrayList<>(size);
+          PersistentHashMap.this.forEach(
+              (key, value) -> entries.add(new SimpleImmutableEntry<>(key, value)));
+          return entries.iterator();
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      };
+    }
+  }
+
+}
@@ -0,0 +1,46 @@
+package cn.ares.boot.util.common.structure;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 15:02:33
+ * @description: 缓存条目被移除的原因
+ * @description: Cause of a cache entry being removed
+ * @version: JDK 1.8
+ */
+public enum RemovalCause {
+  /**
+   * 被调用方主动移除 Removed explicitly by the caller
+   */
+  EXPLICIT(false),
+  /**
+   * 值被新值替换 The value was replaced by a new value
+   */
+  REPLACED(false),
+  /**
+   * 已过期 Expired
+   */
+  EXPIRED(true),
+  /**
+   * 超过最大容量或最大权重被淘汰 Evicted due to exceeding the max capacity or maximum weight
+   */
+  SIZE(true);
+
+  RemovalCause(boolean evicted) {
+    this.evicted = evicted;
+  }
+
+  private final boolean evicted;
+
+  /**
+   * @author: Ares
+   * @description: 是否由缓存自动淘汰(而非调用方操作)
+   * @description: Whether it was evicted by the cache automatically (rather than operated by the
+   * caller)
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: boolean 是否淘汰
+   */
+  public boolean isEvicted() {
+    return evicted;
+  }
+}
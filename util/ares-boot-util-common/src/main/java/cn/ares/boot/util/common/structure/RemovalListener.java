@@ -0,0 +1,25 @@
+package cn.ares.boot.util.common.structure;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 15:02:33
+ * @description: 缓存条目移除监听器，淘汰通知在执行淘汰的线程中于释放淘汰锁之后回调，监听器异常会被忽略
+ * @description: Removal listener of cache entry, the eviction notification is called back in the
+ * thread performing the eviction after releasing the eviction lock, exceptions of the listener are
+ * ignored
+ * @version: JDK 1.8
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+  /**
+   * @author: Ares
+   * @description: 条目被移除时回调
+   * @description: Called back when an entry is removed
+   * @time: 2026-10-18 15:02:33
+   * @params: [key, value, cause] 键，值，移除原因
+   * @return: void
+   */
+  void onRemoval(K key, V value, RemovalCause cause);
+
+}
@@ -0,0 +1,144 @@
+package cn.ares.boot.util.common.structure;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 15:02:33
+ * @description: 缓存统计记录器，使用分段的LongAdder计数使热点路径的开销保持在很低的水平
+ * @description: Cache statistics recorder, counted with striped LongAdder to keep the hot path
+ * cheap
+ * @version: JDK 1.8
+ */
+public class StatsCounter implements Serializable {
+
+  private static final long serialVersionUID = 2843519087061743302L;
+
+  private static final RemovalCause[] CAUSES = RemovalCause.values();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder loadSuccessCount = new LongAdder();
+  private final LongAdder loadFailureCount = new LongAdder();
+  private final LongAdder totalLoadTime = new LongAdder();
+  private final LongAdder evictionWeight = new LongAdder();
+  private final LongAdder[] removalCounts = new LongAdder[CAUSES.length];
+
+  public StatsCounter() {
+    for (int i = 0; i < CAUSES.length; i++) {
+      removalCounts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 不记录任何统计的记录器
+   * @description: Recorder which records nothing
+   * @time: 2026-10-18 15:02:33
+   * @params: []
+   * @return: cn.ares.boot.util.common.structure.StatsCounter
+   */
+  public static StatsCounter disabled() {
+    return DisabledStatsCounter.INSTANCE;
+  }
+
+  public void recordHits(int count) {
+    hitCount.add(count);
+  }
+
+  public void recordMisses(int count) {
+    missCount.add(count);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 记录一次成功加载
+   * @description: Record a successful load
+   * @time: 2026-10-18 15:02:33
+   * @params: [loadTime] 加载耗时(纳秒) Load time in nanoseconds
+   * @return: void
+   */
+  public void recordLoadSuccess(long loadTime) {
+    loadSuccessCount.increment();
+    totalLoadTime.add(loadTime);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 记录一次失败加载(抛出异常或返回null)
+   * @description: Record a failed load (thrown an exception or returned null)
+   * @time: 2026-10-18 15:02:33
+   * @params: [loadTime] 加载耗时(纳秒) Load time in nanoseconds
+   * @return: void
+   */
+  public void recordLoadFailure(long loadTime) {
+    loadFailureCount.increment();
+    totalLoadTime.add(loadTime);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 记录一次移除
+   * @description: Record a removal
+   * @time: 2026-10-18 15:02:33
+   * @params: [cause, weight] 移除原因，条目权重
+   * @return: void
+   */
+  public void recordRemoval(RemovalCause cause, int weight) {
+    removalCounts[cause.ordinal()].increment();
+    if (cause.isEvicted()) {
+      evictionWeight.add(weight);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 生成当前统计的快照
+   * @description: Generate a snapshot of the current statistics
+   * @time: 2026-10-18 15:02:33
+   * @params: [weightedSize] 缓存当前权重 Current weight of the cache
+   * @return: cn.ares.boot.util.common.structure.CacheStats
+   */
+  public CacheStats snapshot(long weightedSize) {
+    long[] counts = new long[CAUSES.length];
+    for (int i = 0; i < CAUSES.length; i++) {
+      counts[i] = removalCounts[i].sum();
+    }
+    return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(),
+        loadFailureCount.sum(), totalLoadTime.sum(), counts, evictionWeight.sum(), weightedSize);
+  }
+
+  @Override
+  public String toString() {
+    return snapshot(0L).toString();
+  }
+
+  private static final class DisabledStatsCounter extends StatsCounter {
+
+    private static final long serialVersionUID = -6250413380264717512L;
+
+    private static final DisabledStatsCounter INSTANCE = new DisabledStatsCounter();
+
+    @Override
+    public void recordHits(int count) {
+    }
+
+    @Override
+    public void recordMisses(int count) {
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+    }
+
+    @Override
+    public void recordRemoval(RemovalCause cause, int weight) {
+    }
+  }
+
+}
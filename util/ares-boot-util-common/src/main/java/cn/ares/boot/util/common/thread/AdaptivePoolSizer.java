@@ -0,0 +1,181 @@
+package cn.ares.boot.util.common.thread;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 18:20:41
+ * @description: 线程池自适应调整器，周期性地根据区间吞吐量和排队等待时间以爬山法在上下限之间调整核心和最大线程数：
+ * 有积压时沿当前方向调整，吞吐量没有明显提升则反向，无积压时逐步回收空闲线程；
+ * 适用于核心线程数等于最大线程数且带队列的线程池(如ThreadUtil.getExecutorService创建的)
+ * @description: Adaptive pool sizer, periodically resizes the core and maximum threads within the
+ * bounds by hill climbing on the interval throughput and queue wait: with backlog it moves in the
+ * current direction and reverses when the throughput does not improve noticeably, without backlog it
+ * gradually reclaims idle threads; suitable for pools whose core size equals the maximum size with a
+ * queue (such as those created by ThreadUtil.getExecutorService)
+ * @version: JDK 1.8
+ */
+public class AdaptivePoolSizer {
+
+  private static final String SIZER_THREAD_NAME_FORMAT = "Adaptive-Pool-Sizer-Thread-%d";
+  /**
+   * 吞吐量变化小于该比例视为没有提升 Throughput changes less than this ratio are regarded as no
+   * improvement
+   */
+  private static final double IMPROVEMENT_TOLERANCE = 0.05;
+  private static final long DEFAULT_PERIOD_MILLIS = 1000L;
+  private static final long DEFAULT_TARGET_QUEUE_WAIT_MILLIS = 10L;
+
+  private final ThreadPoolExecutor executor;
+  private final ExecutorMetrics metrics;
+  private final int minThreads;
+  private final int maxThreads;
+  private long periodNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_PERIOD_MILLIS);
+  private long targetQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(
+      DEFAULT_TARGET_QUEUE_WAIT_MILLIS);
+  private int step = 1;
+
+  private ScheduledFuture<?> future;
+  private ExecutorMetrics.Snapshot previous;
+  private long previousNanos;
+  private double previousThroughput;
+  private int direction = 1;
+
+  /**
+   * Constructor 构造函数
+   *
+   * @param executor   线程池 Thread pool
+   * @param metrics    线程池指标 Metrics of the thread pool
+   * @param minThreads 线程数下限 Lower bound of threads
+   * @param maxThreads 线程数上限 Upper bound of threads
+   */
+  public AdaptivePoolSizer(ThreadPoolExecutor executor, ExecutorMetrics metrics, int minThreads,
+      int maxThreads) {
+    if (minThreads <= 0 || maxThreads < minThreads) {
+      throw new IllegalArgumentException(
+          "Min threads must be greater than 0 and not greater than max threads");
+    }
+    this.executor = executor;
+    this.metrics = metrics;
+    this.minThreads = minThreads;
+    this.maxThreads = maxThreads;
+  }
+
+  public AdaptivePoolSizer setPeriod(long period, TimeUnit unit) {
+    this.periodNanos = unit.toNanos(period);
+    return this;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 目标排队等待时间，区间p90排队等待超过该值或队列不为空时视为有积压
+   * @description: Target queue wait, it is regarded as backlog when the interval p90 queue wait
+   * exceeds it or the queue is not empty
+   * @time: 2026-10-18 18:20:41
+   * @params: [targetQueueWait, unit] 目标排队等待时间，时间单位
+   * @return: cn.ares.boot.util.common.thread.AdaptivePoolSizer
+   */
+  public AdaptivePoolSizer setTargetQueueWait(long targetQueueWait, TimeUnit unit) {
+    this.targetQueueWaitNanos = unit.toNanos(targetQueueWait);
+    return this;
+  }
+
+  public AdaptivePoolSizer setStep(int step) {
+    if (step <= 0) {
+      throw new IllegalArgumentException("Step must be greater than 0");
+    }
+    this.step = step;
+    return this;
+  }
+
+  public synchronized AdaptivePoolSizer start() {
+    if (null == future) {
+      future = SchedulerHolder.SCHEDULER.scheduleWithFixedDelay(this::adjust, periodNanos,
+          periodNanos, TimeUnit.NANOSECONDS);
+    }
+    return this;
+  }
+
+  public synchronized void stop() {
+    if (null != future) {
+      future.cancel(false);
+      future = null;
+    }
+  }
+
+  public int getMinThreads() {
+    return minThreads;
+  }
+
+  public int getMaxThreads() {
+    return maxThreads;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 执行一次调整，线程池已关闭时停止调整
+   * @description: Perform an adjustment, stop adjusting when the pool has been shut down
+   * @time: 2026-10-18 18:20:41
+   * @params: []
+   * @return: void
+   */
+  public synchronized void adjust() {
+    if (executor.isShutdown()) {
+      stop();
+      return;
+    }
+    long now = System.nanoTime();
+    ExecutorMetrics.Snapshot current = metrics.snapshot();
+    if (null == previous) {
+      previous = current;
+      previousNanos = now;
+      return;
+    }
+    ExecutorMetrics.Snapshot interval = current.minus(previous);
+    double throughput = interval.getCompleted() * 1e9 / Math.max(1L, now - previousNanos);
+    previous = current;
+    previousNanos = now;
+
+    int size = executor.getMaximumPoolSize();
+    boolean backlog = current.getQueued() > 0
+        || interval.getQueueWait().getValueAtPercentile(90) > targetQueueWaitNanos;
+    int target;
+    if (backlog) {
+      if (previousThroughput > 0 && throughput <= previousThroughput * (1 + IMPROVEMENT_TOLERANCE)) {
+        direction = -direction;
+      }
+      previousThroughput = throughput;
+      target = size + direction * step;
+    } else {
+      // 无积压时回收空闲线程，再次出现积压时先尝试扩大
+      // Reclaim idle threads without backlog, try to grow first when backlog appears again
+      previousThroughput = 0;
+      direction = 1;
+      target = current.getActive() < size ? size - step : size;
+    }
+    resize(Math.max(minThreads, Math.min(maxThreads, target)));
+  }
+
+  private void resize(int size) {
+    // 先调整使核心线程数不超过最大线程数的一方 Adjust first the side that keeps the core size not
+    // exceeding the maximum size
+    if (size > executor.getMaximumPoolSize()) {
+      executor.setMaximumPoolSize(size);
+      executor.setCorePoolSize(size);
+    } else if (size < executor.getCorePoolSize()) {
+      executor.setCorePoolSize(size);
+      executor.setMaximumPoolSize(size);
+    }
+  }
+
+  private static final class SchedulerHolder {
+
+    private static final ScheduledExecutorService SCHEDULER = new ScheduledThreadPoolExecutor(1,
+        new NameThreadFactory().setNameFormat(SIZER_THREAD_NAME_FORMAT).setDaemon(true).build());
+  }
+
+}
@@ -0,0 +1,289 @@
+package cn.ares.boot.util.common.thread;
+
+import cn.ares.boot.util.common.structure.PersistentHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 18:55:17
+ * @description: 不可变的上下文载体，内部为持久化哈希映射，在提交任务时捕获(只是读取一个引用)并在任务执行期间恢复，
+ * 执行结束后还原执行线程原来的上下文而不留下任何残留；不会像InheritableThreadLocal一样泄漏到线程池中的线程，
+ * 提供Executor、Runnable、Callable、CompletableFuture和线程工厂(用于虚拟线程)的包装
+ * @description: Immutable context carrier backed by a persistent hash map, captured when a task is
+ * submitted (just reading a reference) and restored while the task executes, the original context of
+ * the executing thread is restored after execution leaving nothing behind; it does not leak into
+ * pooled threads as InheritableThreadLocal does, wrappers for Executor, Runnable, Callable,
+ * CompletableFuture and thread factory (for virtual threads) are provided
+ * @version: JDK 1.8
+ */
+public final class Context {
+
+  private static final Context EMPTY = new Context(PersistentHashMap.empty());
+  private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+  private final PersistentHashMap<Object, Object> values;
+
+  private Context(PersistentHashMap<Object, Object> values) {
+    this.values = values;
+  }
+
+  public static Context empty() {
+    return EMPTY;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 当前线程的上下文，没有时为空上下文
+   * @description: Context of the current thread, the empty context if absent
+   * @time: 2026-10-18 18:55:17
+   * @params: []
+   * @return: cn.ares.boot.util.common.thread.Context
+   */
+  public static Context current() {
+    Context context = CURRENT.get();
+    return null == context ? EMPTY : context;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 设置当前线程的上下文，为空上下文时移除线程变量，返回之前的上下文
+   * @description: Set the context of the current thread, remove the thread local when it is the
+   * empty context, return the previous context
+   * @time: 2026-10-18 18:55:17
+   * @params: [context] 上下文
+   * @return: cn.ares.boot.util.common.thread.Context 之前的上下文
+   */
+  public static Context swap(Context context) {
+    Context previous = current();
+    if (null == context || context.isEmpty()) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(context);
+    }
+    return previous;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key) {
+    return (T) values.get(key);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 返回包含该键值的新上下文，值为null时等同于without
+   * @description: Return a new context with the key value, same as without when the value is null
+   * @time: 2026-10-18 18:55:17
+   * @params: [key, value] 键，值
+   * @return: cn.ares.boot.util.common.thread.Context
+   */
+  public Context with(Object key, Object value) {
+    if (null == value) {
+      return without(key);
+    }
+    PersistentHashMap<Object, Object> newValues = values.with(key, value);
+    return newValues == values ? this : new Context(newValues);
+  }
+
+  public Context without(Object key) {
+    PersistentHashMap<Object, Object> newValues = values.without(key);
+    if (newValues == values) {
+      return this;
+    }
+    return newValues.isEmpty() ? EMPTY : new Context(newValues);
+  }
+
+  public boolean isEmpty() {
+    return values.isEmpty();
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  public void forEach(BiConsumer<Object, Object> action) {
+    values.forEach(action);
+  }
+
+  /**
+   * 不可修改的Map视图 Unmodifiable Map view
+   */
+  public Map<Object, Object> asMap() {
+    return values.asMap();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 将本上下文设置为当前线程的上下文，关闭返回的作用域时还原之前的上下文
+   * @description: Attach this context to the current thread, the previous context is restored when
+   * the returned scope is closed
+   * @time: 2026-10-18 18:55:17
+   * @params: []
+   * @return: cn.ares.boot.util.common.thread.Context.Scope
+   */
+  public Scope attach() {
+    return new Scope(swap(this));
+  }
+
+  public Runnable wrap(Runnable runnable) {
+    return () -> {
+      Context previous = swap(this);
+      try {
+        runnable.run();
+      } finally {
+        swap(previous);
+      }
+    };
+  }
+
+  public <T> Callable<T> wrapCallable(Callable<T> callable) {
+    return () -> {
+      Context previous = swap(this);
+      try {
+        return callable.call();
+      } finally {
+        swap(previous);
+      }
+    };
+  }
+
+  public <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+    return () -> {
+      Context previous = swap(this);
+      try {
+        return supplier.get();
+      } finally {
+        swap(previous);
+      }
+    };
+  }
+
+  public <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+    return value -> {
+      Context previous = swap(this);
+      try {
+        return function.apply(value);
+      } finally {
+        swap(previous);
+      }
+    };
+  }
+
+  public <T> Consumer<T> wrapConsumer(Consumer<T> consumer) {
+    return value -> {
+      Context previous = swap(this);
+      try {
+        consumer.accept(value);
+      } finally {
+        swap(previous);
+      }
+    };
+  }
+
+  /**
+   * @author: Ares
+   * @description: 包装执行器，每次提交时捕获提交线程的上下文并在任务执行期间恢复
+   * @description: Wrap the executor, capture the context of the submitting thread on each submission
+   * and restore it while the task executes
+   * @time: 2026-10-18 18:55:17
+   * @params: [executor] 执行器
+   * @return: java.util.concurrent.Executor
+   */
+  public static Executor wrapExecutor(Executor executor) {
+    if (executor instanceof ExecutorService) {
+      return wrapExecutorService((ExecutorService) executor);
+    }
+    return command -> executor.execute(current().wrap(command));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 包装执行器服务，每次提交时捕获提交线程的上下文并在任务执行期间恢复
+   * @description: Wrap the executor service, capture the context of the submitting thread on each
+   * submission and restore it while the task executes
+   * @time: 2026-10-18 18:55:17
+   * @params: [executorService] 执行器服务
+   * @return: java.util.concurrent.ExecutorService
+   */
+  public static ExecutorService wrapExecutorService(ExecutorService executorService) {
+    if (executorService instanceof ContextExecutorService) {
+      return executorService;
+    }
+    return new ContextExecutorService(executorService);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 包装线程工厂，创建线程时捕获创建线程的上下文并在新线程运行期间恢复，适用于每个任务一个线程(如虚拟线程)的执行器，
+   * 此时线程在提交时创建
+   * @description: Wrap the thread factory, capture the context of the creating thread when creating
+   * a thread and restore it while the new thread runs, suitable for thread per task executors (such
+   * as virtual threads) where the thread is created on submission
+   * @time: 2026-10-18 18:55:17
+   * @params: [threadFactory] 线程工厂
+   * @return: java.util.concurrent.ThreadFactory
+   */
+  public static ThreadFactory wrapThreadFactory(ThreadFactory threadFactory) {
+    return runnable -> threadFactory.newThread(current().wrap(runnable));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 携带当前上下文异步执行
+   * @description: Run asynchronously with the current context
+   * @time: 2026-10-18 18:55:17
+   * @params: [runnable, executor] 任务，执行器
+   * @return: java.util.concurrent.CompletableFuture<java.lang.Void>
+   */
+  public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+    return CompletableFuture.runAsync(current().wrap(runnable), executor);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 携带当前上下文异步获取结果，后续阶段可用wrapFunction或wrapConsumer包装函数以携带定义时的上下文
+   * @description: Supply asynchronously with the current context, subsequent stages can wrap their
+   * functions by wrapFunction or wrapConsumer to carry the context at definition
+   * @time: 2026-10-18 18:55:17
+   * @params: [supplier, executor] 结果提供者，执行器
+   * @return: java.util.concurrent.CompletableFuture<T>
+   */
+  public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+    return CompletableFuture.supplyAsync(current().wrapSupplier(supplier), executor);
+  }
+
+  @Override
+  public String toString() {
+    return "Context" + values;
+  }
+
+  /**
+   * @author: Ares
+   * @time: 2026-10-18 18:55:17
+   * @description: 上下文作用域，关闭时还原之前的上下文
+   * @description: Context scope, restore the previous context when closed
+   * @version: JDK 1.8
+   */
+  public static final class Scope implements AutoCloseable {
+
+    private final Context previous;
+
+    private Scope(Context previous) {
+      this.previous = previous;
+    }
+
+    @Override
+    public void close() {
+      swap(previous);
+    }
+  }
+
+}
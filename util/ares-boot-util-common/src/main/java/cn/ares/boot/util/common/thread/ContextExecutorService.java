@@ -0,0 +1,54 @@
+package cn.ares.boot.util.common.thread;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 18:55:17
+ * @description: 传递上下文的执行器服务，提交时捕获上下文并在任务执行期间恢复
+ * @description: Context propagating executor service, capture the context on submission and
+ * restore it while the task executes
+ * @version: JDK 1.8
+ */
+final class ContextExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService delegate;
+
+  ContextExecutorService(ExecutorService delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    delegate.execute(Context.current().wrap(command));
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+}
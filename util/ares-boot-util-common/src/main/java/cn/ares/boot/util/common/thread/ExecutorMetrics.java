@@ -0,0 +1,267 @@
+package cn.ares.boot.util.common.thread;
+
+import cn.ares.boot.util.common.structure.HistogramSnapshot;
+import cn.ares.boot.util.common.structure.LogLinearHistogram;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 17:45:10
+ * @description: 按线程池名称注册的执行器指标，包含排队等待和执行耗时直方图(纳秒)、活跃和排队数以及提交、完成、失败、拒绝计数
+ * @description: Executor metrics registered by pool name, including queue wait and execution time
+ * histograms (in nanoseconds), active and queued gauges and submitted, completed, failed, rejected
+ * counts
+ * @version: JDK 1.8
+ */
+public final class ExecutorMetrics {
+
+  private static final ConcurrentMap<String, ExecutorMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+  private final String poolName;
+  private final LogLinearHistogram queueWait = new LogLinearHistogram();
+  private final LogLinearHistogram runTime = new LogLinearHistogram();
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  /**
+   * 排队数来源，默认为自行统计的待执行数 Source of the queued gauge, the self counted pending count
+   * by default
+   */
+  private volatile IntSupplier queuedGauge = pending::get;
+
+  private ExecutorMetrics(String poolName) {
+    this.poolName = poolName;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取或注册指定线程池名称的指标
+   * @description: Get or register the metrics of the specified pool name
+   * @time: 2026-10-18 17:45:10
+   * @params: [poolName] 线程池名称
+   * @return: cn.ares.boot.util.common.thread.ExecutorMetrics
+   */
+  public static ExecutorMetrics of(String poolName) {
+    return REGISTRY.computeIfAbsent(poolName, ExecutorMetrics::new);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 所有已注册线程池的指标快照
+   * @description: Metrics snapshots of all registered pools
+   * @time: 2026-10-18 17:45:10
+   * @params: []
+   * @return: java.util.Map<java.lang.String,cn.ares.boot.util.common.thread.ExecutorMetrics.Snapshot>
+   */
+  public static Map<String, Snapshot> snapshots() {
+    Map<String, Snapshot> snapshots = new LinkedHashMap<>();
+    REGISTRY.forEach((poolName, metrics) -> snapshots.put(poolName, metrics.snapshot()));
+    return Collections.unmodifiableMap(snapshots);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 注销指定线程池名称的指标
+   * @description: Unregister the metrics of the specified pool name
+   * @time: 2026-10-18 17:45:10
+   * @params: [poolName] 线程池名称
+   * @return: void
+   */
+  public static void unregister(String poolName) {
+    REGISTRY.remove(poolName);
+  }
+
+  public String getPoolName() {
+    return poolName;
+  }
+
+  public Snapshot snapshot() {
+    return new Snapshot(poolName, active.get(), queuedGauge.getAsInt(), submitted.sum(),
+        completed.sum(), failed.sum(), rejected.sum(), queueWait.snapshot(), runTime.snapshot());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 包装拒绝策略，拒绝时计数后再交给原策略处理
+   * @description: Wrap the rejected execution handler, count the rejection before handing over to
+   * the original handler
+   * @time: 2026-10-18 17:45:10
+   * @params: [handler] 原拒绝策略
+   * @return: java.util.concurrent.RejectedExecutionHandler
+   */
+  public RejectedExecutionHandler countRejections(RejectedExecutionHandler handler) {
+    if (handler instanceof CountingRejectedExecutionHandler
+        && ((CountingRejectedExecutionHandler) handler).metrics == this) {
+      return handler;
+    }
+    return new CountingRejectedExecutionHandler(this, handler);
+  }
+
+  /**
+   * 使用线程池的真实队列长度作为排队数 Use the real queue size of the pool as the queued gauge
+   */
+  void bind(ThreadPoolExecutor executor) {
+    queuedGauge = () -> executor.getQueue().size();
+  }
+
+  void onSubmit() {
+    submitted.increment();
+    pending.incrementAndGet();
+  }
+
+  void onRejectedSubmit(boolean count) {
+    pending.decrementAndGet();
+    if (count) {
+      rejected.increment();
+    }
+  }
+
+  void onStart(long queueWaitNanos) {
+    pending.decrementAndGet();
+    active.incrementAndGet();
+    queueWait.record(queueWaitNanos);
+  }
+
+  void onFinish(long runNanos, boolean success) {
+    active.decrementAndGet();
+    runTime.record(runNanos);
+    if (success) {
+      completed.increment();
+    } else {
+      failed.increment();
+    }
+  }
+
+  void onDropped(int count) {
+    pending.addAndGet(-count);
+  }
+
+  private static final class CountingRejectedExecutionHandler implements
+      RejectedExecutionHandler {
+
+    private final ExecutorMetrics metrics;
+    private final RejectedExecutionHandler delegate;
+
+    private CountingRejectedExecutionHandler(ExecutorMetrics metrics,
+        RejectedExecutionHandler delegate) {
+      this.metrics = metrics;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+      metrics.rejected.increment();
+      delegate.rejectedExecution(r, executor);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @time: 2026-10-18 17:45:10
+   * @description: 执行器指标快照，不可变
+   * @description: Immutable snapshot of executor metrics
+   * @version: JDK 1.8
+   */
+  public static final class Snapshot {
+
+    private final String poolName;
+    private final int active;
+    private final int queued;
+    private final long submitted;
+    private final long completed;
+    private final long failed;
+    private final long rejected;
+    private final HistogramSnapshot queueWait;
+    private final HistogramSnapshot runTime;
+
+    Snapshot(String poolName, int active, int queued, long submitted, long completed, long failed,
+        long rejected, HistogramSnapshot queueWait, HistogramSnapshot runTime) {
+      this.poolName = poolName;
+      this.active = active;
+      this.queued = queued;
+      this.submitted = submitted;
+      this.completed = completed;
+      this.failed = failed;
+      this.rejected = rejected;
+      this.queueWait = queueWait;
+      this.runTime = runTime;
+    }
+
+    public String getPoolName() {
+      return poolName;
+    }
+
+    public int getActive() {
+      return active;
+    }
+
+    public int getQueued() {
+      return queued;
+    }
+
+    public long getSubmitted() {
+      return submitted;
+    }
+
+    public long getCompleted() {
+      return completed;
+    }
+
+    public long getFailed() {
+      return failed;
+    }
+
+    public long getRejected() {
+      return rejected;
+    }
+
+    /**
+     * 排队等待时间直方图(纳秒) Queue wait time histogram in nanoseconds
+     */
+    public HistogramSnapshot getQueueWait() {
+      return queueWait;
+    }
+
+    /**
+     * 执行耗时直方图(纳秒) Execution time histogram in nanoseconds
+     */
+    public HistogramSnapshot getRunTime() {
+      return runTime;
+    }
+
+    /**
+     * @author: Ares
+     * @description: 与更早的快照之差，计数和直方图为区间增量，活跃和排队数为当前值
+     * @description: Difference from an earlier snapshot, the counts and histograms are interval
+     * increments, the active and queued gauges are current values
+     * @time: 2026-10-18 17:45:10
+     * @params: [other] 更早的快照
+     * @return: cn.ares.boot.util.common.thread.ExecutorMetrics.Snapshot
+     */
+    public Snapshot minus(Snapshot other) {
+      return new Snapshot(poolName, active, queued, submitted - other.submitted,
+          completed - other.completed, failed - other.failed, rejected - other.rejected,
+          queueWait.minus(other.queueWait), runTime.minus(other.runTime));
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot{poolName='" + poolName + "', active=" + active + ", queued=" + queued
+          + ", submitted=" + submitted + ", completed=" + completed + ", failed=" + failed
+          + ", rejected=" + rejected + ", queueWait=" + queueWait + ", runTime=" + runTime + '}';
+    }
+  }
+
+}
@@ -0,0 +1,116 @@
+package cn.ares.boot.util.common.thread;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 17:45:10
+ * @description: 带指标的执行器装饰，记录每个任务的排队等待和执行耗时，被装饰的是ThreadPoolExecutor时排队数取其真实队列长度，
+ * 且拒绝策略会被包装以统计不抛出异常的拒绝(如CallerRunsPolicy)
+ * @description: Instrumented executor decorator, record the queue wait and execution time of each
+ * task, when the decorated one is a ThreadPoolExecutor the queued gauge is its real queue size, and
+ * its rejected execution handler is wrapped to count rejections that do not throw (such as
+ * CallerRunsPolicy)
+ * @version: JDK 1.8
+ */
+public class InstrumentedExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService delegate;
+  private final ExecutorMetrics metrics;
+  /**
+   * 拒绝是否已由包装后的拒绝策略统计 Whether rejections are counted by the wrapped handler
+   */
+  private final boolean rejectionCountedByHandler;
+
+  public InstrumentedExecutorService(String poolName, ExecutorService delegate) {
+    this.delegate = delegate;
+    this.metrics = ExecutorMetrics.of(poolName);
+    if (delegate instanceof ThreadPoolExecutor) {
+      ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) delegate;
+      threadPoolExecutor.setRejectedExecutionHandler(
+          metrics.countRejections(threadPoolExecutor.getRejectedExecutionHandler()));
+      metrics.bind(threadPoolExecutor);
+      this.rejectionCountedByHandler = true;
+    } else {
+      this.rejectionCountedByHandler = false;
+    }
+  }
+
+  public ExecutorMetrics getMetrics() {
+    return metrics;
+  }
+
+  public ExecutorService getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    InstrumentedTask task = new InstrumentedTask(command);
+    metrics.onSubmit();
+    try {
+      delegate.execute(task);
+    } catch (RejectedExecutionException e) {
+      metrics.onRejectedSubmit(!rejectionCountedByHandler);
+      throw e;
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> dropped = delegate.shutdownNow();
+    metrics.onDropped(dropped.size());
+    return dropped;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  private final class InstrumentedTask implements Runnable {
+
+    private final Runnable command;
+    private final long submitNanos = System.nanoTime();
+
+    private InstrumentedTask(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      long startNanos = System.nanoTime();
+      metrics.onStart(startNanos - submitNanos);
+      // 通过submit提交的任务异常被FutureTask捕获，不计为失败
+      // Exceptions of tasks submitted by submit are caught by FutureTask, not counted as failures
+      boolean success = false;
+      try {
+        command.run();
+        success = true;
+      } finally {
+        metrics.onFinish(System.nanoTime() - startNanos, success);
+      }
+    }
+  }
+
+}
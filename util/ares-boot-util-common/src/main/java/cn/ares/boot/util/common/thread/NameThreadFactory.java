@@ -20,6 +20,7 @@ public final class NameThreadFactory {
   private Integer priority = null;
   private UncaughtExceptionHandler uncaughtExceptionHandler = null;
   private ThreadFactory backingThreadFactory = null;
+  private boolean virtual = false;
 
   public NameThreadFactory setNameFormat(String nameFormat) {
     format(nameFormat, 0);
@@ -53,6 +54,22 @@ public final class NameThreadFactory {
     return this;
   }
 
+  /**
+   * @author: Ares
+   * @description: 是否创建虚拟线程，运行时不支持虚拟线程(jdk21以下)时仍创建平台线程，虚拟线程始终为守护线程且忽略优先级，
+   * 与setThreadFactory同时设置时以后者为准
+   * @description: Whether to create virtual threads, platform threads are still created when the
+   * runtime does not support virtual threads (below jdk21), virtual threads are always daemon and
+   * ignore the priority, setThreadFactory takes precedence when both are set
+   * @time: 2026-10-18 17:20:36
+   * @params: [virtual] 是否虚拟线程
+   * @return: cn.ares.boot.util.common.thread.NameThreadFactory
+   */
+  public NameThreadFactory setVirtual(boolean virtual) {
+    this.virtual = virtual;
+    return this;
+  }
+
   public ThreadFactory build() {
     return build(this);
   }
@@ -62,9 +79,13 @@ public final class NameThreadFactory {
     final Boolean daemon = builder.daemon;
     final Integer priority = builder.priority;
     final UncaughtExceptionHandler uncaughtExceptionHandler = builder.uncaughtExceptionHandler;
+    final ThreadFactory virtualThreadFactory =
+        builder.backingThreadFactory == null && builder.virtual
+            ? VirtualThreadSupport.newThreadFactory() : null;
+    final boolean virtual = virtualThreadFactory != null;
     final ThreadFactory backingThreadFactory =
         builder.backingThreadFactory != null ? builder.backingThreadFactory
-            : Executors.defaultThreadFactory();
+            : virtual ? virtualThreadFactory : Executors.defaultThreadFactory();
     final AtomicLong count = nameFormat != null ? new AtomicLong(0L) : null;
     return runnable -> {
       Thread thread = backingThreadFactory.newThread(runnable);
@@ -72,11 +93,12 @@ public final class NameThreadFactory {
         thread.setName(NameThreadFactory.format(nameFormat, count.getAndIncrement()));
       }
 
-      if (daemon != null) {
+      // 虚拟线程不能设置为非守护线程 Virtual threads can not be set non-daemon
+      if (daemon != null && !virtual) {
         thread.setDaemon(daemon);
       }
 
-      if (priority != null) {
+      if (priority != null && !virtual) {
         thread.setPriority(priority);
       }
 
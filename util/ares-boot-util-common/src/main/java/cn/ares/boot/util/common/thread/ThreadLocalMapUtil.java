@@ -1,87 +1,78 @@
 package cn.ares.boot.util.common.thread;
 
-import cn.ares.boot.util.common.MapUtil;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * @author: Ares
  * @time: 2021-04-10 17:54:00
- * @description: 本地线程变量工具
- * @description: ThreadLocal map util
+ * @description: 本地线程变量工具，基于不可变的上下文载体，修改时替换当前线程的上下文而不修改已被捕获的上下文，
+ * 不再通过InheritableThreadLocal隐式传递给子线程，跨线程传递需通过Context包装执行器或任务
+ * @description: ThreadLocal map util, based on the immutable context carrier, a modification
+ * replaces the context of the current thread without changing captured contexts, it is no longer
+ * passed to child threads implicitly by InheritableThreadLocal, wrap the executor or task by
+ * Context to pass it across threads
  * @version: JDK 1.8
  */
 public class ThreadLocalMapUtil {
 
-  private static final ThreadLocal<Map<Object, Object>> THREAD_LOCAL_MAP = new InheritableThreadLocal<>();
-
+  /**
+   * @author: Ares
+   * @description: 当前线程变量的不可修改视图，没有时返回null
+   * @description: Unmodifiable view of the current thread variables, return null if absent
+   * @time: 2026-10-18 18:55:17
+   * @params: []
+   * @return: java.util.Map<java.lang.Object,java.lang.Object>
+   */
   public static Map<Object, Object> getThreadLocal() {
-    return THREAD_LOCAL_MAP.get();
+    Context context = Context.current();
+    return context.isEmpty() ? null : context.asMap();
   }
 
   public static <T> T get(Object key) {
-    Map<Object, Object> map = THREAD_LOCAL_MAP.get();
-    if (MapUtil.isEmpty(map)) {
-      return null;
-    }
-    return (T) map.get(key);
+    return Context.current().get(key);
   }
 
   public static <T> T get(Object key, T defaultValue) {
-    Map<Object, Object> map = THREAD_LOCAL_MAP.get();
-    if (map == null) {
-      return null;
-    }
-    return map.get(key) == null ? defaultValue : (T) map.get(key);
+    T value = Context.current().get(key);
+    return null == value ? defaultValue : value;
   }
 
   public static void set(Object key, Object value) {
-    Map<Object, Object> map = THREAD_LOCAL_MAP.get();
-    if (null == map) {
-      map = new HashMap<>(4);
-    }
-    map.put(key, value);
-    THREAD_LOCAL_MAP.set(map);
+    Context.swap(Context.current().with(key, value));
   }
 
   public static void set(Map<Object, Object> keyValueMap) {
-    Map<Object, Object> map = THREAD_LOCAL_MAP.get();
-    if (null == map) {
-      map = new HashMap<>();
+    Context context = Context.current();
+    for (Map.Entry<Object, Object> entry : keyValueMap.entrySet()) {
+      context = context.with(entry.getKey(), entry.getValue());
     }
-    map.putAll(keyValueMap);
-    THREAD_LOCAL_MAP.set(map);
+    Context.swap(context);
   }
 
   public static void remove() {
-    THREAD_LOCAL_MAP.remove();
+    Context.swap(Context.empty());
   }
 
   public static <T> T remove(String key) {
-    Map<Object, Object> map = THREAD_LOCAL_MAP.get();
-    if (map == null) {
-      return null;
-    }
-    return (T) map.remove(key);
+    Context context = Context.current();
+    T value = context.get(key);
+    Context.swap(context.without(key));
+    return value;
   }
 
   public static void clear(String prefix) {
     if (prefix == null) {
       return;
     }
-    Map<Object, Object> map = THREAD_LOCAL_MAP.get();
-    if (map == null) {
-      return;
-    }
-
-    map.forEach((key, value) -> {
-      String keyStr = String.valueOf(key);
-      if (keyStr != null) {
-        if (keyStr.startsWith(prefix)) {
-          map.remove(key);
-        }
+    Context context = Context.current();
+    Context[] cleared = {context};
+    context.forEach((key, value) -> {
+      if (String.valueOf(key).startsWith(prefix)) {
+        cleared[0] = cleared[0].without(key);
       }
     });
+    Context.swap(cleared[0]);
   }
 
   /**
@@ -92,21 +83,17 @@ public class ThreadLocalMapUtil {
    * @params: [prefix] 前缀
    * @return: java.util.Map<java.lang.Object, T>
    */
+  @SuppressWarnings("unchecked")
   public static <T> Map<Object, T> fetchValuesByPrefix(String prefix) {
     Map<Object, T> values = new HashMap<>();
     if (prefix == null) {
       return values;
     }
-    Map<Object, Object> map = THREAD_LOCAL_MAP.get();
-    map.forEach((key, value) -> {
-      String keyStr = String.valueOf(key);
-      if (keyStr != null) {
-        if (keyStr.startsWith(prefix)) {
-          values.put(key, (T) value);
-        }
+    Context.current().forEach((key, value) -> {
+      if (String.valueOf(key).startsWith(prefix)) {
+        values.put(key, (T) value);
       }
     });
-
     return values;
   }
 
@@ -269,6 +269,37 @@ public class ThreadUtil {
         new SynchronousQueue<>(), new NameThreadFactory().setNameFormat(threadNameFormat).build());
   }
 
+  /**
+   * @author: Ares
+   * @description: 运行时是否支持虚拟线程
+   * @description: Whether the runtime supports virtual threads
+   * @time: 2026-10-18 17:20:36
+   * @params: []
+   * @return: boolean 是否支持
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VirtualThreadSupport.isSupported();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 每个任务一个命名虚拟线程的执行器，适用于io密集的扇出调用，并发不受线程池大小限制；
+   * 运行时不支持虚拟线程(jdk21以下)时退化为无限大小的同步线程池
+   * @description: Executor with a named virtual thread per task, suitable for io intensive fan out
+   * calls whose concurrency is not capped by a pool size; falls back to a synchronous thread pool of
+   * unlimited size when the runtime does not support virtual threads (below jdk21)
+   * @time: 2026-10-18 17:20:36
+   * @params: [threadNameFormat] 线程命名格式
+   * @return: java.util.concurrent.ExecutorService
+   */
+  public static ExecutorService newVirtualThreadExecutor(String threadNameFormat) {
+    if (!VirtualThreadSupport.isSupported()) {
+      return newCachedThreadPool(threadNameFormat);
+    }
+    return VirtualThreadSupport.newThreadPerTaskExecutor(
+        new NameThreadFactory().setNameFormat(threadNameFormat).setVirtual(true).build());
+  }
+
   /**
    * @author: Ares
    * @description: 创建定时任务线程池
@@ -314,6 +345,45 @@ public class ThreadUtil {
         threadFactory, rejectedExecutionHandler);
   }
 
+  /**
+   * @author: Ares
+   * @description: 为执行器添加指标，按线程池名称记录排队等待和执行耗时直方图、活跃和排队数以及拒绝计数，
+   * 可通过ExecutorMetrics.snapshots()获取快照
+   * @description: Instrument the executor, record queue wait and execution time histograms, active
+   * and queued gauges and rejection counts by pool name, snapshots can be got by
+   * ExecutorMetrics.snapshots()
+   * @time: 2026-10-18 17:45:10
+   * @params: [poolName, executorService] 线程池名称，执行器
+   * @return: cn.ares.boot.util.common.thread.InstrumentedExecutorService
+   */
+  public static InstrumentedExecutorService instrument(String poolName,
+      ExecutorService executorService) {
+    return new InstrumentedExecutorService(poolName, executorService);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 创建自适应线程池，从线程数下限开始，由AdaptivePoolSizer根据吞吐量和排队等待在上下限之间调整，
+   * 线程池关闭后自动停止调整
+   * @description: Create an adaptive thread pool, starting from the lower bound of threads, resized
+   * within the bounds by AdaptivePoolSizer according to the throughput and queue wait, the adjustment
+   * stops automatically after the pool is shut down
+   * @time: 2026-10-18 18:20:41
+   * @params: [poolName, threadNameFormat, minThreads, maxThreads, taskSize, rejectedExecutionHandler]
+   * 线程池名称，线程命名格式，线程数下限，线程数上限，任务数量，拒绝策略
+   * @return: cn.ares.boot.util.common.thread.InstrumentedExecutorService 带指标的线程池
+   */
+  public static InstrumentedExecutorService newAdaptiveExecutorService(String poolName,
+      String threadNameFormat, int minThreads, int maxThreads, int taskSize,
+      RejectedExecutionHandler rejectedExecutionHandler) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(minThreads, minThreads, 0L,
+        TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(taskSize),
+        new NameThreadFactory().setNameFormat(threadNameFormat).build(), rejectedExecutionHandler);
+    InstrumentedExecutorService instrumented = instrument(poolName, executor);
+    new AdaptivePoolSizer(executor, instrumented.getMetrics(), minThreads, maxThreads).start();
+    return instrumented;
+  }
+
   /**
    * @author: Ares
    * @description: 移除java虚拟机关闭的钩子
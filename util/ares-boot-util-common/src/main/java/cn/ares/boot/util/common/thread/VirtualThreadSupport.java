@@ -0,0 +1,90 @@
+package cn.ares.boot.util.common.thread;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 17:20:36
+ * @description: 虚拟线程支持，通过反射探测，使得在jdk8/17上仍可运行而在jdk21及以上使用虚拟线程
+ * @description: Virtual thread support, detected reflectively so that it still runs on jdk8/17 and
+ * uses virtual threads on jdk21+
+ * @version: JDK 1.8
+ */
+final class VirtualThreadSupport {
+
+  /**
+   * 不支持时为null Null when not supported
+   */
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_FACTORY;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method builderFactory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      builderFactory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor",
+          ThreadFactory.class);
+      // jdk19/20未开启预览特性时调用会抛出异常 It throws when the preview feature is not enabled
+      // on jdk19/20
+      builderFactory.invoke(ofVirtual.invoke(null));
+    } catch (Throwable e) {
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_FACTORY = builderFactory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  private VirtualThreadSupport() {
+  }
+
+  static boolean isSupported() {
+    return null != OF_VIRTUAL;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 创建虚拟线程工厂，不支持时返回null
+   * @description: Create a virtual thread factory, return null when not supported
+   * @time: 2026-10-18 17:20:36
+   * @params: []
+   * @return: java.util.concurrent.ThreadFactory 虚拟线程工厂
+   */
+  static ThreadFactory newThreadFactory() {
+    if (!isSupported()) {
+      return null;
+    }
+    try {
+      return (ThreadFactory) BUILDER_FACTORY.invoke(OF_VIRTUAL.invoke(null));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Create virtual thread factory fail", e);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 创建每个任务一个线程的执行器，不支持时返回null
+   * @description: Create a thread per task executor, return null when not supported
+   * @time: 2026-10-18 17:20:36
+   * @params: [threadFactory] 线程工厂
+   * @return: java.util.concurrent.ExecutorService 执行器
+   */
+  static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+    if (!isSupported()) {
+      return null;
+    }
+    try {
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Create thread per task executor fail", e);
+    }
+  }
+
+}
@@ -10,6 +10,12 @@ public class SnowFlakeIdUtilTest {
 
   public static void main(String[] args) {
     System.out.println("generate id: " + SnowFlakeIdUtil.nextIdByCacheWhenClockMoved());
+    SnowFlakeIdWorker worker = new SnowFlakeIdWorker(1, 1);
+    System.out.println("generate id lock free: " + worker.nextIdLockFree());
+    System.out.println("generate id lock free by cache when clock moved: "
+        + worker.nextIdLockFreeByCacheWhenClockMoved());
+    System.out.println("generate id by slice: " + worker.nextIdBySlice());
+    System.out.println("generate ids: " + SnowFlakeIdUtil.nextIds(10_000).length);
   }
 
 }
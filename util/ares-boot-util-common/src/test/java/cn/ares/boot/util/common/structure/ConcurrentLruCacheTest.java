@@ -0,0 +1,127 @@
+package cn.ares.boot.util.common.structure;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 13:02:45
+ * @description: ConcurrentLruCache test
+ * @version: JDK 1.8
+ */
+public class ConcurrentLruCacheTest {
+
+  public static void main(String[] args) throws InterruptedException {
+    ConcurrentLruCache<Integer, String> cache = new ConcurrentLruCache<>(3);
+    cache.put(1, "a");
+    cache.put(2, "b");
+    cache.put(3, "c");
+    cache.get(1);
+    cache.put(4, "d");
+    cache.cleanUp();
+    System.out.println("evict least recently used: " + !cache.containsKey(2));
+
+    ConcurrentLruCache<Integer, Integer> concurrentCache = new ConcurrentLruCache<>(1000);
+    IntStream.range(0, 8).parallel().forEach(i -> {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      for (int j = 0; j < 100_000; j++) {
+        int key = random.nextInt(5000);
+        if (null == concurrentCache.get(key)) {
+          concurrentCache.put(key, key);
+        }
+      }
+    });
+    concurrentCache.cleanUp();
+    System.out.println("size after concurrent access: " + concurrentCache.size());
+
+    ConcurrentLruCache<Integer, String> weightedCache = ConcurrentLruCache.<Integer, String>builder()
+        .maximumWeight(8).weigher((key, value) -> value.length()).build();
+    weightedCache.put(1, "aaaa");
+    weightedCache.put(2, "bbbb");
+    weightedCache.put(3, "cccc");
+    weightedCache.cleanUp();
+    System.out.println("evict by weight: " + !weightedCache.containsKey(1));
+
+    ConcurrentLruCache<Integer, Integer> expiringCache = ConcurrentLruCache.<Integer, Integer>builder()
+        .expireAfterWrite(100, TimeUnit.MILLISECONDS).build();
+    System.out.println("load: " + expiringCache.get(1, key -> key * 10));
+    TimeUnit.MILLISECONDS.sleep(200);
+    System.out.println("expired: " + (null == expiringCache.get(1)));
+
+    ConcurrentLruCache<Integer, Integer> resizableCache = new ConcurrentLruCache<>(10_000);
+    IntStream.range(0, 10_000).forEach(i -> resizableCache.put(i, i));
+    resizableCache.setMaxCapacity(100);
+    System.out.println("size after shrink: " + resizableCache.size() + ", keep recent: "
+        + resizableCache.containsKey(9999));
+    resizableCache.setExpireAfterWrite(100, TimeUnit.MILLISECONDS);
+    TimeUnit.MILLISECONDS.sleep(1200);
+    resizableCache.cleanUp();
+    System.out.println("size after enabling expiry: " + resizableCache.size());
+
+    ConcurrentLruCache<Integer, Integer> statsCache = ConcurrentLruCache.<Integer, Integer>builder()
+        .maximumSize(10).recordStats()
+        .removalListener((key, value, cause) -> System.out.println(key + " removed by " + cause))
+        .build();
+    for (int i = 0; i < 12; i++) {
+      statsCache.get(i, key -> key);
+      statsCache.get(i);
+    }
+    statsCache.cleanUp();
+    System.out.println("stats: " + statsCache.stats());
+
+    ConcurrentLruCache<Integer, Integer> expiringStatsCache = ConcurrentLruCache.<Integer, Integer>builder()
+        .expireAfterWrite(100, TimeUnit.MILLISECONDS).recordStats().build();
+    expiringStatsCache.get(1, key -> key);
+    TimeUnit.MILLISECONDS.sleep(200);
+    expiringStatsCache.get(1, key -> key + 1);
+    System.out.println("expired reload recorded: "
+        + (1 == expiringStatsCache.stats().getRemovalCount(RemovalCause.EXPIRED)));
+
+    // 清空时监听器在淘汰锁之外回调，在其它线程清理缓存不会死锁
+    // The listener is called back outside the eviction lock on clear, cleaning up the cache in
+    // another thread does not deadlock
+    AtomicReference<ConcurrentLruCache<Integer, Integer>> clearingRef = new AtomicReference<>();
+    ConcurrentLruCache<Integer, Integer> clearingCache = ConcurrentLruCache.<Integer, Integer>builder()
+        .maximumSize(10).recordStats().removalListener((key, value, cause) -> {
+          try {
+            CompletableFuture.runAsync(clearingRef.get()::cleanUp).get(1, TimeUnit.SECONDS);
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          }
+          System.out.println(key + " cleared by " + cause);
+        }).build();
+    clearingRef.set(clearingCache);
+    clearingCache.put(1, 1);
+    clearingCache.put(2, 2);
+    clearingCache.clear();
+    System.out.println("clear outside lock: " + (0 == clearingCache.size()) + ", "
+        + clearingCache.stats().getRemovalCount(RemovalCause.EXPLICIT));
+
+    LruCache<Integer, Integer> lruCache = new LruCache<>(2);
+    lruCache.setRemovalListener((key, value, cause) -> System.out.println(key + " removed by " + cause));
+    lruCache.put(1, 1);
+    lruCache.put(2, 2);
+    lruCache.get(1);
+    lruCache.get(3);
+    lruCache.put(3, 3);
+    System.out.println("lru stats: " + lruCache.stats());
+
+    // 监听器在其它线程访问缓存不会死锁 A listener accessing the cache in another thread does not deadlock
+    LruCache<Integer, Integer> reentrantCache = new LruCache<>(1);
+    reentrantCache.setRemovalListener((key, value, cause) -> {
+      try {
+        CompletableFuture.runAsync(reentrantCache::size).get(1, TimeUnit.SECONDS);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    reentrantCache.put(1, 1);
+    reentrantCache.put(2, 2);
+    reentrantCache.clear();
+    System.out.println("lru listener outside lock: " + reentrantCache.stats());
+  }
+
+}
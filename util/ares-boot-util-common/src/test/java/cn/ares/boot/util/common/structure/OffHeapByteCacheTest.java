@@ -0,0 +1,33 @@
+package cn.ares.boot.util.common.structure;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 15:48:20
+ * @description: OffHeapByteCache test
+ * @version: JDK 1.8
+ */
+public class OffHeapByteCacheTest {
+
+  public static void main(String[] args) {
+    OffHeapByteCache<String> cache = new OffHeapByteCache<>(4 << 20, 64 << 10, 2);
+    cache.put("greeting", "{\"hello\":\"world\"}".getBytes(UTF_8));
+    System.out.println("read only view: " + cache.read("greeting", ByteBuffer::isReadOnly));
+    ByteBuffer copy = cache.get("greeting");
+    cache.put("greeting", "{\"hello\":\"cache\"}".getBytes(UTF_8));
+    System.out.println("copy kept after replace: " + UTF_8.decode(copy));
+    System.out.println("copy: " + new String(cache.getBytes("greeting"), UTF_8));
+
+    byte[] blob = new byte[8 << 10];
+    for (int i = 0; i < 2000; i++) {
+      cache.put("blob-" + i, blob);
+    }
+    System.out.println("size: " + cache.size() + ", used bytes: " + cache.usedBytes()
+        + ", capacity: " + cache.getCapacity());
+    System.out.println("stats: " + cache.stats());
+  }
+
+}
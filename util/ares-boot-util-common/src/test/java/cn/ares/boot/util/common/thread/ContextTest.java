@@ -0,0 +1,39 @@
+package cn.ares.boot.util.common.thread;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 18:55:17
+ * @description: Context test
+ * @version: JDK 1.8
+ */
+public class ContextTest {
+
+  public static void main(String[] args) throws ExecutionException, InterruptedException {
+    ExecutorService executor = Context.wrapExecutorService(Executors.newFixedThreadPool(1));
+    ThreadLocalMapUtil.set("traceId", "a");
+    System.out.println("propagated: " + executor.submit(
+        () -> ThreadLocalMapUtil.get("traceId")).get());
+    ThreadLocalMapUtil.set("traceId", "b");
+    System.out.println("captured on submit: " + executor.submit(
+        () -> ThreadLocalMapUtil.get("traceId")).get());
+    ThreadLocalMapUtil.remove();
+    System.out.println("nothing left behind: " + executor.submit(
+        ThreadLocalMapUtil::getThreadLocal).get());
+
+    try (Context.Scope ignored = Context.current().with("user", "ares").attach()) {
+      System.out.println("completable future: " + Context.supplyAsync(
+          () -> Context.current().get("user"), executor).get());
+    }
+    System.out.println("scope closed: " + Context.current());
+    Function<String, Object> function = Context.current().with("user", "ares")
+        .wrapFunction(key -> Context.current().get(key));
+    System.out.println("wrapped function: " + function.apply("user"));
+    executor.shutdown();
+  }
+
+}
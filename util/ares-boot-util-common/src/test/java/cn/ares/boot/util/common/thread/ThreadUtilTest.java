@@ -1,6 +1,9 @@
 package cn.ares.boot.util.common.thread;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author: Ares
@@ -10,11 +13,39 @@ import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
  */
 public class ThreadUtilTest {
 
-  public static void main(String[] args) {
+  public static void main(String[] args) throws ExecutionException, InterruptedException {
     System.out.println("largeThreadCount: " + ThreadUtil.getLargeThreadCount());
     System.out.println("suitableThreadCount: " + ThreadUtil.getSuitableThreadCount());
     ThreadUtil.getExecutorService("Test-Case-Repeat-Thread-%d", -1,
         100_000, new CallerRunsPolicy());
+
+    System.out.println("virtualThreadSupported: " + ThreadUtil.isVirtualThreadSupported());
+    ExecutorService virtualThreadExecutor = ThreadUtil.newVirtualThreadExecutor(
+        "Test-Virtual-Thread-%d");
+    System.out.println("virtual thread: " + virtualThreadExecutor.submit(
+        () -> Thread.currentThread().toString()).get());
+    virtualThreadExecutor.shutdown();
+
+    InstrumentedExecutorService instrumentedExecutor = ThreadUtil.instrument("test-pool",
+        ThreadUtil.getExecutorService("Test-Instrumented-Thread-%d", 2, 4, new CallerRunsPolicy()));
+    for (int i = 0; i < 20; i++) {
+      instrumentedExecutor.execute(() -> {
+        try {
+          TimeUnit.MILLISECONDS.sleep(5);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    }
+    instrumentedExecutor.shutdown();
+    instrumentedExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    System.out.println("metrics: " + ExecutorMetrics.snapshots());
+
+    InstrumentedExecutorService adaptiveExecutor = ThreadUtil.newAdaptiveExecutorService(
+        "adaptive-pool", "Test-Adaptive-Thread-%d", 1, 8, 1000, new CallerRunsPolicy());
+    adaptiveExecutor.submit(() -> System.out.println("adaptive: " + Thread.currentThread().getName()))
+        .get();
+    adaptiveExecutor.shutdown();
   }
 
 }
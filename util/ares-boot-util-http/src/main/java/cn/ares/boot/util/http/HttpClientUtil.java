@@ -1,12 +1,8 @@
 package cn.ares.boot.util.http;
 
-import static cn.ares.boot.util.common.constant.SymbolConstant.AND;
 import static cn.ares.boot.util.common.constant.SymbolConstant.COLON;
-import static cn.ares.boot.util.common.constant.SymbolConstant.EQUALS;
-import static cn.ares.boot.util.common.constant.SymbolConstant.LEFT_SQ_BRACKET;
 import static cn.ares.boot.util.common.constant.SymbolConstant.QUESTION_MARK;
-import static cn.ares.boot.util.common.constant.SymbolConstant.RIGHT_SQ_BRACKET;
-import static cn.ares.boot.util.common.constant.SymbolConstant.SPOT;
+import static cn.ares.boot.util.http.constant.HttpConstant.HTTP_ASYNC_IO_THREAD_FACTORY_NAME;
 import static cn.ares.boot.util.http.constant.HttpConstant.HTTP_POOL_MONITOR_THREAD_FACTORY_NAME;
 import static cn.ares.boot.util.http.constant.HttpConstant.HTTP_REQUEST_HEADERS;
 import static cn.ares.boot.util.http.constant.HttpConstant.HTTP_RESPONSE_HEADERS;
@@ -19,61 +15,109 @@ import cn.ares.boot.util.common.ArrayUtil;
 import cn.ares.boot.util.common.ExceptionUtil;
 import cn.ares.boot.util.common.StringUtil;
 import cn.ares.boot.util.common.file.FileUtil;
+import cn.ares.boot.util.common.function.ConsumerWithException;
 import cn.ares.boot.util.common.network.NetworkUtil;
 import cn.ares.boot.util.common.thread.NameThreadFactory;
 import cn.ares.boot.util.common.thread.ThreadLocalMapUtil;
 import cn.ares.boot.util.http.config.HttpConnectionConfig;
+import cn.ares.boot.util.http.config.HttpConnectionConfig.CircuitBreakerConfig;
+import cn.ares.boot.util.http.config.HttpConnectionConfig.ConcurrencyLimitConfig;
+import cn.ares.boot.util.http.config.HttpConnectionConfig.Http2Config;
 import cn.ares.boot.util.http.config.HttpConnectionConfig.HttpsConfig;
 import cn.ares.boot.util.http.config.HttpConnectionConfig.Proxy;
+import cn.ares.boot.util.http.config.HttpConnectionConfig.UpstreamConfig;
+import cn.ares.boot.util.http.encoder.FormUrlEncodedGenerator;
+import cn.ares.boot.util.http.entity.HttpResult;
+import cn.ares.boot.util.http.entity.JsonStreamEntity;
+import cn.ares.boot.util.http.exception.HttpStatusException;
+import cn.ares.boot.util.http.guard.AimdConcurrencyLimiter;
+import cn.ares.boot.util.http.guard.CircuitBreaker;
+import cn.ares.boot.util.http.guard.RouteGuard;
+import cn.ares.boot.util.http.metrics.InstrumentedConnectionManager;
+import cn.ares.boot.util.http.metrics.RequestTimings;
+import cn.ares.boot.util.http.metrics.ResponseHeadInterceptor;
+import cn.ares.boot.util.http.metrics.RoutePoolMetrics;
+import cn.ares.boot.util.http.metrics.TimingSslSocketFactory;
+import cn.ares.boot.util.http.upstream.Upstream;
 import cn.ares.boot.util.json.JsonUtil;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import javax.net.ssl.HostnameVerifier;
+import org.apache.hc.client5.http.ClientProtocolException;
 import org.apache.hc.client5.http.HttpRequestRetryStrategy;
 import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.psl.PublicSuffixMatcherLoader;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.MessageHeaders;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.URIScheme;
 import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.reactor.IOReactorConfig;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
@@ -107,19 +151,48 @@ public class HttpClientUtil implements ApplicationContextAware {
    * CloseableHttpClient for a single host or ip+port
    */
   private static final Map<String, CloseableHttpClient> HTTP_CLIENT_MAP = new ConcurrentHashMap<>();
+  /**
+   * 命名的上游服务 Named upstreams
+   */
+  private static final Map<String, Upstream> UPSTREAM_MAP = new ConcurrentHashMap<>();
+  /**
+   * 路由(host:port)的熔断器和并发限制 Circuit breaker and concurrency limiter of the routes (host:port)
+   */
+  private static final Map<String, RouteGuard> ROUTE_GUARD_MAP = new ConcurrentHashMap<>();
   /**
    * Http连接池管理对象 Http connection pool management object
    */
   private static PoolingHttpClientConnectionManager connectionManager;
   /**
-   * 监控Http连接池中的空闲和异常连接 Monitor idle and abnormal connections in the Http connection pool
+   * Http异步请求客户端，所有host共用一个，由少量I/O反应器线程承载大量并发请求，首次使用时创建 Http asynchronous
+   * request client, shared by all hosts, a few I/O reactor threads carry a large number of concurrent
+   * requests, created on first use
    */
-  private static ScheduledExecutorService monitorExecutor = null;
-
+  private static volatile CloseableHttpAsyncClient asyncHttpClient;
+  /**
+   * Http异步连接池管理对象 Http asynchronous connection pool management object
+   */
+  private static PoolingAsyncClientConnectionManager asyncConnectionManager;
+  /**
+   * Http/2请求客户端，开启http2时使用 Http/2 request client, used when http2 is enabled
+   */
+  private static volatile CloseableHttpAsyncClient http2Client;
+  /**
+   * 异步连接池的监控任务 Monitoring task of the asynchronous connection pool
+   */
+  private static ScheduledFuture<?> asyncMonitorFuture;
+  private static final Object ASYNC_CLIENT_LOCK = new Object();
+  /**
+   * 自定义的主机名校验器 Custom hostname verifier
+   */
+  private static HostnameVerifier customHostnameVerifier;
   /**
-   * 是否启动监控线程 Whether to start the monitoring thread
+   * 监控Http连接池中的空闲和异常连接，首次获取客户端时创建，关闭连接池后再次使用时重新创建 Monitor idle and abnormal
+   * connections in the Http connection pool, created when a client is got for the first time and
+   * recreated when used again after the connection pool is closed
    */
-  private static final AtomicBoolean IS_START_MONITOR = new AtomicBoolean(false);
+  private static volatile ScheduledExecutorService monitorExecutor;
+  private static final Object MONITOR_LOCK = new Object();
 
   static {
     //  初始化Http连接池管理对象
@@ -138,13 +211,139 @@ public class HttpClientUtil implements ApplicationContextAware {
   public static CloseableHttpClient getHttpClient(String host, int port) {
     // 保证第一次获取Http请求客户端启动监控线程, 且只启动一次
     // Ensure that the client starts the monitor thread the first time it gets a Http request, and only once
-    if (IS_START_MONITOR.compareAndSet(false, true)) {
-      startMonitor();
-    }
+    getMonitorExecutor();
     String uniqueKey = host + COLON + port;
     return HTTP_CLIENT_MAP.computeIfAbsent(uniqueKey, client -> createHttpClient(host, port));
   }
 
+  /**
+   * @author: Ares
+   * @description: 获取命名的上游服务，未注册时按ares.http.connection.upstreams下的配置创建，
+   * 使用方式如getUpstream("order").execute(baseUrl -> get(baseUrl + "/order/1"))
+   * @description: Get the named upstream, create it by the config under
+   * ares.http.connection.upstreams when not registered, usage such as
+   * getUpstream("order").execute(baseUrl -> get(baseUrl + "/order/1"))
+   * @time: 2026-10-18 20:58:14
+   * @params: [name] 上游名称
+   * @return: cn.ares.boot.util.http.upstream.Upstream
+   */
+  public static Upstream getUpstream(String name) {
+    return UPSTREAM_MAP.computeIfAbsent(name, HttpClientUtil::createUpstream);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 注册(替换)命名的上游服务
+   * @description: Register (replace) the named upstream
+   * @time: 2026-10-18 20:58:14
+   * @params: [upstream] 上游服务
+   * @return: void
+   */
+  public static void registerUpstream(Upstream upstream) {
+    UPSTREAM_MAP.put(upstream.getName(), upstream);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取路由的熔断器和并发限制，均未开启时返回空
+   * @description: Get the circuit breaker and concurrency limiter of the route, return null when
+   * neither is enabled
+   * @time: 2026-10-18 21:49:27
+   * @params: [host, port] host，端口
+   * @return: cn.ares.boot.util.http.guard.RouteGuard
+   */
+  public static RouteGuard getRouteGuard(String host, int port) {
+    CircuitBreakerConfig circuitBreakerConfig = config.getCircuitBreaker();
+    ConcurrencyLimitConfig concurrencyLimitConfig = config.getConcurrencyLimit();
+    if (!circuitBreakerConfig.isEnabled() && !concurrencyLimitConfig.isEnabled()) {
+      return null;
+    }
+    return ROUTE_GUARD_MAP.computeIfAbsent(host + COLON + port, route -> new RouteGuard(route,
+        circuitBreakerConfig.isEnabled() ? new CircuitBreaker(circuitBreakerConfig.getWindowSize(),
+            circuitBreakerConfig.getMinimumCalls(), circuitBreakerConfig.getFailureRateThreshold(),
+            circuitBreakerConfig.getSlowCallRateThreshold(),
+            circuitBreakerConfig.getSlowCallDurationMillis(),
+            circuitBreakerConfig.getOpenDurationMillis(), circuitBreakerConfig.getHalfOpenCalls())
+            : null,
+        concurrencyLimitConfig.isEnabled() ? new AimdConcurrencyLimiter(
+            concurrencyLimitConfig.getInitialLimit(), concurrencyLimitConfig.getMinLimit(),
+            concurrencyLimitConfig.getMaxLimit(), concurrencyLimitConfig.getBackoffRatio(),
+            concurrencyLimitConfig.getDropLatencyMillis()) : null));
+  }
+
+  private static boolean allowRetry(String host, int port) {
+    RouteGuard routeGuard = getRouteGuard(host, port);
+    return null == routeGuard || routeGuard.allowRetry();
+  }
+
+  private static Upstream createUpstream(String name) {
+    UpstreamConfig upstreamConfig = config.getUpstreams().get(name);
+    if (null == upstreamConfig) {
+      throw new IllegalArgumentException("Upstream '" + name + "' is not configured");
+    }
+    Upstream upstream = new Upstream(name, upstreamConfig.getEndpoints(),
+        upstreamConfig.getLoadBalancer())
+        .setConsecutiveFailures(upstreamConfig.getConsecutiveFailures())
+        .setBaseEjectionTime(upstreamConfig.getBaseEjectionTimeMillis(), TimeUnit.MILLISECONDS)
+        .setMaxEjectionPercent(upstreamConfig.getMaxEjectionPercent());
+    if (upstreamConfig.isHedgeEnabled()) {
+      upstream.setHedge(upstreamConfig.getHedgePercentile(), upstreamConfig.getHedgeBudgetPercent(),
+          upstreamConfig.getMinHedgeDelayMillis(), TimeUnit.MILLISECONDS);
+    }
+    if (upstreamConfig.isAdaptiveTimeoutEnabled()) {
+      upstream.setAdaptiveTimeout(upstreamConfig.getTimeoutPercentile(),
+          upstreamConfig.getTimeoutMultiplier(), upstreamConfig.getMinTimeoutMillis());
+    }
+    return upstream;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 向命名的上游服务发起对冲的异步get请求，读超时按上游最近延迟自适应
+   * @description: Initiate a hedged asynchronous get request to the named upstream, the socket
+   * timeout adapts to the recent latency of the upstream
+   * @time: 2026-10-18 21:26:03
+   * @params: [upstreamName, path, headers] 上游名称，请求路径(含查询参数)，消息头
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static CompletableFuture<String> getHedgedAsync(String upstreamName, String path,
+      Map<String, String> headers) {
+    Upstream upstream = getUpstream(upstreamName);
+    int socketTimeout = upstream.getAdaptiveTimeoutMillis(config.getSocketTimeout());
+    return upstream.executeHedged(baseUrl -> getAsync(baseUrl + path, headers, socketTimeout,
+        config.getConnectTimeout(), config.getConnectionRequestTimeout()));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 向命名的上游服务发起对冲的get请求
+   * @description: Initiate a hedged get request to the named upstream
+   * @time: 2026-10-18 21:26:03
+   * @params: [upstreamName, path] 上游名称，请求路径(含查询参数)
+   * @return: java.lang.String 响应结果
+   */
+  public static String getHedged(String upstreamName, String path) throws Exception {
+    return getHedged(upstreamName, path, Collections.emptyMap());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头向命名的上游服务发起对冲的get请求
+   * @description: Use the message header to initiate a hedged get request to the named upstream
+   * @time: 2026-10-18 21:26:03
+   * @params: [upstreamName, path, headers] 上游名称，请求路径(含查询参数)，消息头
+   * @return: java.lang.String 响应结果
+   */
+  public static String getHedged(String upstreamName, String path, Map<String, String> headers)
+      throws Exception {
+    try {
+      return getHedgedAsync(upstreamName, path, headers).get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw cause instanceof Exception ? (Exception) cause : e;
+    }
+  }
+
   /**
    * @author: Ares
    * @description: 根据主机名和端口号创建Http请求客户端
@@ -154,10 +353,25 @@ public class HttpClientUtil implements ApplicationContextAware {
    * @return: org.apache.http.impl.client.CloseableHttpClient
    **/
   private static CloseableHttpClient createHttpClient(String hostOrIp, int port) {
-    // 请求重试处理
-    // Request retry processing
+    // 请求重试处理，路由熔断器未关闭时不再重试以免放大下游压力；每次重试时查找熔断器，
+    // 客户端会被缓存而熔断器可能在之后随配置开启或重建
+    // Request retry processing, no more retry when the route circuit breaker is not closed to avoid
+    // amplifying the load on the downstream; the guard is looked up on each retry since the client is
+    // cached while the guard may be enabled or rebuilt later with the config
     HttpRequestRetryStrategy retryStrategy = new DefaultHttpRequestRetryStrategy(
-        config.getRetryTimes(), TimeValue.ofSeconds(1L));
+        config.getRetryTimes(), TimeValue.ofSeconds(1L)) {
+      @Override
+      public boolean retryRequest(HttpRequest request, IOException exception, int execCount,
+          HttpContext context) {
+        return allowRetry(hostOrIp, port) && super.retryRequest(request, exception, execCount,
+            context);
+      }
+
+      @Override
+      public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+        return allowRetry(hostOrIp, port) && super.retryRequest(response, execCount, context);
+      }
+    };
 
     HttpHost httpHost = new HttpHost(hostOrIp, port);
     // 设置路由的最大连接数, 优先于DefaultMaxPerRoute
@@ -170,6 +384,7 @@ public class HttpClientUtil implements ApplicationContextAware {
     connectionManager.setDefaultConnectionConfig(connectionConfig.build());
 
     return HttpClients.custom().setConnectionManager(connectionManager)
+        .addResponseInterceptorFirst(ResponseHeadInterceptor.INSTANCE)
         // 关闭自动重试
 //        .disableAutomaticRetries()
         .setRetryStrategy(retryStrategy)
@@ -182,6 +397,164 @@ public class HttpClientUtil implements ApplicationContextAware {
         .build();
   }
 
+  /**
+   * @author: Ares
+   * @description: 获取Http异步请求客户端，首次获取时创建并启动
+   * @description: Get the Http asynchronous request client, create and start it on the first get
+   * @time: 2026-10-18 19:20:11
+   * @params: []
+   * @return: org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient
+   */
+  public static CloseableHttpAsyncClient getAsyncHttpClient() {
+    CloseableHttpAsyncClient client = asyncHttpClient;
+    if (null == client) {
+      synchronized (ASYNC_CLIENT_LOCK) {
+        client = asyncHttpClient;
+        if (null == client) {
+          client = createAsyncHttpClient();
+          client.start();
+          long period = getEvictionPeriod();
+          asyncMonitorFuture = getMonitorExecutor().scheduleAtFixedRate(
+              new MonitorHttpWorker(asyncConnectionManager), period, period, TimeUnit.MILLISECONDS);
+          asyncHttpClient = client;
+        }
+      }
+    }
+    return client;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 根据连接配置创建Http异步请求客户端，连接池、超时、代理和https配置与同步客户端一致
+   * @description: Create the Http asynchronous request client based on the connection config, the
+   * pool, timeout, proxy and https config are the same as the synchronous client
+   * @time: 2026-10-18 19:20:11
+   * @params: []
+   * @return: org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient
+   */
+  private static CloseableHttpAsyncClient createAsyncHttpClient() {
+    ConnectionConfig connectionConfig = ConnectionConfig.custom()
+        .setSocketTimeout(Timeout.ofMilliseconds(config.getSocketTimeout()))
+        .setConnectTimeout(Timeout.ofMilliseconds(config.getConnectTimeout())).build();
+    asyncConnectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+        .setTlsStrategy(buildTlsStrategy())
+        .setMaxConnTotal(config.getPool().getMaxTotal())
+        .setMaxConnPerRoute(config.getPool().getMaxPerRoute())
+        .setDefaultConnectionConfig(connectionConfig)
+        .build();
+
+    return HttpAsyncClients.custom().setConnectionManager(asyncConnectionManager)
+        .setIOReactorConfig(buildIoReactorConfig())
+        .setThreadFactory(buildIoThreadFactory())
+        .setRetryStrategy(new DefaultHttpRequestRetryStrategy(config.getRetryTimes(),
+            TimeValue.ofSeconds(1L)))
+        .setProxy(buildHttpProxy())
+        .build();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取Http/2请求客户端，首次获取时创建并启动，https请求通过ALPN协商http/2，服务端不支持时回退到http/1.1，
+   * 协商为http/2的连接上请求多路复用
+   * @description: Get the Http/2 request client, create and start it on the first get, https
+   * requests negotiate http/2 by ALPN and fall back to http/1.1 when the server does not support it,
+   * requests are multiplexed on connections negotiated as http/2
+   * @time: 2026-10-18 19:48:36
+   * @params: []
+   * @return: org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient
+   */
+  public static CloseableHttpAsyncClient getHttp2Client() {
+    CloseableHttpAsyncClient client = http2Client;
+    if (null == client) {
+      synchronized (ASYNC_CLIENT_LOCK) {
+        client = http2Client;
+        if (null == client) {
+          H2Config h2Config = H2Config.custom()
+              .setMaxConcurrentStreams(config.getHttp2().getMaxConcurrentStreams())
+              .setPushEnabled(false).build();
+          client = HttpAsyncClients.custom().setConnectionManager(buildHttp2ConnectionManager())
+              .setH2Config(h2Config)
+              .setIOReactorConfig(buildIoReactorConfig())
+              .setThreadFactory(buildIoThreadFactory())
+              .setRetryStrategy(new DefaultHttpRequestRetryStrategy(config.getRetryTimes(),
+                  TimeValue.ofSeconds(1L)))
+              .build();
+          client.start();
+          http2Client = client;
+        }
+      }
+    }
+    return client;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 创建Http/2请求客户端的连接池，https通过ALPN协商，服务端不支持http/2时回退到http/1.1；
+   * 明文请求只有prior knowledge时才会使用该连接池，直接使用h2c
+   * @description: Create the connection pool of the Http/2 request client, https negotiates by ALPN
+   * and falls back to http/1.1 when the server does not support http/2; plain-text requests only use
+   * this pool with prior knowledge and use h2c directly
+   * @time: 2026-10-18 19:48:36
+   * @params: []
+   * @return: org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager
+   */
+  private static PoolingAsyncClientConnectionManager buildHttp2ConnectionManager() {
+    ConnectionConfig connectionConfig = ConnectionConfig.custom()
+        .setSocketTimeout(Timeout.ofMilliseconds(config.getSocketTimeout()))
+        .setConnectTimeout(Timeout.ofMilliseconds(config.getConnectTimeout())).build();
+    PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+        .setTlsStrategy(buildTlsStrategy())
+        .setMaxConnTotal(config.getPool().getMaxTotal())
+        .setMaxConnPerRoute(config.getPool().getMaxPerRoute())
+        .setDefaultConnectionConfig(connectionConfig)
+        .build();
+    TlsConfig negotiate = TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build();
+    TlsConfig forceHttp2 = TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+        .build();
+    connectionManager.setTlsConfigResolver(
+        host -> URIScheme.HTTPS.same(host.getSchemeName()) ? negotiate : forceHttp2);
+    return connectionManager;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 请求是否使用http/2，开启时https请求使用http/2，明文请求仅在prior knowledge时使用h2c，配置了代理时不使用
+   * @description: Whether the request uses http/2, when enabled https requests use http/2,
+   * plain-text requests use h2c only with prior knowledge, not used when a proxy is configured
+   * @time: 2026-10-18 19:48:36
+   * @params: [uri] 请求地址
+   * @return: boolean
+   */
+  private static boolean isHttp2(URI uri) {
+    Http2Config http2Config = config.getHttp2();
+    if (!http2Config.isEnabled() || null != buildHttpProxy()) {
+      return false;
+    }
+    return URIScheme.HTTPS.same(uri.getScheme()) || http2Config.isPriorKnowledge();
+  }
+
+  private static TlsStrategy buildTlsStrategy() {
+    HttpsConfig httpsConfig = config.getHttps();
+    String[] supportedProtocols = httpsConfig.getSupportedProtocols();
+    ClientTlsStrategyBuilder tlsStrategyBuilder = ClientTlsStrategyBuilder.create()
+        .setSslContext(SSLContexts.createDefault())
+        .setHostnameVerifier(getHostnameVerifier(httpsConfig, customHostnameVerifier));
+    if (ArrayUtil.isNotEmpty(supportedProtocols)) {
+      tlsStrategyBuilder.setTlsVersions(supportedProtocols);
+    }
+    return tlsStrategyBuilder.build();
+  }
+
+  private static IOReactorConfig buildIoReactorConfig() {
+    return IOReactorConfig.custom()
+        .setSoTimeout(Timeout.ofMilliseconds(config.getSocketTimeout())).build();
+  }
+
+  private static ThreadFactory buildIoThreadFactory() {
+    return new NameThreadFactory().setNameFormat(HTTP_ASYNC_IO_THREAD_FACTORY_NAME)
+        .setDaemon(true).build();
+  }
+
   /**
    * @author: Ares
    * @description: 使用请求对象发起Post请求地址获取结果
@@ -477,10 +850,7 @@ public class HttpClientUtil implements ApplicationContextAware {
    * @return: java.lang.String response
    */
   public static <T> String encodeGetRequest(T request) {
-    JsonNode jsonNode = JsonUtil.parseObject(request);
-    StringJoiner result = new StringJoiner(AND);
-    ExceptionUtil.run(() -> handleObjectNode(jsonNode, result, ""));
-    return result.toString();
+    return FormUrlEncodedGenerator.encode(request);
   }
 
   /**
@@ -576,8 +946,551 @@ public class HttpClientUtil implements ApplicationContextAware {
 
   /**
    * @author: Ares
-   * @description: 获取最后一次http请求的请求头
-   * @description: Get the request headers of the last http request
+   * @description: 使用请求对象发起Post请求，请求体由Jackson生成器直接写入套接字，响应体输入流交给消费者处理而不在堆上缓冲
+   * @description: Use the request object to initiate a Post request, the request body is written to
+   * the socket directly by the Jackson generator, the response body input stream is handed to the
+   * consumer without buffering on heap
+   * @time: 2026-10-18 20:06:52
+   * @params: [url, request, consumer] 请求地址，请求对象，响应体消费者
+   * @return: void
+   */
+  public static <T> void postStream(String url, T request,
+      ConsumerWithException<InputStream> consumer) throws Exception {
+    postStream(url, request, Collections.emptyMap(), consumer);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起Post请求，响应体输入流交给消费者处理，消费者返回后关闭；流式请求总是使用http/1.1
+   * @description: Pass in the request object and message header to initiate a Post request, the
+   * response body input stream is handed to the consumer and closed after the consumer returns;
+   * streaming requests always use http/1.1
+   * @time: 2026-10-18 20:06:52
+   * @params: [url, request, headers, consumer] 请求地址，请求对象，消息头，响应体消费者
+   * @return: void
+   */
+  public static <T> void postStream(String url, T request, Map<String, String> headers,
+      ConsumerWithException<InputStream> consumer) throws Exception {
+    HttpPost httpPost = new HttpPost(url);
+    httpPost.setHeader(CONTENT_TYPE, APPLICATION_JSON.toString());
+    configRequest(httpPost, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+    requestStream(httpPost, request, consumer);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 发起get请求，响应体输入流交给消费者处理而不在堆上缓冲
+   * @description: Initiate a get request, the response body input stream is handed to the consumer
+   * without buffering on heap
+   * @time: 2026-10-18 20:06:52
+   * @params: [url, consumer] 请求地址，响应体消费者
+   * @return: void
+   */
+  public static void getStream(String url, ConsumerWithException<InputStream> consumer)
+      throws Exception {
+    getStream(url, Collections.emptyMap(), consumer);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起get请求，响应体输入流交给消费者处理，消费者返回后关闭；流式请求总是使用http/1.1
+   * @description: Use the message header to initiate a get request, the response body input stream
+   * is handed to the consumer and closed after the consumer returns; streaming requests always use
+   * http/1.1
+   * @time: 2026-10-18 20:06:52
+   * @params: [url, headers, consumer] 请求地址，消息头，响应体消费者
+   * @return: void
+   */
+  public static void getStream(String url, Map<String, String> headers,
+      ConsumerWithException<InputStream> consumer) throws Exception {
+    HttpGet httpGet = new HttpGet(url);
+    httpGet.setHeader(CONTENT_TYPE, APPLICATION_FORM_URLENCODED.toString());
+    configRequest(httpGet, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+    requestStream(httpGet, null, consumer);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 发起get请求并直接从响应输入流解析为指定类的对象，不生成中间字符串
+   * @description: Initiate a get request and parse the response input stream directly into an
+   * object of the specified class without an intermediate string
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, responseType] 请求地址，响应类
+   * @return: R 响应对象
+   */
+  public static <R> R getForObject(String url, Class<R> responseType) throws Exception {
+    return getForObject(url, Collections.emptyMap(), responseType);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起get请求并直接从响应输入流解析为指定类的对象
+   * @description: Use the message header to initiate a get request and parse the response input
+   * stream directly into an object of the specified class
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, headers, responseType] 请求地址，消息头，响应类
+   * @return: R 响应对象
+   */
+  public static <R> R getForObject(String url, Map<String, String> headers, Class<R> responseType)
+      throws Exception {
+    return getForObject(url, headers,
+        inputStream -> JsonUtil.toJavaObject(inputStream, responseType));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 发起get请求并直接从响应输入流解析为指定类型引用的对象，不生成中间字符串
+   * @description: Initiate a get request and parse the response input stream directly into an
+   * object of the specified type reference without an intermediate string
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, responseTypeRef] 请求地址，响应类型引用
+   * @return: R 响应对象
+   */
+  public static <R> R getForObject(String url, TypeReference<R> responseTypeRef) throws Exception {
+    return getForObject(url, Collections.emptyMap(), responseTypeRef);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起get请求并直接从响应输入流解析为指定类型引用的对象
+   * @description: Use the message header to initiate a get request and parse the response input
+   * stream directly into an object of the specified type reference
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, headers, responseTypeRef] 请求地址，消息头，响应类型引用
+   * @return: R 响应对象
+   */
+  public static <R> R getForObject(String url, Map<String, String> headers, TypeReference<R> responseTypeRef)
+      throws Exception {
+    return getForObject(url, headers,
+        inputStream -> JsonUtil.toJavaObject(inputStream, responseTypeRef));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 发起get请求并直接从响应输入流解析为指定java类型的对象，不生成中间字符串
+   * @description: Initiate a get request and parse the response input stream directly into an
+   * object of the specified java type without an intermediate string
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, responseType] 请求地址，响应java类型
+   * @return: R 响应对象
+   */
+  public static <R> R getForObject(String url, JavaType responseType) throws Exception {
+    return getForObject(url, Collections.emptyMap(), responseType);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起get请求并直接从响应输入流解析为指定java类型的对象
+   * @description: Use the message header to initiate a get request and parse the response input
+   * stream directly into an object of the specified java type
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, headers, responseType] 请求地址，消息头，响应java类型
+   * @return: R 响应对象
+   */
+  public static <R> R getForObject(String url, Map<String, String> headers, JavaType responseType)
+      throws Exception {
+    return getForObject(url, headers,
+        inputStream -> JsonUtil.toJavaObject(inputStream, responseType));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用请求对象发起Post请求并直接从响应输入流解析为指定类的对象，不生成中间字符串
+   * @description: Use the request object to initiate a Post request and parse the response input
+   * stream directly into an object of the specified class without an intermediate string
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, request, responseType] 请求地址，请求对象，响应类
+   * @return: R 响应对象
+   */
+  public static <T, R> R postForObject(String url, T request, Class<R> responseType) throws Exception {
+    return postForObject(url, request, Collections.emptyMap(), responseType);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起Post请求并直接从响应输入流解析为指定类的对象
+   * @description: Pass in the request object and message header to initiate a Post request and
+   * parse the response input stream directly into an object of the specified class
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, request, headers, responseType] 请求地址，请求对象，消息头，响应类
+   * @return: R 响应对象
+   */
+  public static <T, R> R postForObject(String url, T request, Map<String, String> headers,
+      Class<R> responseType) throws Exception {
+    return postForObject(url, request, headers,
+        inputStream -> JsonUtil.toJavaObject(inputStream, responseType));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用请求对象发起Post请求并直接从响应输入流解析为指定类型引用的对象，不生成中间字符串
+   * @description: Use the request object to initiate a Post request and parse the response input
+   * stream directly into an object of the specified type reference without an intermediate string
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, request, responseTypeRef] 请求地址，请求对象，响应类型引用
+   * @return: R 响应对象
+   */
+  public static <T, R> R postForObject(String url, T request, TypeReference<R> responseTypeRef) throws Exception {
+    return postForObject(url, request, Collections.emptyMap(), responseTypeRef);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起Post请求并直接从响应输入流解析为指定类型引用的对象
+   * @description: Pass in the request object and message header to initiate a Post request and
+   * parse the response input stream directly into an object of the specified type reference
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, request, headers, responseTypeRef] 请求地址，请求对象，消息头，响应类型引用
+   * @return: R 响应对象
+   */
+  public static <T, R> R postForObject(String url, T request, Map<String, String> headers,
+      TypeReference<R> responseTypeRef) throws Exception {
+    return postForObject(url, request, headers,
+        inputStream -> JsonUtil.toJavaObject(inputStream, responseTypeRef));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用请求对象发起Post请求并直接从响应输入流解析为指定java类型的对象，不生成中间字符串
+   * @description: Use the request object to initiate a Post request and parse the response input
+   * stream directly into an object of the specified java type without an intermediate string
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, request, responseType] 请求地址，请求对象，响应java类型
+   * @return: R 响应对象
+   */
+  public static <T, R> R postForObject(String url, T request, JavaType responseType) throws Exception {
+    return postForObject(url, request, Collections.emptyMap(), responseType);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起Post请求并直接从响应输入流解析为指定java类型的对象
+   * @description: Pass in the request object and message header to initiate a Post request and
+   * parse the response input stream directly into an object of the specified java type
+   * @time: 2026-10-18 20:31:40
+   * @params: [url, request, headers, responseType] 请求地址，请求对象，消息头，响应java类型
+   * @return: R 响应对象
+   */
+  public static <T, R> R postForObject(String url, T request, Map<String, String> headers,
+      JavaType responseType) throws Exception {
+    return postForObject(url, request, headers,
+        inputStream -> JsonUtil.toJavaObject(inputStream, responseType));
+  }
+
+  private static <R> R getForObject(String url, Map<String, String> headers,
+      Function<InputStream, R> parser) throws Exception {
+    HttpGet httpGet = new HttpGet(url);
+    httpGet.setHeader(CONTENT_TYPE, APPLICATION_FORM_URLENCODED.toString());
+    configRequest(httpGet, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+    return requestForObject(httpGet, null, parser);
+  }
+
+  private static <T, R> R postForObject(String url, T request, Map<String, String> headers,
+      Function<InputStream, R> parser) throws Exception {
+    HttpPost httpPost = new HttpPost(url);
+    httpPost.setHeader(CONTENT_TYPE, APPLICATION_JSON.toString());
+    configRequest(httpPost, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+    return requestForObject(httpPost, request, parser);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 发起get请求并返回包含状态码、响应头和响应体的结果，非2xx状态码不抛出异常
+   * @description: Initiate a get request and return the result including the status code, headers
+   * and body, a non 2xx status code does not throw an exception
+   * @time: 2026-10-18 22:41:05
+   * @params: [url] 请求地址
+   * @return: cn.ares.boot.util.http.entity.HttpResult 响应结果
+   */
+  public static HttpResult getForResult(String url) throws Exception {
+    return getForResult(url, Collections.emptyMap());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起get请求并返回结果
+   * @description: Use the message header to initiate a get request and return the result
+   * @time: 2026-10-18 22:41:05
+   * @params: [url, headers] 请求地址，消息头
+   * @return: cn.ares.boot.util.http.entity.HttpResult 响应结果
+   */
+  public static HttpResult getForResult(String url, Map<String, String> headers)
+      throws Exception {
+    HttpGet httpGet = new HttpGet(url);
+    httpGet.setHeader(CONTENT_TYPE, APPLICATION_FORM_URLENCODED.toString());
+    configRequest(httpGet, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+    return requestForResult(httpGet, null);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用请求对象发起Post请求并返回结果
+   * @description: Use the request object to initiate a Post request and return the result
+   * @time: 2026-10-18 22:41:05
+   * @params: [url, request] 请求地址，请求对象
+   * @return: cn.ares.boot.util.http.entity.HttpResult 响应结果
+   */
+  public static <T> HttpResult postForResult(String url, T request) throws Exception {
+    return postForResult(url, request, Collections.emptyMap());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起Post请求并返回结果
+   * @description: Pass in the request object and message header to initiate a Post request and
+   * return the result
+   * @time: 2026-10-18 22:41:05
+   * @params: [url, request, headers] 请求地址，请求对象，消息头
+   * @return: cn.ares.boot.util.http.entity.HttpResult 响应结果
+   */
+  public static <T> HttpResult postForResult(String url, T request, Map<String, String> headers)
+      throws Exception {
+    HttpPost httpPost = new HttpPost(url);
+    httpPost.setHeader(CONTENT_TYPE, APPLICATION_JSON.toString());
+    configRequest(httpPost, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+    return requestForResult(httpPost, request);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 发起Delete请求并返回结果
+   * @description: Initiate a Delete request and return the result
+   * @time: 2026-10-18 22:41:05
+   * @params: [url] 请求地址
+   * @return: cn.ares.boot.util.http.entity.HttpResult 响应结果
+   */
+  public static HttpResult deleteForResult(String url) throws Exception {
+    return deleteForResult(url, Collections.emptyMap());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起Delete请求并返回结果
+   * @description: Use the message header to initiate a Delete request and return the result
+   * @time: 2026-10-18 22:41:05
+   * @params: [url, headers] 请求地址，消息头
+   * @return: cn.ares.boot.util.http.entity.HttpResult 响应结果
+   */
+  public static HttpResult deleteForResult(String url, Map<String, String> headers)
+      throws Exception {
+    HttpDelete httpDelete = new HttpDelete(url);
+    httpDelete.setHeader(CONTENT_TYPE, APPLICATION_JSON.toString());
+    configRequest(httpDelete, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+    return requestForResult(httpDelete, null);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用请求对象发起异步Post请求，响应在I/O反应器线程上完成，后续阶段有阻塞操作时应使用*Async方法切换执行器
+   * @description: Use the request object to initiate an asynchronous Post request, the response is
+   * completed on the I/O reactor thread, subsequent stages with blocking operations should switch
+   * executor by the *Async methods
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, request] 请求地址，请求对象
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> postAsync(String url, T request) {
+    return postAsync(url, request, Collections.emptyMap());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起异步Post请求
+   * @description: Pass in the request object and message header to initiate an asynchronous Post
+   * request
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, request, headers] 请求地址，请求对象，消息头
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> postAsync(String url, T request,
+      Map<String, String> headers) {
+    return postAsync(url, request, headers, config.getSocketTimeout());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起异步Post请求（等待指定超时时间）
+   * @description: Pass in the request object and message header to initiate an asynchronous Post
+   * request (wait for the specified timeout)
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, request, headers, socketTimeout] 请求地址，请求对象，消息头，超时时间
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> postAsync(String url, T request,
+      Map<String, String> headers, int socketTimeout) {
+    return postAsync(url, request, headers, socketTimeout, config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起异步Post请求（等待指定超时时间、连接超时时间、连接获取超时时间）
+   * @description: Pass in the request object and message header to initiate an asynchronous Post
+   * request (waiting for the specified timeout, connection timeout, and connection acquisition
+   * timeout)
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, request, headers, socketTimeout, connectTimeout, connectionRequestTimeout]
+   * 请求地址，请求对象，消息头，套接字超时时间，连接超时时间，连接获取超时时间
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> postAsync(String url, T request,
+      Map<String, String> headers, int socketTimeout, int connectTimeout,
+      int connectionRequestTimeout) {
+    SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.post(url);
+    requestBuilder.setHeader(CONTENT_TYPE, APPLICATION_JSON.toString());
+    return requestAsync(requestBuilder, request, headers, socketTimeout, connectTimeout,
+        connectionRequestTimeout);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 发起异步get请求
+   * @description: Initiate an asynchronous get request
+   * @time: 2026-10-18 19:20:11
+   * @params: [url] 请求地址
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static CompletableFuture<String> getAsync(String url) {
+    return getAsync(url, Collections.emptyMap());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起异步get请求
+   * @description: Use the message header to initiate an asynchronous get request
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, headers] 请求地址，消息头
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static CompletableFuture<String> getAsync(String url, Map<String, String> headers) {
+    return getAsync(url, headers, config.getSocketTimeout(), config.getConnectTimeout(),
+        config.getConnectionRequestTimeout());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用请求对象和消息头发起异步get请求
+   * @description: Use the request object and message header to initiate an asynchronous get request
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, param, headers] 请求地址，请求对象，消息头
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> getAsync(String url, T param,
+      Map<String, String> headers) {
+    if (null != param) {
+      String query = HttpClientUtil.encodeGetRequest(param);
+      if (StringUtil.isNotEmpty(query)) {
+        url += QUESTION_MARK + query;
+      }
+    }
+    return getAsync(url, headers);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用消息头发起异步get请求（等待超时时间，连接超时时间，连接获取超时时间）
+   * @description: Use the message header to initiate an asynchronous get request (waiting timeout,
+   * connection timeout, connection acquisition timeout)
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, headers, socketTimeout, connectTimeout, connectionRequestTimeout]
+   * 请求地址，消息头，套接字超时时间，连接超时时间，连接获取超时时间
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static CompletableFuture<String> getAsync(String url, Map<String, String> headers,
+      int socketTimeout, int connectTimeout, int connectionRequestTimeout) {
+    SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.get(url);
+    requestBuilder.setHeader(CONTENT_TYPE, APPLICATION_FORM_URLENCODED.toString());
+    return requestAsync(requestBuilder, null, headers, socketTimeout, connectTimeout,
+        connectionRequestTimeout);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用请求对象发起异步Delete请求
+   * @description: Use the request object to initiate an asynchronous Delete request
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, request] 请求地址，请求对象
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> deleteAsync(String url, T request) {
+    return deleteAsync(url, request, Collections.emptyMap());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起异步Delete请求
+   * @description: Pass in the request object and message header to initiate an asynchronous Delete
+   * request
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, request, headers] 请求地址，请求对象，消息头
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> deleteAsync(String url, T request,
+      Map<String, String> headers) {
+    return deleteAsync(url, request, headers, config.getSocketTimeout(),
+        config.getConnectTimeout(), config.getConnectionRequestTimeout());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 传入请求对象和消息头发起异步Delete请求（等待指定超时时间、连接超时时间、连接获取超时时间）
+   * @description: Pass in the request object and message header to initiate an asynchronous Delete
+   * request (waiting for the specified timeout, connection timeout, and connection acquisition
+   * timeout)
+   * @time: 2026-10-18 19:20:11
+   * @params: [url, request, headers, socketTimeout, connectTimeout, connectionRequestTimeout]
+   * 请求地址，请求对象，消息头，套接字超时时间，连接超时时间，连接获取超时时间
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  public static <T> CompletableFuture<String> deleteAsync(String url, T request,
+      Map<String, String> headers, int socketTimeout, int connectTimeout,
+      int connectionRequestTimeout) {
+    SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.delete(url);
+    requestBuilder.setHeader(CONTENT_TYPE, APPLICATION_JSON.toString());
+    return requestAsync(requestBuilder, request, headers, socketTimeout, connectTimeout,
+        connectionRequestTimeout);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取各路由的连接池指标快照(已借出、可用、等待、最大连接数，开启pool.metrics-enabled时还有获取连接等待、
+   * 建连、TLS握手、首字节、读响应体耗时和连接存活时长、每连接请求数的直方图)
+   * @description: Get the pool metrics snapshot of each route (leased, available, pending and max
+   * connections, and when pool.metrics-enabled is on also the histograms of lease wait, connect,
+   * TLS handshake, time to first byte, body read, connection age and requests per connection)
+   * @time: 2026-10-18 22:14:39
+   * @params: []
+   * @return: java.util.Map<java.lang.String,cn.ares.boot.util.http.metrics.RoutePoolMetrics>
+   */
+  public static Map<String, RoutePoolMetrics> getPoolMetrics() {
+    return InstrumentedConnectionManager.snapshot(connectionManager);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取当前线程最近一次http/1.1同步请求的各阶段耗时，未开启pool.metrics-enabled时为空
+   * @description: Get the phase timings of the last http/1.1 synchronous request on the current
+   * thread, null when pool.metrics-enabled is off
+   * @time: 2026-10-18 22:14:39
+   * @params: []
+   * @return: cn.ares.boot.util.http.metrics.RequestTimings
+   */
+  public static RequestTimings getLastRequestTimings() {
+    return RequestTimings.last();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取当前线程最后一次http请求的请求头，需开启capture-headers，不会传递给子线程
+   * @description: Get the request headers of the last http request on the current thread,
+   * capture-headers is required, they are not passed to child threads
    * @time: 2022-07-14 14:22:18
    * @params: []
    * @return: org.apache.http.Header[] 请求消息头
@@ -588,8 +1501,10 @@ public class HttpClientUtil implements ApplicationContextAware {
 
   /**
    * @author: Ares
-   * @description: 获取最后一次http请求的响应头
-   * @description: Get the response headers of the last http request
+   * @description: 获取当前线程最后一次http请求的响应头，需开启capture-headers，不会传递给子线程，也可使用*ForResult方法直接获取响应头
+   * @description: Get the response headers of the last http request on the current thread,
+   * capture-headers is required, they are not passed to child threads, the *ForResult methods can
+   * also get the response headers directly
    * @time: 2022-07-14 14:33:08
    * @params: []
    * @return: org.apache.http.Header[] 响应消息头
@@ -598,94 +1513,314 @@ public class HttpClientUtil implements ApplicationContextAware {
     return ThreadLocalMapUtil.get(HTTP_RESPONSE_HEADERS);
   }
 
-  private static void handleObjectNode(JsonNode jsonNode, StringJoiner result, String prefix)
-      throws UnsupportedEncodingException {
-    if (null != jsonNode) {
-      Iterator<String> iterator = jsonNode.fieldNames();
-      while (iterator.hasNext()) {
-        String key = iterator.next();
-        JsonNode currentNode = jsonNode.get(key);
-        if (currentNode instanceof NullNode) {
-          continue;
-        }
-        if (currentNode.isObject()) {
-          handleObjectNode(currentNode, result, key + SPOT);
-        } else if (currentNode.isArray()) {
-          handleArrayNode(currentNode, result, key);
+  /**
+   * @author: Ares
+   * @description: 请求通用代码
+   * @description: Request generic code
+   * @time: 2019-05-08 15:46:00
+   * @params: [requestBase, url, request, fileSavePath] 请求基类，请求地址，请求对象，文件保存地址（可选）
+   * @return: java.lang.String 响应结果
+   **/
+  private static <T> String request(HttpUriRequestBase requestBase, T request, String fileSavePath)
+      throws Exception {
+    setBody(requestBase, request);
+    // 下载文件时使用http/1.1流式写入文件
+    // Use http/1.1 to stream into the file when downloading a file
+    if (StringUtil.isBlank(fileSavePath) && isHttp2(requestBase.getUri())) {
+      return requestHttp2(requestBase);
+    }
+    return execute(requestBase, new BasicHttpClientResponseHandler() {
+      @Override
+      public String handleResponse(ClassicHttpResponse response) throws IOException {
+        captureHeaders(HTTP_RESPONSE_HEADERS, response);
+        // 先于父类校验状态码，父类对非2xx抛出的HttpResponseException会被路由保护计为失败
+        // Check the status code before the parent, the HttpResponseException thrown by the parent
+        // for non 2xx would be counted as a failure by the route guard
+        checkStatus(response);
+
+        if (StringUtil.isBlank(fileSavePath)) {
+          return super.handleResponse(response);
         } else {
-          String encodeKey = URLEncoder.encode(prefix + key, Charset.defaultCharset().name());
-          String encodeValue = URLEncoder.encode(currentNode.asText(),
-              Charset.defaultCharset().name());
-          result.add(encodeKey + EQUALS + encodeValue);
+          // 通过通道传输直接写入文件，不在堆上缓冲整个响应
+          // Write to the file directly by channel transfer without buffering the whole response on heap
+          HttpEntity entity = response.getEntity();
+          if (null != entity) {
+            FileUtil.transferToFile(entity.getContent(), new File(fileSavePath));
+          }
         }
+        return null;
       }
-    }
+    });
   }
 
-  private static void handleArrayNode(JsonNode jsonNode, StringJoiner result, String prefix)
-      throws UnsupportedEncodingException {
-    if (null != jsonNode) {
-      Iterator<JsonNode> arrayIterator = jsonNode.elements();
-      int index = 0;
-      while (arrayIterator.hasNext()) {
-        JsonNode currentNode = arrayIterator.next();
-        String key = prefix + LEFT_SQ_BRACKET + index + RIGHT_SQ_BRACKET;
-        if (currentNode.isObject()) {
-          handleObjectNode(currentNode, result, key + SPOT);
-        } else if (currentNode.isArray()) {
-          handleArrayNode(currentNode, result, key);
-        } else {
-          String encodeKey = URLEncoder.encode(key, Charset.defaultCharset().name());
-          String encodeValue = URLEncoder.encode(currentNode.asText(),
-              Charset.defaultCharset().name());
-          result.add(encodeKey + EQUALS + encodeValue);
-        }
-        index++;
+  /**
+   * @author: Ares
+   * @description: 流式请求通用代码，响应体输入流交给消费者处理，消费者返回后关闭
+   * @description: Streaming request generic code, the response body input stream is handed to the
+   * consumer and closed after the consumer returns
+   * @time: 2026-10-18 20:06:52
+   * @params: [requestBase, request, consumer] 请求基类，请求对象，响应体消费者
+   * @return: void
+   */
+  private static <T> void requestStream(HttpUriRequestBase requestBase, T request,
+      ConsumerWithException<InputStream> consumer) throws Exception {
+    setBody(requestBase, request);
+    execute(requestBase, response -> {
+      captureHeaders(HTTP_RESPONSE_HEADERS, response);
+      checkStatus(response);
+      HttpEntity entity = response.getEntity();
+      try (InputStream inputStream = null == entity ? new ByteArrayInputStream(new byte[0])
+          : entity.getContent()) {
+        consumer.accept(inputStream);
+      } catch (IOException | RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException(e);
       }
+      return null;
+    });
+  }
+
+  /**
+   * @author: Ares
+   * @description: 解析对象的请求通用代码，响应输入流直接交给解析器，http/2时从响应字节解析
+   * @description: Object parsing request generic code, the response input stream is handed to the
+   * parser directly, parse from the response bytes when using http/2
+   * @time: 2026-10-18 20:31:40
+   * @params: [requestBase, request, parser] 请求基类，请求对象，解析器
+   * @return: R 响应对象
+   */
+  private static <T, R> R requestForObject(HttpUriRequestBase requestBase, T request,
+      Function<InputStream, R> parser) throws Exception {
+    setBody(requestBase, request);
+    if (isHttp2(requestBase.getUri())) {
+      SimpleHttpResponse response = executeHttp2(requestBase, true);
+      byte[] body = response.getBodyBytes();
+      return null == body ? null : parser.apply(new ByteArrayInputStream(body));
     }
+    return execute(requestBase, response -> {
+      captureHeaders(HTTP_RESPONSE_HEADERS, response);
+      checkStatus(response);
+      HttpEntity entity = response.getEntity();
+      if (null == entity) {
+        return null;
+      }
+      try (InputStream inputStream = entity.getContent()) {
+        return parser.apply(inputStream);
+      }
+    });
   }
 
   /**
    * @author: Ares
-   * @description: 请求通用代码
-   * @description: Request generic code
-   * @time: 2019-05-08 15:46:00
-   * @params: [requestBase, url, request, fileSavePath] 请求基类，请求地址，请求对象，文件保存地址（可选）
-   * @return: java.lang.String 响应结果
-   **/
-  private static <T> String request(HttpUriRequestBase requestBase, T request, String fileSavePath)
+   * @description: 返回结果对象的请求通用代码，不校验状态码
+   * @description: Result object request generic code, the status code is not checked
+   * @time: 2026-10-18 22:41:05
+   * @params: [requestBase, request] 请求基类，请求对象
+   * @return: cn.ares.boot.util.http.entity.HttpResult 响应结果
+   */
+  private static <T> HttpResult requestForResult(HttpUriRequestBase requestBase, T request)
       throws Exception {
     setBody(requestBase, request);
+    if (isHttp2(requestBase.getUri())) {
+      SimpleHttpResponse response = executeHttp2(requestBase, false);
+      return new HttpResult(response.getCode(), response.getHeaders(), response.getBodyText());
+    }
+    return execute(requestBase, response -> {
+      captureHeaders(HTTP_RESPONSE_HEADERS, response);
+      HttpEntity entity = response.getEntity();
+      return new HttpResult(response.getCode(), response.getHeaders(),
+          null == entity ? null : EntityUtils.toString(entity));
+    });
+  }
+
+  private static void captureHeaders(String key, MessageHeaders message) {
+    if (config.isCaptureHeaders()) {
+      ThreadLocalMapUtil.set(key, message.getHeaders());
+    }
+  }
+
+  private static <R> R execute(HttpUriRequestBase requestBase,
+      HttpClientResponseHandler<R> responseHandler) throws Exception {
     URI uri = requestBase.getUri();
     int port = NetworkUtil.extractPort(uri);
-    return getHttpClient(uri.getHost(), port).execute(requestBase, HttpClientContext.create(),
-        new BasicHttpClientResponseHandler() {
-          @Override
-          public String handleResponse(ClassicHttpResponse response) throws IOException {
-            ThreadLocalMapUtil.set(HTTP_RESPONSE_HEADERS, response.getHeaders());
-
-            if (StringUtil.isBlank(fileSavePath)) {
-              String result = super.handleResponse(response);
-              int statusCode = response.getCode();
-              if (statusCode < HttpStatus.SC_OK || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
-                throw new RuntimeException(
-                    "Status code is " + statusCode + ", response is " + result);
-              }
-              return result;
-            } else {
-              // 读取数据
-              // read data
-              byte[] bytes = EntityUtils.toByteArray(response.getEntity());
+    CloseableHttpClient httpClient = getHttpClient(uri.getHost(), port);
+    HttpClientContext context = HttpClientContext.create();
+    PoolingHttpClientConnectionManager manager = connectionManager;
+    if (!(manager instanceof InstrumentedConnectionManager)) {
+      return guard(uri, () -> httpClient.execute(requestBase, context, responseHandler));
+    }
+    RequestTimings timings = RequestTimings.start(uri.getHost() + COLON + port);
+    try {
+      return guard(uri, () -> httpClient.execute(requestBase, context, responseHandler));
+    } finally {
+      timings.end();
+      ((InstrumentedConnectionManager) manager).record(timings, context.getEndpointDetails());
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 在路由的熔断器和并发限制保护下执行同步调用，在获取连接之前检查，不允许时快速失败
+   * @description: Execute the synchronous call under the protection of the route circuit breaker and
+   * concurrency limiter, checked before leasing a connection and fail fast when not permitted
+   * @time: 2026-10-18 21:49:27
+   * @params: [uri, call] 请求地址，调用
+   * @return: R 调用结果
+   */
+  private static <R> R guard(URI uri, Callable<R> call) throws Exception {
+    RouteGuard routeGuard = getRouteGuard(uri.getHost(), NetworkUtil.extractPort(uri));
+    if (null == routeGuard) {
+      return call.call();
+    }
+    routeGuard.acquire();
+    long start = System.nanoTime();
+    try {
+      R result = call.call();
+      // 不抛异常的结果对象的5xx同样计为失败
+      // 5xx of the result object which does not throw is also counted as a failure
+      routeGuard.onComplete(System.nanoTime() - start, result instanceof HttpResult
+          && ((HttpResult) result).getStatusCode() >= HttpStatus.SC_INTERNAL_SERVER_ERROR
+          ? new HttpStatusException(((HttpResult) result).getStatusCode(), null) : null);
+      return result;
+    } catch (Exception e) {
+      routeGuard.onComplete(System.nanoTime() - start, e);
+      throw e;
+    }
+  }
+
+  private static void checkStatus(ClassicHttpResponse response) throws IOException {
+    int statusCode = response.getCode();
+    if (statusCode < HttpStatus.SC_OK || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
+      HttpEntity entity = response.getEntity();
+      try {
+        throw new HttpStatusException(statusCode,
+            null == entity ? null : EntityUtils.toString(entity));
+      } catch (ParseException e) {
+        throw new ClientProtocolException(e);
+      }
+    }
+  }
+
+
+  /**
+   * @author: Ares
+   * @description: 使用http/2客户端发起同步请求，等待响应期间阻塞当前线程但不独占连接
+   * @description: Initiate a synchronous request by the http/2 client, block the current thread
+   * while waiting for the response but do not occupy the connection exclusively
+   * @time: 2026-10-18 19:48:36
+   * @params: [requestBase] 请求基类
+   * @return: java.lang.String 响应结果
+   */
+  private static String requestHttp2(HttpUriRequestBase requestBase) throws Exception {
+    return executeHttp2(requestBase, true).getBodyText();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 把同步请求转为http/2请求执行，可选校验状态码
+   * @description: Convert the synchronous request to a http/2 request and execute it, optionally
+   * check the status code
+   * @time: 2026-10-18 20:31:40
+   * @params: [requestBase, checkStatus] 请求基类，是否校验状态码
+   * @return: org.apache.hc.client5.http.async.methods.SimpleHttpResponse 响应
+   */
+  private static SimpleHttpResponse executeHttp2(HttpUriRequestBase requestBase,
+      boolean checkStatus) throws Exception {
+    SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.create(requestBase.getMethod())
+        .setUri(requestBase.getUri()).setHeaders(requestBase.getHeaders())
+        .setRequestConfig(requestBase.getConfig());
+    HttpEntity entity = requestBase.getEntity();
+    if (null != entity) {
+      requestBuilder.setBody(EntityUtils.toByteArray(entity),
+          ContentType.parse(entity.getContentType()));
+    }
+    SimpleHttpRequest httpRequest = requestBuilder.build();
+    SimpleHttpResponse response = guard(requestBase.getUri(), () -> {
+      SimpleHttpResponse http2Response;
+      try {
+        http2Response = getHttp2Client().execute(httpRequest, null).get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        throw cause instanceof Exception ? (Exception) cause : e;
+      }
+      captureHeaders(HTTP_RESPONSE_HEADERS, http2Response);
+
+      int statusCode = http2Response.getCode();
+      if (checkStatus && (statusCode < HttpStatus.SC_OK
+          || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES)) {
+        throw new HttpStatusException(statusCode, http2Response.getBodyText());
+      }
+      return http2Response;
+    });
+    return response;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 异步请求通用代码，取消返回的future时会取消底层的请求
+   * @description: Asynchronous request generic code, cancelling the returned future cancels the
+   * underlying request
+   * @time: 2026-10-18 19:20:11
+   * @params: [requestBuilder, request, headers, socketTimeout, connectTimeout,
+   * connectionRequestTimeout] 请求构造器，请求对象，消息头，套接字超时时间，连接超时时间，连接获取超时时间
+   * @return: java.util.concurrent.CompletableFuture<java.lang.String> 响应结果
+   */
+  private static <T> CompletableFuture<String> requestAsync(SimpleRequestBuilder requestBuilder,
+      T request, Map<String, String> headers, int socketTimeout, int connectTimeout,
+      int connectionRequestTimeout) {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    try {
+      headers.forEach(requestBuilder::setHeader);
+      if (config.isCaptureHeaders()) {
+        ThreadLocalMapUtil.set(HTTP_REQUEST_HEADERS, requestBuilder.getHeaders());
+      }
+      requestBuilder.setRequestConfig(
+          buildRequestConfig(socketTimeout, connectTimeout, connectionRequestTimeout));
+      setBody(requestBuilder, request);
+
+      SimpleHttpRequest httpRequest = requestBuilder.build();
+      URI uri = httpRequest.getUri();
+      CloseableHttpAsyncClient client = isHttp2(uri) ? getHttp2Client() : getAsyncHttpClient();
+      RouteGuard routeGuard = getRouteGuard(uri.getHost(), NetworkUtil.extractPort(uri));
+      if (null != routeGuard) {
+        routeGuard.acquire();
+        long start = System.nanoTime();
+        future.whenComplete((result, throwable) -> routeGuard.onComplete(
+            System.nanoTime() - start, throwable));
+      }
+      Future<SimpleHttpResponse> httpFuture = client.execute(httpRequest,
+          new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
               int statusCode = response.getCode();
               if (statusCode < HttpStatus.SC_OK || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
-                throw new RuntimeException(
-                    "Status code is " + statusCode + ", response is " + new String(bytes));
+                future.completeExceptionally(
+                    new HttpStatusException(statusCode, response.getBodyText()));
+              } else {
+                future.complete(response.getBodyText());
               }
-              FileUtil.writeByteArrayToFile(new File(fileSavePath), bytes);
             }
-            return null;
-          }
-        });
+
+            @Override
+            public void failed(Exception e) {
+              future.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+              future.cancel(false);
+            }
+          });
+      future.whenComplete((result, throwable) -> {
+        if (future.isCancelled()) {
+          httpFuture.cancel(true);
+        }
+      });
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+    return future;
   }
 
   /**
@@ -711,8 +1846,39 @@ public class HttpClientUtil implements ApplicationContextAware {
     String headerValue = header.getValue();
     if (headerValue.contains(APPLICATION_FORM_URLENCODED.getMimeType())) {
       httpPost.setEntity(new StringEntity(encodeGetRequest(request), Charset.defaultCharset()));
+    } else if (config.isStreamJsonBody()) {
+      httpPost.setEntity(new JsonStreamEntity(request));
+    } else {
+      httpPost.setEntity(new ByteArrayEntity(JsonUtil.toBytes(request), APPLICATION_JSON));
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 异步请求需要设置消息体，规则与同步请求一致
+   * @description: The asynchronous request needs to set the message body, the rule is the same as
+   * the synchronous request
+   * @time: 2026-10-18 19:20:11
+   * @params: [requestBuilder, request] 请求构造器, 请求消息体
+   * @return: void
+   */
+  private static <T> void setBody(SimpleRequestBuilder requestBuilder, T request) {
+    if (null == request) {
+      return;
+    }
+    if (!Method.POST.isSame(requestBuilder.getMethod())) {
+      return;
+    }
+    Header header = requestBuilder.getFirstHeader(CONTENT_TYPE);
+    if (null == header) {
+      return;
+    }
+    String headerValue = header.getValue();
+    if (headerValue.contains(APPLICATION_FORM_URLENCODED.getMimeType())) {
+      requestBuilder.setBody(encodeGetRequest(request),
+          APPLICATION_FORM_URLENCODED.withCharset(Charset.defaultCharset()));
     } else {
-      httpPost.setEntity(new StringEntity(JsonUtil.toJsonString(request), APPLICATION_JSON));
+      requestBuilder.setBody(JsonUtil.toBytes(request), APPLICATION_JSON);
     }
   }
 
@@ -735,15 +1901,20 @@ public class HttpClientUtil implements ApplicationContextAware {
     // 根据外部传入参数设置消息头
     // Set message headers based on external incoming parameters
     headers.forEach(requestBase::setHeader);
-    ThreadLocalMapUtil.set(HTTP_REQUEST_HEADERS, requestBase.getHeaders());
+    captureHeaders(HTTP_REQUEST_HEADERS, requestBase);
 
     // setConnectionManagerShared谨慎使用, 误用会导致关闭一个host或ip和port下的client会关闭公用的manager
     // Use setConnectionManagerShared with caution, misuse will lead to closing a host or client under ip and port will close the public manager
-    RequestConfig requestConfig = RequestConfig.custom()
+    requestBase.setConfig(
+        buildRequestConfig(socketTimeout, connectTimeout, connectionRequestTimeout));
+  }
+
+  private static RequestConfig buildRequestConfig(int socketTimeout, int connectTimeout,
+      int connectionRequestTimeout) {
+    return RequestConfig.custom()
         .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
         .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
         .setResponseTimeout(Timeout.ofMilliseconds(socketTimeout)).build();
-    requestBase.setConfig(requestConfig);
   }
 
   private static HttpHost buildHttpProxy() {
@@ -770,23 +1941,22 @@ public class HttpClientUtil implements ApplicationContextAware {
       HostnameVerifier hostnameVerifier) {
     ConnectionSocketFactory connectionSocketFactory = PlainConnectionSocketFactory.getSocketFactory();
     HttpsConfig httpsConfig = httpConnectionConfig.getHttps();
-    // 为空时构造一个hostnameVerifier不为空时使用传入的以支持用户自定义
-    if (null == hostnameVerifier) {
-      if (httpsConfig.isNoopHostnameVerifier()) {
-        hostnameVerifier = NoopHostnameVerifier.INSTANCE;
-      } else {
-        hostnameVerifier = new DefaultHostnameVerifier(PublicSuffixMatcherLoader.getDefault());
-      }
-    }
+    customHostnameVerifier = hostnameVerifier;
+    hostnameVerifier = getHostnameVerifier(httpsConfig, hostnameVerifier);
     String[] supportedProtocols = httpsConfig.getSupportedProtocols();
     if (ArrayUtil.isEmpty(supportedProtocols)) {
       supportedProtocols = null;
     }
-    LayeredConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(
-        SSLContexts.createDefault(), supportedProtocols, null, hostnameVerifier);
+    boolean metricsEnabled = httpConnectionConfig.getPool().isMetricsEnabled();
+    LayeredConnectionSocketFactory socketFactory = metricsEnabled ? new SSLConnectionSocketFactory(
+        new TimingSslSocketFactory(SSLContexts.createDefault().getSocketFactory()),
+        supportedProtocols, null, hostnameVerifier)
+        : new SSLConnectionSocketFactory(SSLContexts.createDefault(), supportedProtocols, null,
+            hostnameVerifier);
     Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
         .register("http", connectionSocketFactory).register("https", socketFactory).build();
-    connectionManager = new PoolingHttpClientConnectionManager(registry);
+    connectionManager = metricsEnabled ? new InstrumentedConnectionManager(registry)
+        : new PoolingHttpClientConnectionManager(registry);
     // 设置最大连接数, 默认20，框架设置为200
     // Set the maximum number of connections, the default is 20, framework set to 200
     connectionManager.setMaxTotal(httpConnectionConfig.getPool().getMaxTotal());
@@ -795,34 +1965,76 @@ public class HttpClientUtil implements ApplicationContextAware {
     connectionManager.setDefaultMaxPerRoute(httpConnectionConfig.getPool().getMaxPerRoute());
   }
 
+  private static HostnameVerifier getHostnameVerifier(HttpsConfig httpsConfig,
+      HostnameVerifier hostnameVerifier) {
+    // 为空时构造一个hostnameVerifier不为空时使用传入的以支持用户自定义
+    if (null != hostnameVerifier) {
+      return hostnameVerifier;
+    }
+    if (httpsConfig.isNoopHostnameVerifier()) {
+      return NoopHostnameVerifier.INSTANCE;
+    }
+    return new DefaultHostnameVerifier(PublicSuffixMatcherLoader.getDefault());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取监控线程池，未启动或已关闭时在锁内启动，保证并发获取时只启动一次且不会拿到未初始化的线程池
+   * @description: Get the monitor executor, start it under the lock when not started or already
+   * shut down, ensure that concurrent gets start it only once and never see an uninitialized
+   * executor
+   * @time: 2026-10-18 23:41:26
+   * @params: []
+   * @return: java.util.concurrent.ScheduledExecutorService
+   */
+  private static ScheduledExecutorService getMonitorExecutor() {
+    ScheduledExecutorService executor = monitorExecutor;
+    if (null == executor) {
+      synchronized (MONITOR_LOCK) {
+        executor = monitorExecutor;
+        if (null == executor) {
+          executor = startMonitor();
+          monitorExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
   /**
    * @author: Ares
    * @description: 开启监控线程, 对异常和空闲线程进行关闭
    * @description: Start monitoring threads, close exceptions and idle threads
    * @time: 2019-08-17 09:49:00
    * @params: []
-   * @return: void
+   * @return: java.util.concurrent.ScheduledExecutorService
    */
-  private static void startMonitor() {
+  private static ScheduledExecutorService startMonitor() {
     // 使用命名的线程工厂，在排查问题有标识性
     // Use named thread factories to identify issues when troubleshooting
     ThreadFactory monitorHttpConnectPoolFactory = new NameThreadFactory().setNameFormat(
         HTTP_POOL_MONITOR_THREAD_FACTORY_NAME).setDaemon(true).build();
     int monitorThreadNum = config.getPool().getMonitorThreadNum();
-    monitorExecutor = new ScheduledThreadPoolExecutor(monitorThreadNum,
+    ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(monitorThreadNum,
         monitorHttpConnectPoolFactory);
 
+    long period = getEvictionPeriod();
+    for (int i = 0; i < monitorThreadNum; i++) {
+      MonitorHttpWorker worker = new MonitorHttpWorker(connectionManager);
+
+      executor.scheduleAtFixedRate(worker, period, period, TimeUnit.MILLISECONDS);
+    }
+    return executor;
+  }
+
+  private static long getEvictionPeriod() {
     long period = config.getPool().getTimeBetweenEvictionRunsMillis();
     // 如果为-1则按照evictableIdleTimeMillis自动计算线程执行周期
     if (-1 == period) {
       // 防止连接超时发生在清理线程未工作时，需小于evictableIdleTimeMillis/2, 这里的500ms可以视作留给连接处理的时间
       period = getEvictableIdleTimeMillis() / 2 - 500;
     }
-    for (int i = 0; i < monitorThreadNum; i++) {
-      MonitorHttpWorker worker = new MonitorHttpWorker(connectionManager);
-
-      monitorExecutor.scheduleAtFixedRate(worker, period, period, TimeUnit.MILLISECONDS);
-    }
+    return period;
   }
 
   public static void closeHttpConnectionPool() {
@@ -831,12 +2043,53 @@ public class HttpClientUtil implements ApplicationContextAware {
         httpClient.close();
       }
       connectionManager.close();
-      monitorExecutor.shutdown();
+      // 与异步客户端的创建互斥，避免新客户端的监控任务提交到正在关闭的线程池
+      // Mutually exclusive with the creation of the async client, avoid submitting the monitoring
+      // task of a new client to the executor being shut down
+      synchronized (ASYNC_CLIENT_LOCK) {
+        closeAsyncHttpClient();
+        synchronized (MONITOR_LOCK) {
+          ScheduledExecutorService executor = monitorExecutor;
+          monitorExecutor = null;
+          if (null != executor) {
+            executor.shutdown();
+          }
+        }
+      }
     } catch (IOException e) {
       LOGGER.error("close http connection pool exception: ", e);
     }
   }
 
+  /**
+   * @author: Ares
+   * @description: 关闭Http异步请求客户端和Http/2请求客户端，再次使用时会重新创建
+   * @description: Close the Http asynchronous request client and the Http/2 request client, they
+   * will be recreated when used again
+   * @time: 2026-10-18 19:20:11
+   * @params: []
+   * @return: void
+   */
+  public static void closeAsyncHttpClient() {
+    synchronized (ASYNC_CLIENT_LOCK) {
+      CloseableHttpAsyncClient client = asyncHttpClient;
+      CloseableHttpAsyncClient h2Client = http2Client;
+      asyncHttpClient = null;
+      http2Client = null;
+      try {
+        if (null != client) {
+          asyncMonitorFuture.cancel(false);
+          client.close();
+        }
+        if (null != h2Client) {
+          h2Client.close();
+        }
+      } catch (IOException e) {
+        LOGGER.error("close http async client exception: ", e);
+      }
+    }
+  }
+
   public static void closeHttpConnectionPool(String singleHostPort) {
     try {
       CloseableHttpClient httpClient = HTTP_CLIENT_MAP.get(singleHostPort);
@@ -864,13 +2117,17 @@ public class HttpClientUtil implements ApplicationContextAware {
     // 重新初始化Http连接池管理对象（第一次初始化在静态块中取不到spring的配置）
     // Reinitializing the Http connection pool management object (the first time initializing a configuration that does not fetch spring in a static block)
     initManager(config, hostnameVerifier);
+    // 已按默认配置创建的异步客户端需关闭, 下次使用时按spring的配置重新创建
+    // The asynchronous client created with the default config needs to be closed, it is recreated with the spring config when used next time
+    closeAsyncHttpClient();
+    ROUTE_GUARD_MAP.clear();
   }
 
   private static class MonitorHttpWorker implements Runnable {
 
-    private final PoolingHttpClientConnectionManager manager;
+    private final ConnPoolControl<HttpRoute> manager;
 
-    MonitorHttpWorker(PoolingHttpClientConnectionManager manager) {
+    MonitorHttpWorker(ConnPoolControl<HttpRoute> manager) {
       super();
       this.manager = manager;
     }
@@ -890,6 +2147,9 @@ public class HttpClientUtil implements ApplicationContextAware {
       int evictableIdleTimeMillis = getEvictableIdleTimeMillis();
       // 关闭空闲的连接
       manager.closeIdle(TimeValue.ofMilliseconds(evictableIdleTimeMillis));
+      if (manager instanceof InstrumentedConnectionManager) {
+        ((InstrumentedConnectionManager) manager).retireIdleConnections(evictableIdleTimeMillis);
+      }
       LOGGER.debug("close expired connections and over {} ms idle connections",
           evictableIdleTimeMillis);
     }
@@ -2,6 +2,11 @@ package cn.ares.boot.util.http.config;
 
 import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRASTRUCTURE;
 
+import cn.ares.boot.util.http.upstream.LoadBalancerType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -46,6 +51,26 @@ public class HttpConnectionConfig {
   @Value("${retry-times:3}")
   private int retryTimes = 3;
 
+  /**
+   * 是否把每次请求的请求头和响应头保存到线程上下文，供getLastHttpRequestHeaders和getLastHttpResponseHeaders获取；
+   * 默认关闭以免热路径上的分配，需要响应头时建议使用*ForResult方法 Whether to save the request and response
+   * headers of each request into the thread context for getLastHttpRequestHeaders and
+   * getLastHttpResponseHeaders; off by default to avoid allocation on the hot path, the *ForResult
+   * methods are suggested when the response headers are needed
+   */
+  @Value("${capture-headers:false}")
+  private boolean captureHeaders;
+
+  /**
+   * 是否流式发送json请求体，开启后由Jackson直接写入套接字而不在堆上生成完整内容，但长度未知只能使用分块传输，需确保服务端支持；
+   * 默认关闭，序列化为字节数组后以Content-Length发送 Whether to stream the json request body, when on
+   * Jackson writes to the socket directly without building the whole content on heap, but the length
+   * is unknown so chunked transfer is used, make sure the server supports it; off by default, the body
+   * is serialized to a byte array and sent with Content-Length
+   */
+  @Value("${stream-json-body:false}")
+  private boolean streamJsonBody;
+
   /**
    * 连接池
    */
@@ -58,6 +83,26 @@ public class HttpConnectionConfig {
 
   private HttpsConfig https = new HttpsConfig();
 
+  /**
+   * http/2
+   */
+  private Http2Config http2 = new Http2Config();
+
+  /**
+   * 路由熔断器 Route circuit breaker
+   */
+  private CircuitBreakerConfig circuitBreaker = new CircuitBreakerConfig();
+
+  /**
+   * 路由自适应并发限制 Route adaptive concurrency limit
+   */
+  private ConcurrencyLimitConfig concurrencyLimit = new ConcurrencyLimitConfig();
+
+  /**
+   * 命名的上游服务，键为上游名称 Named upstreams, the key is the upstream name
+   */
+  private Map<String, UpstreamConfig> upstreams = new HashMap<>();
+
   public int getSocketTimeout() {
     return socketTimeout;
   }
@@ -90,6 +135,22 @@ public class HttpConnectionConfig {
     this.retryTimes = retryTimes;
   }
 
+  public boolean isCaptureHeaders() {
+    return captureHeaders;
+  }
+
+  public void setCaptureHeaders(boolean captureHeaders) {
+    this.captureHeaders = captureHeaders;
+  }
+
+  public boolean isStreamJsonBody() {
+    return streamJsonBody;
+  }
+
+  public void setStreamJsonBody(boolean streamJsonBody) {
+    this.streamJsonBody = streamJsonBody;
+  }
+
   public Pool getPool() {
     return pool;
   }
@@ -114,6 +175,38 @@ public class HttpConnectionConfig {
     this.https = https;
   }
 
+  public Http2Config getHttp2() {
+    return http2;
+  }
+
+  public void setHttp2(Http2Config http2) {
+    this.http2 = http2;
+  }
+
+  public CircuitBreakerConfig getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public void setCircuitBreaker(CircuitBreakerConfig circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  public ConcurrencyLimitConfig getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  public void setConcurrencyLimit(ConcurrencyLimitConfig concurrencyLimit) {
+    this.concurrencyLimit = concurrencyLimit;
+  }
+
+  public Map<String, UpstreamConfig> getUpstreams() {
+    return upstreams;
+  }
+
+  public void setUpstreams(Map<String, UpstreamConfig> upstreams) {
+    this.upstreams = upstreams;
+  }
+
   public static class Pool {
 
     /**
@@ -157,6 +250,14 @@ public class HttpConnectionConfig {
      */
     @Value("${time-between-eviction-runs-millis:-1}")
     private int timeBetweenEvictionRunsMillis = -1;
+    /**
+     * 是否采集连接池指标(获取连接等待、连接存活时长、每连接请求数)和请求各阶段耗时(连接池等待、建连、TLS握手、首字节、读响应体)，
+     * 只作用于http/1.1同步请求 Whether to collect the pool metrics (lease wait, connection age, requests
+     * per connection) and the request phase timings (pool wait, connect, TLS handshake, time to
+     * first byte, body read), only applies to http/1.1 synchronous requests
+     */
+    @Value("${metrics-enabled:false}")
+    private boolean metricsEnabled;
 
     public int getMaxTotal() {
       return maxTotal;
@@ -205,6 +306,14 @@ public class HttpConnectionConfig {
     public void setTimeBetweenEvictionRunsMillis(int timeBetweenEvictionRunsMillis) {
       this.timeBetweenEvictionRunsMillis = timeBetweenEvictionRunsMillis;
     }
+
+    public boolean isMetricsEnabled() {
+      return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+      this.metricsEnabled = metricsEnabled;
+    }
   }
 
   public static class Proxy {
@@ -271,4 +380,431 @@ public class HttpConnectionConfig {
 
   }
 
+  public static class Http2Config {
+
+    /**
+     * 是否开启http/2，开启后https请求通过ALPN协商http/2，服务端不支持时回退到http/1.1，协商为http/2的连接上请求多路复用，
+     * 连接数同样受连接池的max-total和max-per-route限制；配置了代理时仍使用http/1.1
+     * Whether to enable http/2, when enabled https requests negotiate http/2 by ALPN and fall back to
+     * http/1.1 when the server does not support it, requests are multiplexed on connections
+     * negotiated as http/2, connections are also limited by max-total and max-per-route of the pool;
+     * http/1.1 is still used when a proxy is configured
+     */
+    @Value("${enabled:false}")
+    private boolean enabled;
+    /**
+     * 明文http请求是否直接使用h2c(prior knowledge)，需确保服务端支持，否则明文请求仍使用http/1.1
+     * Whether plain-text http requests use h2c (prior knowledge) directly, make sure the server
+     * supports it, otherwise plain-text requests still use http/1.1
+     */
+    @Value("${prior-knowledge:false}")
+    private boolean priorKnowledge;
+    /**
+     * 单个连接上最大并发流数量 The maximum number of concurrent streams on a single connection
+     */
+    @Value("${max-concurrent-streams:100}")
+    private int maxConcurrentStreams = 100;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public boolean isPriorKnowledge() {
+      return priorKnowledge;
+    }
+
+    public void setPriorKnowledge(boolean priorKnowledge) {
+      this.priorKnowledge = priorKnowledge;
+    }
+
+    public int getMaxConcurrentStreams() {
+      return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+      this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+  }
+
+  public static class CircuitBreakerConfig {
+
+    /**
+     * 是否为每个路由(host:port)开启熔断器，熔断器未关闭时不再重试 Whether to enable a circuit breaker for each route
+     * (host:port), no more retry when the circuit breaker is not closed
+     */
+    @Value("${enabled:false}")
+    private boolean enabled;
+    /**
+     * 滑动窗口的调用数 Number of calls in the sliding window
+     */
+    @Value("${window-size:100}")
+    private int windowSize = 100;
+    /**
+     * 计算失败率和慢调用率的最少调用数 Minimum number of calls to calculate the failure rate and slow call rate
+     */
+    @Value("${minimum-calls:20}")
+    private int minimumCalls = 20;
+    /**
+     * 打开熔断器的失败率阈值百分比，4xx响应不计为失败 Failure rate threshold percent to open the circuit breaker, 4xx
+     * responses are not counted as failures
+     */
+    @Value("${failure-rate-threshold:50}")
+    private int failureRateThreshold = 50;
+    /**
+     * 打开熔断器的慢调用率阈值百分比 Slow call rate threshold percent to open the circuit breaker
+     */
+    @Value("${slow-call-rate-threshold:100}")
+    private int slowCallRateThreshold = 100;
+    /**
+     * 慢调用时长，单位毫秒 Slow call duration in milliseconds
+     */
+    @Value("${slow-call-duration-millis:10000}")
+    private long slowCallDurationMillis = 10_000;
+    /**
+     * 打开状态持续时长，单位毫秒，之后进入半开 Duration of the open state in milliseconds, then turns to half open
+     */
+    @Value("${open-duration-millis:30000}")
+    private long openDurationMillis = 30_000;
+    /**
+     * 半开时放行的探测请求数 Number of probe requests permitted in the half open state
+     */
+    @Value("${half-open-calls:5}")
+    private int halfOpenCalls = 5;
+
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getWindowSize() {
+      return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+      this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+      return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+      this.minimumCalls = minimumCalls;
+    }
+
+    public int getFailureRateThreshold() {
+      return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getSlowCallRateThreshold() {
+      return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+      this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public long getSlowCallDurationMillis() {
+      return slowCallDurationMillis;
+    }
+
+    public void setSlowCallDurationMillis(long slowCallDurationMillis) {
+      this.slowCallDurationMillis = slowCallDurationMillis;
+    }
+
+    public long getOpenDurationMillis() {
+      return openDurationMillis;
+    }
+
+    public void setOpenDurationMillis(long openDurationMillis) {
+      this.openDurationMillis = openDurationMillis;
+    }
+
+    public int getHalfOpenCalls() {
+      return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+      this.halfOpenCalls = halfOpenCalls;
+    }
+
+  }
+
+  public static class ConcurrencyLimitConfig {
+
+    /**
+     * 是否为每个路由(host:port)开启AIMD自适应并发限制，超出限制的请求在获取连接前被拒绝 Whether to enable the AIMD adaptive
+     * concurrency limit for each route (host:port), requests beyond the limit are rejected before
+     * leasing a connection
+     */
+    @Value("${enabled:false}")
+    private boolean enabled;
+    /**
+     * 初始并发限制 Initial concurrency limit
+     */
+    @Value("${initial-limit:20}")
+    private int initialLimit = 20;
+    /**
+     * 最小并发限制 Minimum concurrency limit
+     */
+    @Value("${min-limit:1}")
+    private int minLimit = 1;
+    /**
+     * 最大并发限制 Maximum concurrency limit
+     */
+    @Value("${max-limit:200}")
+    private int maxLimit = 200;
+    /**
+     * 失败时并发限制的缩小比例 Ratio to shrink the concurrency limit on failure
+     */
+    @Value("${backoff-ratio:0.9}")
+    private double backoffRatio = 0.9;
+    /**
+     * 耗时超过该值的调用同样缩小并发限制，单位毫秒 Calls slower than this also shrink the concurrency limit, in
+     * milliseconds
+     */
+    @Value("${drop-latency-millis:10000}")
+    private long dropLatencyMillis = 10_000;
+
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+      return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+      this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+      return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+      this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+      return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+    }
+
+    public double getBackoffRatio() {
+      return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+      this.backoffRatio = backoffRatio;
+    }
+
+    public long getDropLatencyMillis() {
+      return dropLatencyMillis;
+    }
+
+    public void setDropLatencyMillis(long dropLatencyMillis) {
+      this.dropLatencyMillis = dropLatencyMillis;
+    }
+
+  }
+
+  public static class UpstreamConfig {
+
+    /**
+     * 端点的基础地址列表，如http://10.0.0.1:8080 Base url list of the endpoints, such as
+     * http://10.0.0.1:8080
+     */
+    private List<String> endpoints = new ArrayList<>();
+    /**
+     * 负载均衡类型 Load balancer type
+     */
+    @Value("${load-balancer:p2c}")
+    private LoadBalancerType loadBalancer = LoadBalancerType.P2C;
+    /**
+     * 触发摘除的连续失败次数 Consecutive failures to trigger ejection
+     */
+    @Value("${consecutive-failures:5}")
+    private int consecutiveFailures = 5;
+    /**
+     * 基础摘除时长，单位毫秒，随连续被摘除次数线性增长 Base ejection time in milliseconds, grows linearly with the
+     * consecutive ejection times
+     */
+    @Value("${base-ejection-time-millis:30000}")
+    private long baseEjectionTimeMillis = 30_000;
+    /**
+     * 最多可同时摘除的端点百分比 The max percent of endpoints that can be ejected at the same time
+     */
+    @Value("${max-ejection-percent:50}")
+    private int maxEjectionPercent = 50;
+    /**
+     * 是否开启对冲get请求 Whether to enable hedged get requests
+     */
+    @Value("${hedge-enabled:false}")
+    private boolean hedgeEnabled;
+    /**
+     * 超过该延迟百分位仍未响应时向另一个端点发送对冲请求 Send the hedged request to another endpoint when there
+     * is no response beyond this latency percentile
+     */
+    @Value("${hedge-percentile:95}")
+    private double hedgePercentile = 95;
+    /**
+     * 对冲请求占请求总数的最大百分比 The max percent of hedged requests in all requests
+     */
+    @Value("${hedge-budget-percent:10}")
+    private int hedgeBudgetPercent = 10;
+    /**
+     * 对冲请求的最小延迟，单位毫秒 Min delay of the hedged request in milliseconds
+     */
+    @Value("${min-hedge-delay-millis:5}")
+    private long minHedgeDelayMillis = 5;
+    /**
+     * 是否开启自适应读超时 Whether to enable adaptive socket timeout
+     */
+    @Value("${adaptive-timeout-enabled:false}")
+    private boolean adaptiveTimeoutEnabled;
+    /**
+     * 自适应超时参考的延迟百分位 The latency percentile referenced by the adaptive timeout
+     */
+    @Value("${timeout-percentile:99}")
+    private double timeoutPercentile = 99;
+    /**
+     * 自适应超时为参考百分位的倍数，且不超过socket-timeout The adaptive timeout is a multiple of the referenced
+     * percentile, and not more than socket-timeout
+     */
+    @Value("${timeout-multiplier:2}")
+    private double timeoutMultiplier = 2;
+    /**
+     * 自适应超时的下限，单位毫秒 Lower bound of the adaptive timeout in milliseconds
+     */
+    @Value("${min-timeout-millis:100}")
+    private int minTimeoutMillis = 100;
+
+    public List<String> getEndpoints() {
+      return endpoints;
+    }
+
+    public void setEndpoints(List<String> endpoints) {
+      this.endpoints = endpoints;
+    }
+
+    public LoadBalancerType getLoadBalancer() {
+      return loadBalancer;
+    }
+
+    public void setLoadBalancer(LoadBalancerType loadBalancer) {
+      this.loadBalancer = loadBalancer;
+    }
+
+    public int getConsecutiveFailures() {
+      return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(int consecutiveFailures) {
+      this.consecutiveFailures = consecutiveFailures;
+    }
+
+    public long getBaseEjectionTimeMillis() {
+      return baseEjectionTimeMillis;
+    }
+
+    public void setBaseEjectionTimeMillis(long baseEjectionTimeMillis) {
+      this.baseEjectionTimeMillis = baseEjectionTimeMillis;
+    }
+
+    public int getMaxEjectionPercent() {
+      return maxEjectionPercent;
+    }
+
+    public void setMaxEjectionPercent(int maxEjectionPercent) {
+      this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    public boolean isHedgeEnabled() {
+      return hedgeEnabled;
+    }
+
+    public void setHedgeEnabled(boolean hedgeEnabled) {
+      this.hedgeEnabled = hedgeEnabled;
+    }
+
+    public double getHedgePercentile() {
+      return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+      this.hedgePercentile = hedgePercentile;
+    }
+
+    public int getHedgeBudgetPercent() {
+      return hedgeBudgetPercent;
+    }
+
+    public void setHedgeBudgetPercent(int hedgeBudgetPercent) {
+      this.hedgeBudgetPercent = hedgeBudgetPercent;
+    }
+
+    public long getMinHedgeDelayMillis() {
+      return minHedgeDelayMillis;
+    }
+
+    public void setMinHedgeDelayMillis(long minHedgeDelayMillis) {
+      this.minHedgeDelayMillis = minHedgeDelayMillis;
+    }
+
+    public boolean isAdaptiveTimeoutEnabled() {
+      return adaptiveTimeoutEnabled;
+    }
+
+    public void setAdaptiveTimeoutEnabled(boolean adaptiveTimeoutEnabled) {
+      this.adaptiveTimeoutEnabled = adaptiveTimeoutEnabled;
+    }
+
+    public double getTimeoutPercentile() {
+      return timeoutPercentile;
+    }
+
+    public void setTimeoutPercentile(double timeoutPercentile) {
+      this.timeoutPercentile = timeoutPercentile;
+    }
+
+    public double getTimeoutMultiplier() {
+      return timeoutMultiplier;
+    }
+
+    public void setTimeoutMultiplier(double timeoutMultiplier) {
+      this.timeoutMultiplier = timeoutMultiplier;
+    }
+
+    public int getMinTimeoutMillis() {
+      return minTimeoutMillis;
+    }
+
+    public void setMinTimeoutMillis(int minTimeoutMillis) {
+      this.minTimeoutMillis = minTimeoutMillis;
+    }
+
+  }
+
 }
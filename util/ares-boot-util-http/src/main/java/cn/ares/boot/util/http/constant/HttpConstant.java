@@ -16,4 +16,14 @@ public interface HttpConstant {
    */
   String HTTP_POOL_MONITOR_THREAD_FACTORY_NAME = "Http-Connection-Pool-Monitor-Thread-%d";
 
+  /**
+   * http异步客户端I/O反应器线程工厂命名格式
+   */
+  String HTTP_ASYNC_IO_THREAD_FACTORY_NAME = "Http-Async-IO-Reactor-Thread-%d";
+
+  /**
+   * http对冲请求定时器线程工厂命名格式
+   */
+  String HTTP_HEDGE_TIMER_THREAD_FACTORY_NAME = "Http-Hedge-Timer-Thread-%d";
+
 }
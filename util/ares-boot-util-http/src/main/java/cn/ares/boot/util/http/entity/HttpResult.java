@@ -0,0 +1,77 @@
+package cn.ares.boot.util.http.entity;
+
+import java.util.Arrays;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 22:41:05
+ * @description: Http响应结果，包含状态码、响应头和响应体，非2xx状态码不抛出异常
+ * @description: Http response result including the status code, headers and body, a non 2xx status
+ * code does not throw an exception
+ * @version: JDK 1.8
+ */
+public class HttpResult {
+
+  private static final Header[] EMPTY_HEADERS = new Header[0];
+
+  private final int statusCode;
+  private final Header[] headers;
+  private final String body;
+
+  public HttpResult(int statusCode, Header[] headers, String body) {
+    this.statusCode = statusCode;
+    this.headers = null == headers ? EMPTY_HEADERS : headers;
+    this.body = body;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 状态码是否为2xx
+   * @description: Whether the status code is 2xx
+   * @time: 2026-10-18 22:41:05
+   * @params: []
+   * @return: boolean
+   */
+  public boolean isSuccessful() {
+    return statusCode >= HttpStatus.SC_OK && statusCode < HttpStatus.SC_MULTIPLE_CHOICES;
+  }
+
+  public Header[] getHeaders() {
+    return headers;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取第一个指定名称的响应头的值，名称不区分大小写，不存在时返回空
+   * @description: Get the value of the first response header with the name, the name is case
+   * insensitive, return null if absent
+   * @time: 2026-10-18 22:41:05
+   * @params: [name] 响应头名称
+   * @return: java.lang.String 响应头的值
+   */
+  public String getHeader(String name) {
+    for (Header header : headers) {
+      if (header.getName().equalsIgnoreCase(name)) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  public String getBody() {
+    return body;
+  }
+
+  @Override
+  public String toString() {
+    return "HttpResult{" + "statusCode=" + statusCode + ", headers=" + Arrays.toString(headers)
+        + ", body='" + body + '\'' + '}';
+  }
+
+}
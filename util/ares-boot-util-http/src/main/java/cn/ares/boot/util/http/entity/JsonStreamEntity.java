@@ -0,0 +1,65 @@
+package cn.ares.boot.util.http.entity;
+
+import static org.apache.hc.core5.http.ContentType.APPLICATION_JSON;
+
+import cn.ares.boot.util.json.JsonUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:06:52
+ * @description: Json流式请求实体，发送时由Jackson生成器直接把对象写入套接字输出流而不生成中间字符串，
+ * 长度未知所以使用分块传输，仅在开启stream-json-body时使用；每次写入都会重新序列化，所以可重复发送(重试)
+ * @description: Json streaming request entity, the object is written to the socket output stream
+ * directly by the Jackson generator when sending without an intermediate string, chunked transfer
+ * is used since the length is unknown, only used when stream-json-body is on; it is serialized
+ * again on every write, so it is repeatable (retry)
+ * @version: JDK 1.8
+ */
+public class JsonStreamEntity extends AbstractHttpEntity {
+
+  private final Object object;
+
+  public JsonStreamEntity(Object object) {
+    super(APPLICATION_JSON, null, true);
+    this.object = object;
+  }
+
+  @Override
+  public void writeTo(OutputStream outputStream) throws IOException {
+    JsonUtil.writeJson(outputStream, object);
+  }
+
+  /**
+   * 只在需要完整内容时使用(如http/2请求)，会在堆上序列化整个对象 Only used when the whole content is needed (such as http/2
+   * request), the whole object is serialized on heap
+   */
+  @Override
+  public InputStream getContent() {
+    return new ByteArrayInputStream(JsonUtil.toBytes(object));
+  }
+
+  @Override
+  public long getContentLength() {
+    return -1;
+  }
+
+  @Override
+  public boolean isRepeatable() {
+    return true;
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+  @Override
+  public void close() {
+  }
+
+}
@@ -0,0 +1,19 @@
+package cn.ares.boot.util.http.exception;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:49:27
+ * @description: 熔断器打开或超出并发限制时请求被快速拒绝的异常，此时未从连接池获取连接
+ * @description: Exception of the request rejected fast when the circuit breaker is open or the
+ * concurrency limit is exceeded, no connection is leased from the pool at this time
+ * @version: JDK 1.8
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+  private static final long serialVersionUID = -3620775270713154896L;
+
+  public CallNotPermittedException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,25 @@
+package cn.ares.boot.util.http.exception;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:49:27
+ * @description: 响应状态码不是2xx时抛出的异常
+ * @description: Exception thrown when the response status code is not 2xx
+ * @version: JDK 1.8
+ */
+public class HttpStatusException extends RuntimeException {
+
+  private static final long serialVersionUID = 4213187622468270352L;
+
+  private final int statusCode;
+
+  public HttpStatusException(int statusCode, String response) {
+    super("Status code is " + statusCode + ", response is " + response);
+    this.statusCode = statusCode;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+}
@@ -0,0 +1,102 @@
+package cn.ares.boot.util.http.guard;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:49:27
+ * @description: 加性增乘性减(AIMD)的自适应并发限制，成功且并发已用到限制一半以上时限制加一，失败或耗时超过丢弃阈值时
+ * 限制按比例减小；超出限制的请求在获取连接前被拒绝，从而故障路由快速失败而不耗尽连接池
+ * @description: Additive increase multiplicative decrease (AIMD) adaptive concurrency limit, the
+ * limit increases by one on success when more than half of it is in use, and decreases by ratio on
+ * failure or when the latency exceeds the drop threshold; requests beyond the limit are rejected
+ * before leasing a connection, so failing routes fail fast instead of exhausting the pool
+ * @version: JDK 1.8
+ */
+public class AimdConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long dropNanos;
+  private final AtomicInteger inflight = new AtomicInteger();
+
+  private volatile double limit;
+
+  /**
+   * @author: Ares
+   * @description: 构造并发限制
+   * @description: Construct the concurrency limiter
+   * @time: 2026-10-18 21:49:27
+   * @params: [initialLimit, minLimit, maxLimit, backoffRatio, dropMillis] 初始限制，最小限制，最大限制，
+   * 减小比例，视为丢弃的耗时毫秒
+   */
+  public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+      long dropMillis) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.backoffRatio = Math.max(0.1, Math.min(0.99, backoffRatio));
+    this.dropNanos = TimeUnit.MILLISECONDS.toNanos(dropMillis);
+    this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 尝试占用一个并发，成功后必须调用onComplete或release
+   * @description: Try to take a concurrency slot, onComplete or release must be called after
+   * success
+   * @time: 2026-10-18 21:49:27
+   * @params: []
+   * @return: boolean 是否成功
+   */
+  public boolean tryAcquire() {
+    for (int current = inflight.get(); current < (int) limit; current = inflight.get()) {
+      if (inflight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public void release() {
+    inflight.decrementAndGet();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 释放并发并按调用结果调整限制
+   * @description: Release the slot and adjust the limit by the call outcome
+   * @time: 2026-10-18 21:49:27
+   * @params: [durationNanos, failure] 调用时长纳秒，是否失败
+   * @return: void
+   */
+  public void onComplete(long durationNanos, boolean failure) {
+    int current = inflight.getAndDecrement();
+    if (failure || durationNanos >= dropNanos) {
+      synchronized (this) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+      }
+    } else if (current * 2 >= limit && limit < maxLimit) {
+      // 并发未用到一半时说明不是限制在约束吞吐，不增加
+      // No increase when less than half is in use, the limit is not what constrains the throughput
+      synchronized (this) {
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    }
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInflight() {
+    return inflight.get();
+  }
+
+  @Override
+  public String toString() {
+    return "AimdConcurrencyLimiter{" + "limit=" + getLimit() + ", inflight=" + getInflight() + '}';
+  }
+
+}
@@ -0,0 +1,188 @@
+package cn.ares.boot.util.http.guard;
+
+import static cn.ares.boot.util.http.guard.CircuitState.CLOSED;
+import static cn.ares.boot.util.http.guard.CircuitState.HALF_OPEN;
+import static cn.ares.boot.util.http.guard.CircuitState.OPEN;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:49:27
+ * @description: 基于最近N次调用滑动窗口的熔断器，窗口内失败率或慢调用率达到阈值时打开，打开一段时间后进入半开
+ * 放行少量探测请求，探测全部成功则关闭，任一失败或慢调用则重新打开；关闭状态下获取许可只有一次volatile读
+ * @description: Circuit breaker based on the sliding window of the last N calls, it opens when
+ * the failure rate or slow call rate in the window reaches the threshold, turns to half open after
+ * being open for a while and permits a few probe requests, closes if all probes succeed and opens
+ * again if any fails or is slow; acquiring permission in the closed state is only a volatile read
+ * @version: JDK 1.8
+ */
+public class CircuitBreaker {
+
+  private static final byte FAILURE = 1;
+  private static final byte SLOW = 2;
+
+  private final int minimumCalls;
+  private final int failureRateThreshold;
+  private final int slowCallRateThreshold;
+  private final long slowCallNanos;
+  private final long openNanos;
+  private final int halfOpenCalls;
+
+  /**
+   * 最近调用结果的环形缓冲 Ring buffer of the recent call outcomes
+   */
+  private final byte[] outcomes;
+  private int index;
+  private int calls;
+  private int failures;
+  private int slowCalls;
+  private int halfOpenSuccesses;
+  private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+  private volatile CircuitState state = CLOSED;
+  private volatile long openedAtNanos;
+
+  /**
+   * @author: Ares
+   * @description: 构造熔断器
+   * @description: Construct the circuit breaker
+   * @time: 2026-10-18 21:49:27
+   * @params: [windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+   * slowCallMillis, openMillis, halfOpenCalls] 滑动窗口调用数，计算比率的最少调用数，失败率阈值百分比，
+   * 慢调用率阈值百分比，慢调用时长毫秒，打开时长毫秒，半开时的探测请求数
+   */
+  public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+      int slowCallRateThreshold, long slowCallMillis, long openMillis, int halfOpenCalls) {
+    this.outcomes = new byte[Math.max(1, windowSize)];
+    this.minimumCalls = Math.max(1, Math.min(outcomes.length, minimumCalls));
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallRateThreshold = slowCallRateThreshold;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    this.halfOpenCalls = Math.max(1, halfOpenCalls);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 尝试获取调用许可，获取后必须调用onResult或releasePermission
+   * @description: Try to acquire the call permission, onResult or releasePermission must be called
+   * after acquired
+   * @time: 2026-10-18 21:49:27
+   * @params: []
+   * @return: boolean 是否允许调用
+   */
+  public boolean tryAcquirePermission() {
+    CircuitState current = state;
+    if (CLOSED == current) {
+      return true;
+    }
+    if (OPEN == current) {
+      if (System.nanoTime() - openedAtNanos < openNanos) {
+        return false;
+      }
+      synchronized (this) {
+        if (OPEN == state && System.nanoTime() - openedAtNanos >= openNanos) {
+          halfOpenSuccesses = 0;
+          halfOpenPermits.set(halfOpenCalls);
+          state = HALF_OPEN;
+        }
+      }
+    }
+    for (int permits = halfOpenPermits.get(); permits > 0; permits = halfOpenPermits.get()) {
+      if (halfOpenPermits.compareAndSet(permits, permits - 1)) {
+        return true;
+      }
+    }
+    return CLOSED == state;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 归还未使用(或被取消)的许可，不记录结果
+   * @description: Return the unused (or cancelled) permission without recording the outcome
+   * @time: 2026-10-18 21:49:27
+   * @params: []
+   * @return: void
+   */
+  public void releasePermission() {
+    if (HALF_OPEN == state) {
+      halfOpenPermits.incrementAndGet();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 记录一次调用结果
+   * @description: Record the outcome of a call
+   * @time: 2026-10-18 21:49:27
+   * @params: [durationNanos, failure] 调用时长纳秒，是否失败
+   * @return: void
+   */
+  public synchronized void onResult(long durationNanos, boolean failure) {
+    boolean slow = durationNanos >= slowCallNanos;
+    if (HALF_OPEN == state) {
+      if (failure || slow) {
+        open();
+      } else if (++halfOpenSuccesses >= halfOpenCalls) {
+        close();
+      }
+      return;
+    }
+    if (OPEN == state) {
+      // 打开前已放行的调用 Calls permitted before opening
+      return;
+    }
+    byte outcome = (byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+    if (calls == outcomes.length) {
+      byte evicted = outcomes[index];
+      failures -= evicted & FAILURE;
+      slowCalls -= (evicted & SLOW) >> 1;
+    } else {
+      calls++;
+    }
+    outcomes[index] = outcome;
+    index = (index + 1) % outcomes.length;
+    failures += outcome & FAILURE;
+    slowCalls += (outcome & SLOW) >> 1;
+
+    if (calls >= minimumCalls && (failures * 100 >= calls * failureRateThreshold
+        || slowCalls * 100 >= calls * slowCallRateThreshold)) {
+      open();
+    }
+  }
+
+  private void open() {
+    openedAtNanos = System.nanoTime();
+    halfOpenPermits.set(0);
+    state = OPEN;
+  }
+
+  private void close() {
+    index = 0;
+    calls = 0;
+    failures = 0;
+    slowCalls = 0;
+    state = CLOSED;
+  }
+
+  public CircuitState getState() {
+    return state;
+  }
+
+  public synchronized int getFailureRate() {
+    return 0 == calls ? 0 : failures * 100 / calls;
+  }
+
+  public synchronized int getSlowCallRate() {
+    return 0 == calls ? 0 : slowCalls * 100 / calls;
+  }
+
+  @Override
+  public String toString() {
+    return "CircuitBreaker{" + "state=" + state + ", failureRate=" + getFailureRate()
+        + ", slowCallRate=" + getSlowCallRate() + '}';
+  }
+
+}
@@ -0,0 +1,25 @@
+package cn.ares.boot.util.http.guard;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:49:27
+ * @description: 熔断器状态
+ * @description: Circuit breaker state
+ * @version: JDK 1.8
+ */
+public enum CircuitState {
+
+  /**
+   * 关闭，请求正常通过 Closed, requests pass normally
+   */
+  CLOSED,
+  /**
+   * 打开，请求被快速拒绝 Open, requests are rejected fast
+   */
+  OPEN,
+  /**
+   * 半开，放行少量探测请求 Half open, a few probe requests are permitted
+   */
+  HALF_OPEN
+
+}
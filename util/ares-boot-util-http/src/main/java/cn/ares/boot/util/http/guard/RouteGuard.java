@@ -0,0 +1,135 @@
+package cn.ares.boot.util.http.guard;
+
+import cn.ares.boot.util.http.exception.CallNotPermittedException;
+import cn.ares.boot.util.http.exception.HttpStatusException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import org.apache.hc.client5.http.HttpResponseException;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:49:27
+ * @description: 单个路由(host:port)的保护，组合熔断器和并发限制(均可为空)，在从连接池获取连接前检查；
+ * 4xx响应和被取消的请求不计为失败
+ * @description: Guard of a single route (host:port) combining the circuit breaker and the
+ * concurrency limiter (both nullable), checked before leasing a connection from the pool; 4xx
+ * responses and cancelled requests are not counted as failures
+ * @version: JDK 1.8
+ */
+public class RouteGuard {
+
+  private final String route;
+  private final CircuitBreaker circuitBreaker;
+  private final AimdConcurrencyLimiter concurrencyLimiter;
+
+  public RouteGuard(String route, CircuitBreaker circuitBreaker,
+      AimdConcurrencyLimiter concurrencyLimiter) {
+    this.route = route;
+    this.circuitBreaker = circuitBreaker;
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取调用许可，不允许时抛出CallNotPermittedException
+   * @description: Acquire the call permission, throw CallNotPermittedException when not permitted
+   * @time: 2026-10-18 21:49:27
+   * @params: []
+   * @return: void
+   */
+  public void acquire() {
+    if (null != circuitBreaker && !circuitBreaker.tryAcquirePermission()) {
+      throw new CallNotPermittedException("Circuit breaker of route " + route + " is open");
+    }
+    if (null != concurrencyLimiter && !concurrencyLimiter.tryAcquire()) {
+      if (null != circuitBreaker) {
+        circuitBreaker.releasePermission();
+      }
+      throw new CallNotPermittedException(
+          "Concurrency limit " + concurrencyLimiter.getLimit() + " of route " + route
+              + " is exceeded");
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 调用完成后记录结果并释放许可
+   * @description: Record the outcome and release the permission after the call completes
+   * @time: 2026-10-18 21:49:27
+   * @params: [durationNanos, throwable] 调用时长纳秒，异常(成功时为空)
+   * @return: void
+   */
+  public void onComplete(long durationNanos, Throwable throwable) {
+    if (isCancelled(throwable)) {
+      if (null != circuitBreaker) {
+        circuitBreaker.releasePermission();
+      }
+      if (null != concurrencyLimiter) {
+        concurrencyLimiter.release();
+      }
+      return;
+    }
+    boolean failure = isFailure(throwable);
+    if (null != circuitBreaker) {
+      circuitBreaker.onResult(durationNanos, failure);
+    }
+    if (null != concurrencyLimiter) {
+      concurrencyLimiter.onComplete(durationNanos, failure);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 是否允许重试，熔断器未关闭时不再重试以免放大下游压力
+   * @description: Whether to allow retry, no more retry when the circuit breaker is not closed to
+   * avoid amplifying the load on the downstream
+   * @time: 2026-10-18 21:49:27
+   * @params: []
+   * @return: boolean
+   */
+  public boolean allowRetry() {
+    return null == circuitBreaker || CircuitState.CLOSED == circuitBreaker.getState();
+  }
+
+  private static boolean isFailure(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+    if (null == cause) {
+      return false;
+    }
+    int statusCode;
+    if (cause instanceof HttpStatusException) {
+      statusCode = ((HttpStatusException) cause).getStatusCode();
+    } else if (cause instanceof HttpResponseException) {
+      statusCode = ((HttpResponseException) cause).getStatusCode();
+    } else {
+      return true;
+    }
+    // 5xx以外的状态码不计为失败 Status codes other than 5xx are not counted as failures
+    return statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+  }
+
+  private static boolean isCancelled(Throwable throwable) {
+    return throwable instanceof CancellationException || (throwable instanceof CompletionException
+        && throwable.getCause() instanceof CancellationException);
+  }
+
+  public String getRoute() {
+    return route;
+  }
+
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public AimdConcurrencyLimiter getConcurrencyLimiter() {
+    return concurrencyLimiter;
+  }
+
+  @Override
+  public String toString() {
+    return "RouteGuard{" + "route='" + route + '\'' + ", circuitBreaker=" + circuitBreaker
+        + ", concurrencyLimiter=" + concurrencyLimiter + '}';
+  }
+
+}
@@ -0,0 +1,278 @@
+package cn.ares.boot.util.http.metrics;
+
+import static cn.ares.boot.util.common.constant.SymbolConstant.COLON;
+
+import cn.ares.boot.util.common.structure.HistogramSnapshot;
+import cn.ares.boot.util.common.structure.LogLinearHistogram;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.config.Registry;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 22:14:39
+ * @description: 带指标的连接池，在获取连接和建立连接时为当前请求打点，并按路由汇总请求各阶段耗时直方图；
+ * 连接按本地和远端地址识别，连接关闭(超过空闲时长未再使用)后记录其存活时长和请求数
+ * @description: Instrumented connection pool, marks the current request when leasing and connecting,
+ * and aggregates the request phase timing histograms by route; connections are identified by the
+ * local and remote addresses, their age and request count are recorded after closed (not used again
+ * beyond the idle time)
+ * @version: JDK 1.8
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+  private static final HistogramSnapshot EMPTY = new LogLinearHistogram().snapshot();
+
+  private final Map<String, RouteRecorder> recorderMap = new ConcurrentHashMap<>();
+  private final Map<ConnectionKey, ConnectionUsage> connectionMap = new ConcurrentHashMap<>();
+
+  public InstrumentedConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry) {
+    super(socketFactoryRegistry);
+  }
+
+  @Override
+  public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+    RequestTimings timings = RequestTimings.current();
+    if (null == timings) {
+      return super.lease(id, route, requestTimeout, state);
+    }
+    timings.markLeaseStart();
+    LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+    return new LeaseRequest() {
+      @Override
+      public ConnectionEndpoint get(Timeout timeout)
+          throws InterruptedException, ExecutionException, TimeoutException {
+        try {
+          return leaseRequest.get(timeout);
+        } finally {
+          timings.markLeaseEnd();
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return leaseRequest.cancel();
+      }
+    };
+  }
+
+  @Override
+  public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context)
+      throws IOException {
+    RequestTimings timings = RequestTimings.current();
+    if (null == timings) {
+      super.connect(endpoint, timeout, context);
+      return;
+    }
+    timings.markConnectStart();
+    try {
+      super.connect(endpoint, timeout, context);
+    } finally {
+      timings.markConnectEnd();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 汇总一次已完成请求的耗时和所用连接
+   * @description: Aggregate the timings and the connection used of a completed request
+   * @time: 2026-10-18 22:14:39
+   * @params: [timings, endpointDetails] 请求耗时，连接端点信息(可为空)
+   * @return: void
+   */
+  public void record(RequestTimings timings, EndpointDetails endpointDetails) {
+    RouteRecorder recorder = recorderMap.computeIfAbsent(timings.getRoute(),
+        route -> new RouteRecorder());
+    recorder.leaseWait.record(timings.getPoolWaitNanos());
+    if (timings.getConnectNanos() > 0) {
+      recorder.connect.record(timings.getConnectNanos());
+    }
+    if (timings.getTlsNanos() > 0) {
+      recorder.tlsHandshake.record(timings.getTlsNanos());
+    }
+    if (timings.getTimeToFirstByteNanos() > 0) {
+      recorder.timeToFirstByte.record(timings.getTimeToFirstByteNanos());
+      recorder.bodyRead.record(timings.getBodyReadNanos());
+    }
+
+    if (null == endpointDetails || null == endpointDetails.getLocalAddress()) {
+      return;
+    }
+    long now = System.nanoTime();
+    long requestCount = endpointDetails.getRequestCount();
+    // 同一本地地址可能连接不同的远端(如绑定了本地端口或不同网卡)，所以连同远端地址一起识别连接
+    // The same local address may connect to different remotes (such as a bound local port or
+    // different interfaces), so the connection is identified together with the remote address
+    ConnectionKey connectionKey = new ConnectionKey(endpointDetails.getLocalAddress(),
+        endpointDetails.getRemoteAddress());
+    if (requestCount <= 1) {
+      // 新连接，相同地址上的旧连接已关闭
+      // A new connection, the old one on the same addresses has been closed
+      ConnectionUsage closed = connectionMap.put(connectionKey,
+          new ConnectionUsage(timings.getRoute(), now));
+      if (null != closed) {
+        retire(closed);
+      }
+    } else {
+      connectionMap.computeIfAbsent(connectionKey,
+          key -> new ConnectionUsage(timings.getRoute(), now)).use(requestCount, now);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 超过空闲时长未再使用的连接视为已关闭，记录其存活时长和请求数，由连接池监控线程调用
+   * @description: Connections not used again beyond the idle time are regarded as closed, record
+   * their age and request count, called by the pool monitor thread
+   * @time: 2026-10-18 22:14:39
+   * @params: [idleTimeMillis] 空闲时长毫秒
+   * @return: void
+   */
+  public void retireIdleConnections(long idleTimeMillis) {
+    long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleTimeMillis);
+    Iterator<ConnectionUsage> iterator = connectionMap.values().iterator();
+    while (iterator.hasNext()) {
+      ConnectionUsage usage = iterator.next();
+      if (usage.lastUsedNanos - deadline < 0) {
+        iterator.remove();
+        retire(usage);
+      }
+    }
+  }
+
+  private void retire(ConnectionUsage usage) {
+    RouteRecorder recorder = recorderMap.computeIfAbsent(usage.route, route -> new RouteRecorder());
+    recorder.connectionAge.record(usage.lastUsedNanos - usage.createdNanos);
+    recorder.requestsPerConnection.record(usage.requests);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 获取各路由的连接池指标快照，未开启指标的连接池只有连接数
+   * @description: Get the pool metrics snapshot of each route, only the connection counts for a
+   * pool without metrics enabled
+   * @time: 2026-10-18 22:14:39
+   * @params: [manager] 连接池
+   * @return: java.util.Map<java.lang.String,cn.ares.boot.util.http.metrics.RoutePoolMetrics>
+   */
+  public static Map<String, RoutePoolMetrics> snapshot(PoolingHttpClientConnectionManager manager) {
+    Map<String, RouteRecorder> recorders = manager instanceof InstrumentedConnectionManager
+        ? ((InstrumentedConnectionManager) manager).recorderMap : null;
+    Map<String, PoolStats> statsMap = new TreeMap<>();
+    Set<HttpRoute> routes = manager.getRoutes();
+    for (HttpRoute route : routes) {
+      HttpHost targetHost = route.getTargetHost();
+      statsMap.put(targetHost.getHostName() + COLON + targetHost.getPort(), manager.getStats(route));
+    }
+    Map<String, RoutePoolMetrics> result = new TreeMap<>();
+    for (Entry<String, PoolStats> entry : statsMap.entrySet()) {
+      RouteRecorder recorder = null == recorders ? null : recorders.get(entry.getKey());
+      result.put(entry.getKey(), build(entry.getKey(), entry.getValue(), recorder));
+    }
+    if (null != recorders) {
+      for (Entry<String, RouteRecorder> entry : recorders.entrySet()) {
+        if (!result.containsKey(entry.getKey())) {
+          result.put(entry.getKey(), build(entry.getKey(), null, entry.getValue()));
+        }
+      }
+    }
+    return result;
+  }
+
+  private static RoutePoolMetrics build(String route, PoolStats stats, RouteRecorder recorder) {
+    int leased = null == stats ? 0 : stats.getLeased();
+    int available = null == stats ? 0 : stats.getAvailable();
+    int pending = null == stats ? 0 : stats.getPending();
+    int max = null == stats ? 0 : stats.getMax();
+    if (null == recorder) {
+      return new RoutePoolMetrics(route, leased, available, pending, max, EMPTY, EMPTY, EMPTY, EMPTY,
+          EMPTY, EMPTY, EMPTY);
+    }
+    return new RoutePoolMetrics(route, leased, available, pending, max,
+        recorder.leaseWait.snapshot(), recorder.connect.snapshot(),
+        recorder.tlsHandshake.snapshot(), recorder.timeToFirstByte.snapshot(),
+        recorder.bodyRead.snapshot(), recorder.connectionAge.snapshot(),
+        recorder.requestsPerConnection.snapshot());
+  }
+
+  private static final class RouteRecorder {
+
+    private final LogLinearHistogram leaseWait = new LogLinearHistogram();
+    private final LogLinearHistogram connect = new LogLinearHistogram();
+    private final LogLinearHistogram tlsHandshake = new LogLinearHistogram();
+    private final LogLinearHistogram timeToFirstByte = new LogLinearHistogram();
+    private final LogLinearHistogram bodyRead = new LogLinearHistogram();
+    private final LogLinearHistogram connectionAge = new LogLinearHistogram();
+    private final LogLinearHistogram requestsPerConnection = new LogLinearHistogram();
+  }
+
+  private static final class ConnectionKey {
+
+    private final SocketAddress localAddress;
+    private final SocketAddress remoteAddress;
+
+    private ConnectionKey(SocketAddress localAddress, SocketAddress remoteAddress) {
+      this.localAddress = localAddress;
+      this.remoteAddress = remoteAddress;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ConnectionKey)) {
+        return false;
+      }
+      ConnectionKey that = (ConnectionKey) o;
+      return localAddress.equals(that.localAddress) && Objects.equals(remoteAddress,
+          that.remoteAddress);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * localAddress.hashCode() + Objects.hashCode(remoteAddress);
+    }
+  }
+
+  private static final class ConnectionUsage {
+
+    private final String route;
+    private final long createdNanos;
+    private volatile long lastUsedNanos;
+    private volatile long requests = 1;
+
+    private ConnectionUsage(String route, long createdNanos) {
+      this.route = route;
+      this.createdNanos = createdNanos;
+      this.lastUsedNanos = createdNanos;
+    }
+
+    private void use(long requestCount, long now) {
+      requests = requestCount;
+      lastUsedNanos = now;
+    }
+  }
+
+}
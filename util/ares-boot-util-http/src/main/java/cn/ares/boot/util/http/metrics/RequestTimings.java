@@ -0,0 +1,145 @@
+package cn.ares.boot.util.http.metrics;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 22:14:39
+ * @description: 单次请求各阶段耗时，在发起请求的线程上由连接池、套接字工厂和响应拦截器打点；
+ * 连接池等待较长说明连接池不足，首字节耗时较长说明下游较慢；重试时记录最后一次尝试
+ * @description: Phase timings of a single request, marked by the pool, the socket factory and the
+ * response interceptor on the requesting thread; a long pool wait means pool starvation, a long
+ * time to first byte means a slow downstream; the last attempt is recorded on retry
+ * @version: JDK 1.8
+ */
+public class RequestTimings {
+
+  private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+  private static final ThreadLocal<RequestTimings> LAST = new ThreadLocal<>();
+
+  private final String route;
+  private final long startNanos = System.nanoTime();
+  private long leaseStartNanos;
+  private long leaseEndNanos;
+  private long connectStartNanos;
+  private long tlsStartNanos;
+  private long connectEndNanos;
+  private long responseHeadNanos;
+  private long endNanos;
+
+  private RequestTimings(String route) {
+    this.route = route;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 在当前线程开始记录一次请求，必须在finally中调用end
+   * @description: Start recording a request on the current thread, end must be called in finally
+   * @time: 2026-10-18 22:14:39
+   * @params: [route] 路由
+   * @return: cn.ares.boot.util.http.metrics.RequestTimings
+   */
+  public static RequestTimings start(String route) {
+    RequestTimings timings = new RequestTimings(route);
+    CURRENT.set(timings);
+    return timings;
+  }
+
+  static RequestTimings current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 当前线程最近一次已完成请求的耗时
+   * @description: Timings of the last completed request on the current thread
+   * @time: 2026-10-18 22:14:39
+   * @params: []
+   * @return: cn.ares.boot.util.http.metrics.RequestTimings
+   */
+  public static RequestTimings last() {
+    return LAST.get();
+  }
+
+  public void end() {
+    endNanos = System.nanoTime();
+    CURRENT.remove();
+    LAST.set(this);
+  }
+
+  void markLeaseStart() {
+    leaseStartNanos = System.nanoTime();
+  }
+
+  void markLeaseEnd() {
+    leaseEndNanos = System.nanoTime();
+  }
+
+  void markConnectStart() {
+    connectStartNanos = System.nanoTime();
+    tlsStartNanos = 0;
+  }
+
+  void markTlsStart() {
+    tlsStartNanos = System.nanoTime();
+  }
+
+  void markConnectEnd() {
+    connectEndNanos = System.nanoTime();
+  }
+
+  void markResponseHead() {
+    responseHeadNanos = System.nanoTime();
+  }
+
+  public String getRoute() {
+    return route;
+  }
+
+  public long getPoolWaitNanos() {
+    return 0 == leaseEndNanos ? 0 : leaseEndNanos - leaseStartNanos;
+  }
+
+  /**
+   * 建立TCP连接耗时，复用连接时为0 TCP connect time, 0 when the connection is reused
+   */
+  public long getConnectNanos() {
+    if (0 == connectEndNanos) {
+      return 0;
+    }
+    return (0 == tlsStartNanos ? connectEndNanos : tlsStartNanos) - connectStartNanos;
+  }
+
+  /**
+   * TLS握手耗时，复用连接或明文请求时为0 TLS handshake time, 0 when the connection is reused or plain text
+   */
+  public long getTlsNanos() {
+    return 0 == tlsStartNanos || 0 == connectEndNanos ? 0 : connectEndNanos - tlsStartNanos;
+  }
+
+  /**
+   * 从连接就绪到收到响应头的耗时 Time from the connection being ready to the response head received
+   */
+  public long getTimeToFirstByteNanos() {
+    if (0 == responseHeadNanos) {
+      return 0;
+    }
+    return responseHeadNanos - Math.max(Math.max(leaseEndNanos, connectEndNanos), startNanos);
+  }
+
+  public long getBodyReadNanos() {
+    return 0 == responseHeadNanos || 0 == endNanos ? 0 : endNanos - responseHeadNanos;
+  }
+
+  public long getTotalNanos() {
+    return 0 == endNanos ? 0 : endNanos - startNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "RequestTimings{" + "route='" + route + '\'' + ", poolWaitMicros="
+        + getPoolWaitNanos() / 1000 + ", connectMicros=" + getConnectNanos() / 1000
+        + ", tlsMicros=" + getTlsNanos() / 1000 + ", timeToFirstByteMicros="
+        + getTimeToFirstByteNanos() / 1000 + ", bodyReadMicros=" + getBodyReadNanos() / 1000
+        + ", totalMicros=" + getTotalNanos() / 1000 + '}';
+  }
+
+}
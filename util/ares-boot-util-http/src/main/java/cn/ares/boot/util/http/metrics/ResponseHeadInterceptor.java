@@ -0,0 +1,28 @@
+package cn.ares.boot.util.http.metrics;
+
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 22:14:39
+ * @description: 收到响应头(响应体尚未读取)时为当前请求打点
+ * @description: Marks the current request when the response head is received (the body is not read
+ * yet)
+ * @version: JDK 1.8
+ */
+public class ResponseHeadInterceptor implements HttpResponseInterceptor {
+
+  public static final ResponseHeadInterceptor INSTANCE = new ResponseHeadInterceptor();
+
+  @Override
+  public void process(HttpResponse response, EntityDetails entity, HttpContext context) {
+    RequestTimings timings = RequestTimings.current();
+    if (null != timings) {
+      timings.markResponseHead();
+    }
+  }
+
+}
@@ -0,0 +1,103 @@
+package cn.ares.boot.util.http.metrics;
+
+import cn.ares.boot.util.common.structure.HistogramSnapshot;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 22:14:39
+ * @description: 单个路由的连接池指标快照，耗时直方图单位为纳秒，连接存活时长和每连接请求数统计的是已关闭的连接
+ * @description: Pool metrics snapshot of a single route, the timing histograms are in nanoseconds,
+ * the connection age and requests per connection are of the closed connections
+ * @version: JDK 1.8
+ */
+public class RoutePoolMetrics {
+
+  private final String route;
+  private final int leased;
+  private final int available;
+  private final int pending;
+  private final int max;
+  private final HistogramSnapshot leaseWait;
+  private final HistogramSnapshot connect;
+  private final HistogramSnapshot tlsHandshake;
+  private final HistogramSnapshot timeToFirstByte;
+  private final HistogramSnapshot bodyRead;
+  private final HistogramSnapshot connectionAge;
+  private final HistogramSnapshot requestsPerConnection;
+
+  RoutePoolMetrics(String route, int leased, int available, int pending, int max,
+      HistogramSnapshot leaseWait, HistogramSnapshot connect, HistogramSnapshot tlsHandshake,
+      HistogramSnapshot timeToFirstByte, HistogramSnapshot bodyRead,
+      HistogramSnapshot connectionAge, HistogramSnapshot requestsPerConnection) {
+    this.route = route;
+    this.leased = leased;
+    this.available = available;
+    this.pending = pending;
+    this.max = max;
+    this.leaseWait = leaseWait;
+    this.connect = connect;
+    this.tlsHandshake = tlsHandshake;
+    this.timeToFirstByte = timeToFirstByte;
+    this.bodyRead = bodyRead;
+    this.connectionAge = connectionAge;
+    this.requestsPerConnection = requestsPerConnection;
+  }
+
+  public String getRoute() {
+    return route;
+  }
+
+  public int getLeased() {
+    return leased;
+  }
+
+  public int getAvailable() {
+    return available;
+  }
+
+  public int getPending() {
+    return pending;
+  }
+
+  public int getMax() {
+    return max;
+  }
+
+  public HistogramSnapshot getLeaseWait() {
+    return leaseWait;
+  }
+
+  public HistogramSnapshot getConnect() {
+    return connect;
+  }
+
+  public HistogramSnapshot getTlsHandshake() {
+    return tlsHandshake;
+  }
+
+  public HistogramSnapshot getTimeToFirstByte() {
+    return timeToFirstByte;
+  }
+
+  public HistogramSnapshot getBodyRead() {
+    return bodyRead;
+  }
+
+  public HistogramSnapshot getConnectionAge() {
+    return connectionAge;
+  }
+
+  public HistogramSnapshot getRequestsPerConnection() {
+    return requestsPerConnection;
+  }
+
+  @Override
+  public String toString() {
+    return "RoutePoolMetrics{" + "route='" + route + '\'' + ", leased=" + leased + ", available="
+        + available + ", pending=" + pending + ", max=" + max + ", leaseWait=" + leaseWait
+        + ", connect=" + connect + ", tlsHandshake=" + tlsHandshake + ", timeToFirstByte="
+        + timeToFirstByte + ", bodyRead=" + bodyRead + ", connectionAge=" + connectionAge
+        + ", requestsPerConnection=" + requestsPerConnection + '}';
+  }
+
+}
@@ -0,0 +1,78 @@
+package cn.ares.boot.util.http.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 22:14:39
+ * @description: 在已连接的套接字上叠加TLS时为当前请求打点，从而把建连耗时拆分为TCP连接和TLS握手
+ * @description: Marks the current request when TLS is layered over the connected socket, so that
+ * the connect time is split into the TCP connect and the TLS handshake
+ * @version: JDK 1.8
+ */
+public class TimingSslSocketFactory extends SSLSocketFactory {
+
+  private final SSLSocketFactory delegate;
+
+  public TimingSslSocketFactory(SSLSocketFactory delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Socket createSocket(Socket socket, String host, int port, boolean autoClose)
+      throws IOException {
+    RequestTimings timings = RequestTimings.current();
+    if (null != timings) {
+      timings.markTlsStart();
+    }
+    return delegate.createSocket(socket, host, port, autoClose);
+  }
+
+  @Override
+  public Socket createSocket(Socket socket, InputStream consumed, boolean autoClose)
+      throws IOException {
+    return delegate.createSocket(socket, consumed, autoClose);
+  }
+
+  @Override
+  public String[] getDefaultCipherSuites() {
+    return delegate.getDefaultCipherSuites();
+  }
+
+  @Override
+  public String[] getSupportedCipherSuites() {
+    return delegate.getSupportedCipherSuites();
+  }
+
+  @Override
+  public Socket createSocket() throws IOException {
+    return delegate.createSocket();
+  }
+
+  @Override
+  public Socket createSocket(String host, int port) throws IOException {
+    return delegate.createSocket(host, port);
+  }
+
+  @Override
+  public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+      throws IOException {
+    return delegate.createSocket(host, port, localHost, localPort);
+  }
+
+  @Override
+  public Socket createSocket(InetAddress host, int port) throws IOException {
+    return delegate.createSocket(host, port);
+  }
+
+  @Override
+  public Socket createSocket(InetAddress address, int port, InetAddress localAddress,
+      int localPort) throws IOException {
+    return delegate.createSocket(address, port, localAddress, localPort);
+  }
+
+}
@@ -0,0 +1,119 @@
+package cn.ares.boot.util.http.upstream;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 上游服务的一个端点，记录未完成请求数、延迟指数加权移动平均和被动健康检查状态
+ * @description: An endpoint of the upstream, records the outstanding requests, EWMA latency and the
+ * passive health check state
+ * @version: JDK 1.8
+ */
+public class Endpoint {
+
+  /**
+   * 延迟移动平均的衰减时间常数 Decay time constant of the latency moving average
+   */
+  private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final String baseUrl;
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+  private double ewmaNanos;
+  private long lastObserveNanos = System.nanoTime();
+  private volatile long ejectedUntilNanos;
+  private volatile int ejectionTimes;
+
+  public Endpoint(String baseUrl) {
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+  }
+
+  public String getBaseUrl() {
+    return baseUrl;
+  }
+
+  public int getOutstanding() {
+    return outstanding.get();
+  }
+
+  void acquire() {
+    outstanding.incrementAndGet();
+  }
+
+  void release() {
+    outstanding.decrementAndGet();
+  }
+
+  /**
+   * @author: Ares
+   * @description: 记录一次请求延迟，高于当前均值时直接取该值(峰值敏感)，否则按距上次记录的时间衰减
+   * @description: Record the latency of a request, take it directly when it is higher than the
+   * current average (peak sensitive), otherwise decay by the time since the last record
+   * @time: 2026-10-18 20:58:14
+   * @params: [latencyNanos] 延迟纳秒
+   * @return: void
+   */
+  synchronized void observe(long latencyNanos) {
+    long now = System.nanoTime();
+    if (latencyNanos > ewmaNanos) {
+      ewmaNanos = latencyNanos;
+    } else {
+      double weight = Math.exp(-Math.max(now - lastObserveNanos, 0) / DECAY_NANOS);
+      ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+    }
+    lastObserveNanos = now;
+  }
+
+  public synchronized double getEwmaNanos() {
+    return ewmaNanos;
+  }
+
+  int incrementConsecutiveFailures() {
+    return consecutiveFailures.incrementAndGet();
+  }
+
+  void resetConsecutiveFailures() {
+    if (0 != consecutiveFailures.get()) {
+      consecutiveFailures.set(0);
+    }
+    if (0 != ejectionTimes && !isEjected(System.nanoTime())) {
+      ejectionTimes = 0;
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 摘除端点，摘除时长随连续被摘除次数线性增长(最多10倍)
+   * @description: Eject the endpoint, the ejection time grows linearly with the consecutive ejection
+   * times (at most 10 times)
+   * @time: 2026-10-18 20:58:14
+   * @params: [baseEjectionNanos, now] 基础摘除时长纳秒，当前时间
+   * @return: void
+   */
+  synchronized void eject(long baseEjectionNanos, long now) {
+    if (isEjected(now)) {
+      return;
+    }
+    ejectionTimes = Math.min(ejectionTimes + 1, 10);
+    ejectedUntilNanos = now + baseEjectionNanos * ejectionTimes;
+    consecutiveFailures.set(0);
+  }
+
+  public boolean isEjected() {
+    return isEjected(System.nanoTime());
+  }
+
+  boolean isEjected(long now) {
+    return 0 != ejectionTimes && now - ejectedUntilNanos < 0;
+  }
+
+  @Override
+  public String toString() {
+    return "Endpoint{" + "baseUrl='" + baseUrl + '\'' + ", outstanding=" + outstanding
+        + ", ewmaMillis=" + getEwmaNanos() / 1_000_000 + ", ejected=" + isEjected() + '}';
+  }
+
+}
@@ -0,0 +1,20 @@
+package cn.ares.boot.util.http.upstream;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 基于延迟指数加权移动平均的二选一负载均衡，代价为峰值敏感的延迟均值乘以(未完成请求数+1)，
+ * 慢端点会迅速失去流量并在恢复后逐步收回
+ * @description: Power of two choices load balancer based on EWMA latency, the cost is the peak
+ * sensitive latency average multiplied by (outstanding requests + 1), a slow endpoint loses traffic
+ * quickly and gets it back gradually after recovery
+ * @version: JDK 1.8
+ */
+public class EwmaLoadBalancer extends PowerOfTwoChoicesLoadBalancer {
+
+  @Override
+  protected double cost(Endpoint endpoint) {
+    return endpoint.getEwmaNanos() * (endpoint.getOutstanding() + 1);
+  }
+
+}
@@ -0,0 +1,124 @@
+package cn.ares.boot.util.http.upstream;
+
+import cn.ares.boot.util.common.structure.HistogramSnapshot;
+import cn.ares.boot.util.common.structure.LogLinearHistogram;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:26:03
+ * @description: 最近延迟跟踪，记录到累计的对数线性直方图，每个窗口轮转一次，最近统计为当前累计减去两个窗口前的快照
+ * (即最近一到两个窗口)；少数几个固定的百分位在每个窗口内按需计算一次后缓存，命中时只有几次volatile读和一次数组扫描，没有分配和装箱
+ * @description: Recent latency tracker, records go to a cumulative log linear histogram which is
+ * rotated once per window, the recent statistics is the current accumulation minus the snapshot of
+ * two windows ago (that is the last one to two windows); a few fixed percentiles are computed once
+ * per window on demand and cached, a hit is a few volatile reads and an array scan without
+ * allocation or boxing
+ * @version: JDK 1.8
+ */
+public class LatencyTracker {
+
+  private static final int MAX_CACHED_PERCENTILES = 4;
+
+  private final LogLinearHistogram histogram = new LogLinearHistogram();
+  private final long windowNanos;
+  private final int minSamples;
+  private final AtomicBoolean rotating = new AtomicBoolean();
+
+  private HistogramSnapshot older;
+  private HistogramSnapshot newer;
+  private volatile long nextRotationNanos;
+  private volatile Window window;
+
+  public LatencyTracker(long window, TimeUnit unit, int minSamples) {
+    this.windowNanos = unit.toNanos(window);
+    this.minSamples = minSamples;
+    HistogramSnapshot empty = histogram.snapshot();
+    this.older = empty;
+    this.newer = empty;
+    this.window = new Window(empty);
+    this.nextRotationNanos = System.nanoTime() + windowNanos;
+  }
+
+  public void record(long latencyNanos) {
+    histogram.record(latencyNanos);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 最近延迟的百分位值，样本不足时返回-1
+   * @description: Percentile value of the recent latency, return -1 if there are not enough samples
+   * @time: 2026-10-18 21:26:03
+   * @params: [percentile] 百分位，取值0到100
+   * @return: long 纳秒
+   */
+  public long getValueAtPercentile(double percentile) {
+    Window current = currentWindow();
+    if (current.recent.getCount() < minSamples) {
+      return -1;
+    }
+    PercentileValue[] cached = current.cached;
+    for (PercentileValue percentileValue : cached) {
+      if (percentileValue.percentile == percentile) {
+        return percentileValue.value;
+      }
+    }
+    long value = current.recent.getValueAtPercentile(percentile);
+    if (cached.length < MAX_CACHED_PERCENTILES) {
+      // 并发时可能丢失一个缓存项，只会导致重新计算 A cached item may be lost under concurrency, which
+      // only leads to recomputing
+      PercentileValue[] newCached = Arrays.copyOf(cached, cached.length + 1);
+      newCached[cached.length] = new PercentileValue(percentile, value);
+      current.cached = newCached;
+    }
+    return value;
+  }
+
+  public HistogramSnapshot getRecent() {
+    return currentWindow().recent;
+  }
+
+  private Window currentWindow() {
+    long now = System.nanoTime();
+    if (now - nextRotationNanos >= 0 && rotating.compareAndSet(false, true)) {
+      try {
+        HistogramSnapshot current = histogram.snapshot();
+        window = new Window(current.minus(older));
+        older = newer;
+        newer = current;
+        nextRotationNanos = now + windowNanos;
+      } finally {
+        rotating.set(false);
+      }
+    }
+    return window;
+  }
+
+  private static final class Window {
+
+    private final HistogramSnapshot recent;
+    /**
+     * 已查询的百分位，调用方通常只查询少数几个固定的百分位 Queried percentiles, callers usually query only a
+     * few fixed percentiles
+     */
+    private volatile PercentileValue[] cached = new PercentileValue[0];
+
+    private Window(HistogramSnapshot recent) {
+      this.recent = recent;
+    }
+  }
+
+  private static final class PercentileValue {
+
+    private final double percentile;
+    private final long value;
+
+    private PercentileValue(double percentile, long value) {
+      this.percentile = percentile;
+      this.value = value;
+    }
+  }
+
+}
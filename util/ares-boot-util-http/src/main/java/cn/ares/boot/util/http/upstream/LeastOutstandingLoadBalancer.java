@@ -0,0 +1,33 @@
+package cn.ares.boot.util.http.upstream;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 最少未完成请求负载均衡，从随机位置开始扫描以打散并列时的选择
+ * @description: Least outstanding requests load balancer, scan from a random position to spread
+ * the choice among ties
+ * @version: JDK 1.8
+ */
+public class LeastOutstandingLoadBalancer implements LoadBalancer {
+
+  @Override
+  public Endpoint choose(List<Endpoint> endpoints) {
+    int size = endpoints.size();
+    int offset = ThreadLocalRandom.current().nextInt(size);
+    Endpoint chosen = null;
+    int least = Integer.MAX_VALUE;
+    for (int i = 0; i < size; i++) {
+      Endpoint endpoint = endpoints.get((offset + i) % size);
+      int outstanding = endpoint.getOutstanding();
+      if (outstanding < least) {
+        least = outstanding;
+        chosen = endpoint;
+      }
+    }
+    return chosen;
+  }
+
+}
@@ -0,0 +1,24 @@
+package cn.ares.boot.util.http.upstream;
+
+import java.util.List;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 负载均衡器，从候选端点中选择一个
+ * @description: Load balancer, choose one from the candidate endpoints
+ * @version: JDK 1.8
+ */
+public interface LoadBalancer {
+
+  /**
+   * @author: Ares
+   * @description: 从非空的候选端点中选择一个
+   * @description: Choose one from the non-empty candidate endpoints
+   * @time: 2026-10-18 20:58:14
+   * @params: [endpoints] 候选端点
+   * @return: cn.ares.boot.util.http.upstream.Endpoint
+   */
+  Endpoint choose(List<Endpoint> endpoints);
+
+}
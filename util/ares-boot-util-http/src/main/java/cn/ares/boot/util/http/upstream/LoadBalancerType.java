@@ -0,0 +1,39 @@
+package cn.ares.boot.util.http.upstream;
+
+import java.util.function.Supplier;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 负载均衡类型
+ * @description: Load balancer type
+ * @version: JDK 1.8
+ */
+public enum LoadBalancerType {
+
+  /**
+   * 随机选两个端点取未完成请求少的 Pick two random endpoints and take the one with fewer outstanding
+   * requests
+   */
+  P2C(PowerOfTwoChoicesLoadBalancer::new),
+  /**
+   * 未完成请求最少 Least outstanding requests
+   */
+  LEAST_OUTSTANDING(LeastOutstandingLoadBalancer::new),
+  /**
+   * 随机选两个端点取延迟指数加权移动平均乘以负载较小的 Pick two random endpoints and take the one with smaller EWMA
+   * latency multiplied by load
+   */
+  EWMA(EwmaLoadBalancer::new);
+
+  private final Supplier<LoadBalancer> supplier;
+
+  LoadBalancerType(Supplier<LoadBalancer> supplier) {
+    this.supplier = supplier;
+  }
+
+  public LoadBalancer create() {
+    return supplier.get();
+  }
+
+}
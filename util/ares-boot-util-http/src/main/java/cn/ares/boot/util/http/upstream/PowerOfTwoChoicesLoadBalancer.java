@@ -0,0 +1,37 @@
+package cn.ares.boot.util.http.upstream;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 二选一负载均衡，随机选两个不同端点取负载较小的，避免所有客户端同时涌向同一个最空闲端点
+ * @description: Power of two choices load balancer, pick two different random endpoints and take the
+ * less loaded one, avoiding all clients herding to the same least loaded endpoint
+ * @version: JDK 1.8
+ */
+public class PowerOfTwoChoicesLoadBalancer implements LoadBalancer {
+
+  @Override
+  public Endpoint choose(List<Endpoint> endpoints) {
+    int size = endpoints.size();
+    if (1 == size) {
+      return endpoints.get(0);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(size);
+    int second = random.nextInt(size - 1);
+    if (second >= first) {
+      second++;
+    }
+    Endpoint a = endpoints.get(first);
+    Endpoint b = endpoints.get(second);
+    return cost(b) < cost(a) ? b : a;
+  }
+
+  protected double cost(Endpoint endpoint) {
+    return endpoint.getOutstanding();
+  }
+
+}
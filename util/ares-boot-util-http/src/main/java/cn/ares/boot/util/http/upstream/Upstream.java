@@ -0,0 +1,469 @@
+package cn.ares.boot.util.http.upstream;
+
+import static cn.ares.boot.util.http.constant.HttpConstant.HTTP_HEDGE_TIMER_THREAD_FACTORY_NAME;
+
+import cn.ares.boot.util.common.function.FunctionWithException;
+import cn.ares.boot.util.common.thread.NameThreadFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 命名的上游服务，由多个端点组成，每次调用按负载均衡器选择端点并把其基础地址交给调用函数，
+ * 调用函数通常使用HttpClientUtil从而共用同一个连接池；被动健康检查：连续失败达到阈值的端点会被摘除一段时间，
+ * 同时被摘除的端点不超过最大比例，且至少保留一个；可选基于上游最近延迟百分位的对冲请求和自适应超时
+ * @description: Named upstream composed of several endpoints, each call chooses an endpoint by the
+ * load balancer and hands its base url to the call function, which usually uses HttpClientUtil to
+ * share the same connection pool; passive health check: an endpoint whose consecutive failures
+ * reach the threshold is ejected for a while, the ejected endpoints never exceed the max percent and
+ * at least one is kept; optional hedging and adaptive timeout based on the recent latency
+ * percentiles of the upstream
+ * @version: JDK 1.8
+ */
+public class Upstream {
+
+  /**
+   * 对冲请求的延迟发送定时器，所有上游共用 Delayed sending timer of the hedged requests, shared by all upstreams
+   */
+  private static final ScheduledThreadPoolExecutor HEDGE_TIMER;
+  /**
+   * 一个对冲令牌 One hedge token
+   */
+  private static final long HEDGE_TOKEN = 100;
+  /**
+   * 最多积攒10个对冲令牌 Save up 10 hedge tokens at most
+   */
+  private static final long MAX_HEDGE_TOKENS = 10 * HEDGE_TOKEN;
+
+  static {
+    HEDGE_TIMER = new ScheduledThreadPoolExecutor(1, new NameThreadFactory().setNameFormat(
+        HTTP_HEDGE_TIMER_THREAD_FACTORY_NAME).setDaemon(true).build());
+    HEDGE_TIMER.setRemoveOnCancelPolicy(true);
+  }
+
+  private final String name;
+  private final List<Endpoint> endpoints;
+  private final LoadBalancer loadBalancer;
+  /**
+   * 最近5到10秒的成功请求延迟 Latency of the successful requests in the last 5 to 10 seconds
+   */
+  private final LatencyTracker latencyTracker = new LatencyTracker(5, TimeUnit.SECONDS, 20);
+  /**
+   * 对冲令牌桶(单位为百分之一个令牌)，每个可对冲请求存入预算百分比，每次对冲取出一个令牌，上限限制了可积攒的突发，
+   * 所以预算只反映最近的流量 Hedge token bucket (in hundredths of a token), each hedgeable request
+   * deposits the budget percent and each hedge withdraws one token, the cap limits the burst that can
+   * be saved up, so the budget only reflects the recent traffic
+   */
+  private final AtomicLong hedgeTokens = new AtomicLong();
+
+  /**
+   * 触发摘除的连续失败次数 Consecutive failures to trigger ejection
+   */
+  private volatile int consecutiveFailures = 5;
+  /**
+   * 基础摘除时长 Base ejection time
+   */
+  private volatile long baseEjectionNanos = TimeUnit.SECONDS.toNanos(30);
+  /**
+   * 最多可同时摘除的端点百分比 The max percent of endpoints that can be ejected at the same time
+   */
+  private volatile int maxEjectionPercent = 50;
+  /**
+   * 是否开启对冲请求 Whether to enable hedged requests
+   */
+  private volatile boolean hedgeEnabled;
+  /**
+   * 超过该延迟百分位仍未响应时发送对冲请求 Send the hedged request when there is no response beyond
+   * this latency percentile
+   */
+  private volatile double hedgePercentile = 95;
+  /**
+   * 对冲请求占最近请求的最大百分比，防止上游变慢时放大负载 The max percent of hedged requests in the recent
+   * requests, prevent amplifying the load when the upstream slows down
+   */
+  private volatile int hedgeBudgetPercent = 10;
+  /**
+   * 对冲请求的最小延迟 Min delay of the hedged request
+   */
+  private volatile long minHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(5);
+  /**
+   * 是否开启自适应超时 Whether to enable adaptive timeout
+   */
+  private volatile boolean adaptiveTimeoutEnabled;
+  /**
+   * 自适应超时参考的延迟百分位 The latency percentile referenced by the adaptive timeout
+   */
+  private volatile double timeoutPercentile = 99;
+  /**
+   * 自适应超时为参考百分位的倍数 The adaptive timeout is a multiple of the referenced percentile
+   */
+  private volatile double timeoutMultiplier = 2;
+  /**
+   * 自适应超时的下限，单位毫秒 Lower bound of the adaptive timeout in milliseconds
+   */
+  private volatile int minTimeoutMillis = 100;
+
+  public Upstream(String name, List<String> baseUrls, LoadBalancer loadBalancer) {
+    if (null == baseUrls || baseUrls.isEmpty()) {
+      throw new IllegalArgumentException("Upstream '" + name + "' has no endpoint");
+    }
+    this.name = name;
+    List<Endpoint> endpointList = new ArrayList<>(baseUrls.size());
+    for (String baseUrl : baseUrls) {
+      endpointList.add(new Endpoint(baseUrl));
+    }
+    this.endpoints = Collections.unmodifiableList(endpointList);
+    this.loadBalancer = loadBalancer;
+  }
+
+  public Upstream(String name, List<String> baseUrls, LoadBalancerType loadBalancerType) {
+    this(name, baseUrls, loadBalancerType.create());
+  }
+
+  /**
+   * @author: Ares
+   * @description: 选择一个端点执行调用，调用函数的参数为端点的基础地址(不以/结尾)，抛出异常视为失败
+   * @description: Choose an endpoint to execute the call, the argument of the call function is the
+   * base url of the endpoint (not ending with /), throwing an exception is regarded as a failure
+   * @time: 2026-10-18 20:58:14
+   * @params: [call] 调用函数
+   * @return: R 调用结果
+   */
+  public <R> R execute(FunctionWithException<String, R> call) throws Exception {
+    Endpoint endpoint = choose();
+    endpoint.acquire();
+    long start = System.nanoTime();
+    try {
+      R result = call.apply(endpoint.getBaseUrl());
+      onSuccess(endpoint, System.nanoTime() - start);
+      return result;
+    } catch (Exception e) {
+      onFailure(endpoint, System.nanoTime() - start);
+      throw e;
+    } finally {
+      endpoint.release();
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 选择一个端点执行异步调用，future异常完成视为失败
+   * @description: Choose an endpoint to execute the asynchronous call, the future completing
+   * exceptionally is regarded as a failure
+   * @time: 2026-10-18 20:58:14
+   * @params: [call] 异步调用函数
+   * @return: java.util.concurrent.CompletableFuture<R> 调用结果
+   */
+  public <R> CompletableFuture<R> executeAsync(Function<String, CompletableFuture<R>> call) {
+    return executeAsync(choose(), call);
+  }
+
+  <R> CompletableFuture<R> executeAsync(Endpoint endpoint,
+      Function<String, CompletableFuture<R>> call) {
+    endpoint.acquire();
+    long start = System.nanoTime();
+    CompletableFuture<R> future;
+    try {
+      future = call.apply(endpoint.getBaseUrl());
+    } catch (RuntimeException e) {
+      endpoint.release();
+      onFailure(endpoint, System.nanoTime() - start);
+      throw e;
+    }
+    // 返回原始future，取消时能取消底层请求；被取消(如对冲中落后的请求)不计为失败
+    // Return the original future so that cancelling it cancels the underlying request; being
+    // cancelled (such as the slower request of hedging) is not counted as a failure
+    future.whenComplete((result, throwable) -> {
+      endpoint.release();
+      if (null == throwable) {
+        onSuccess(endpoint, System.nanoTime() - start);
+      } else if (!isCancelled(throwable)) {
+        onFailure(endpoint, System.nanoTime() - start);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 执行对冲的异步调用，只能用于幂等请求(如get)：超过最近延迟的对冲百分位仍未完成时向另一个端点再发一次，
+   * 取先成功的结果并取消另一个；未开启对冲、样本不足、只有一个端点或超出对冲预算时等同于executeAsync
+   * @description: Execute the hedged asynchronous call, only for idempotent requests (such as get):
+   * send once more to another endpoint when not completed beyond the hedge percentile of the recent
+   * latency, take the first successful result and cancel the other; same as executeAsync when
+   * hedging is disabled, samples are not enough, there is only one endpoint or the hedge budget is
+   * exceeded
+   * @time: 2026-10-18 21:26:03
+   * @params: [call] 异步调用函数
+   * @return: java.util.concurrent.CompletableFuture<R> 调用结果
+   */
+  public <R> CompletableFuture<R> executeHedged(Function<String, CompletableFuture<R>> call) {
+    Endpoint primary = choose();
+    long delayNanos = getHedgeDelayNanos();
+    if (delayNanos < 0 || endpoints.size() < 2) {
+      return executeAsync(primary, call);
+    }
+    depositHedgeToken();
+    CompletableFuture<R> result = new CompletableFuture<>();
+    List<CompletableFuture<R>> attempts = new CopyOnWriteArrayList<>();
+    // 进行中的尝试数，降为0后不再发起对冲
+    // The number of attempts in flight, no more hedging once it drops to 0
+    AtomicInteger pending = new AtomicInteger(1);
+    attempt(primary, call, result, attempts, pending);
+    ScheduledFuture<?> timer = HEDGE_TIMER.schedule(() -> {
+      Endpoint secondary = chooseOther(primary);
+      if (result.isDone() || null == secondary || !tryAcquireHedge()) {
+        return;
+      }
+      for (int count = pending.get(); count > 0; count = pending.get()) {
+        if (pending.compareAndSet(count, count + 1)) {
+          attempt(secondary, call, result, attempts, pending);
+          return;
+        }
+      }
+    }, delayNanos, TimeUnit.NANOSECONDS);
+    result.whenComplete((value, throwable) -> {
+      timer.cancel(false);
+      for (CompletableFuture<R> attempt : attempts) {
+        attempt.cancel(true);
+      }
+    });
+    return result;
+  }
+
+  private <R> void attempt(Endpoint endpoint, Function<String, CompletableFuture<R>> call,
+      CompletableFuture<R> result, List<CompletableFuture<R>> attempts, AtomicInteger pending) {
+    CompletableFuture<R> future;
+    try {
+      future = executeAsync(endpoint, call);
+    } catch (RuntimeException e) {
+      future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+    }
+    attempts.add(future);
+    future.whenComplete((value, throwable) -> {
+      if (null == throwable) {
+        result.complete(value);
+      } else if (0 == pending.decrementAndGet()) {
+        result.completeExceptionally(throwable);
+      }
+    });
+  }
+
+  private void depositHedgeToken() {
+    int deposit = hedgeBudgetPercent;
+    long tokens;
+    do {
+      tokens = hedgeTokens.get();
+      if (tokens >= MAX_HEDGE_TOKENS) {
+        return;
+      }
+    } while (!hedgeTokens.compareAndSet(tokens, Math.min(tokens + deposit, MAX_HEDGE_TOKENS)));
+  }
+
+  private boolean tryAcquireHedge() {
+    long tokens;
+    do {
+      tokens = hedgeTokens.get();
+      if (tokens < HEDGE_TOKEN) {
+        return false;
+      }
+    } while (!hedgeTokens.compareAndSet(tokens, tokens - HEDGE_TOKEN));
+    return true;
+  }
+
+  private Endpoint chooseOther(Endpoint excluded) {
+    long now = System.nanoTime();
+    List<Endpoint> candidates = new ArrayList<>(endpoints.size() - 1);
+    for (Endpoint endpoint : endpoints) {
+      if (endpoint != excluded && !endpoint.isEjected(now)) {
+        candidates.add(endpoint);
+      }
+    }
+    return candidates.isEmpty() ? null : loadBalancer.choose(candidates);
+  }
+
+  private static boolean isCancelled(Throwable throwable) {
+    return throwable instanceof CancellationException || (throwable instanceof CompletionException
+        && throwable.getCause() instanceof CancellationException);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 对冲请求的发送延迟，未开启或样本不足时返回-1
+   * @description: Sending delay of the hedged request, return -1 when disabled or samples are not
+   * enough
+   * @time: 2026-10-18 21:26:03
+   * @params: []
+   * @return: long 纳秒
+   */
+  public long getHedgeDelayNanos() {
+    if (!hedgeEnabled) {
+      return -1;
+    }
+    long percentileNanos = latencyTracker.getValueAtPercentile(hedgePercentile);
+    return percentileNanos < 0 ? -1 : Math.max(percentileNanos, minHedgeDelayNanos);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 自适应读超时：最近延迟参考百分位的倍数，不低于下限且不超过固定超时；未开启或样本不足时返回固定超时
+   * @description: Adaptive socket timeout: a multiple of the referenced percentile of the recent
+   * latency, not lower than the lower bound and not more than the fixed timeout; return the fixed
+   * timeout when disabled or samples are not enough
+   * @time: 2026-10-18 21:26:03
+   * @params: [fixedTimeoutMillis] 固定超时毫秒
+   * @return: int 超时毫秒
+   */
+  public int getAdaptiveTimeoutMillis(int fixedTimeoutMillis) {
+    if (!adaptiveTimeoutEnabled) {
+      return fixedTimeoutMillis;
+    }
+    long percentileNanos = latencyTracker.getValueAtPercentile(timeoutPercentile);
+    if (percentileNanos < 0) {
+      return fixedTimeoutMillis;
+    }
+    long timeoutMillis = (long) Math.ceil(percentileNanos * timeoutMultiplier / 1_000_000);
+    return (int) Math.min(fixedTimeoutMillis, Math.max(minTimeoutMillis, timeoutMillis));
+  }
+
+  /**
+   * @author: Ares
+   * @description: 从未被摘除的端点中选择一个，全部被摘除时从所有端点中选择
+   * @description: Choose one from the endpoints not ejected, choose from all endpoints when all are
+   * ejected
+   * @time: 2026-10-18 20:58:14
+   * @params: []
+   * @return: cn.ares.boot.util.http.upstream.Endpoint
+   */
+  public Endpoint choose() {
+    long now = System.nanoTime();
+    List<Endpoint> candidates = endpoints;
+    for (int i = 0; i < endpoints.size(); i++) {
+      if (endpoints.get(i).isEjected(now)) {
+        candidates = healthyEndpoints(now);
+        break;
+      }
+    }
+    return loadBalancer.choose(candidates.isEmpty() ? endpoints : candidates);
+  }
+
+  private List<Endpoint> healthyEndpoints(long now) {
+    List<Endpoint> healthy = new ArrayList<>(endpoints.size());
+    for (Endpoint endpoint : endpoints) {
+      if (!endpoint.isEjected(now)) {
+        healthy.add(endpoint);
+      }
+    }
+    return healthy;
+  }
+
+  void onSuccess(Endpoint endpoint, long latencyNanos) {
+    endpoint.observe(latencyNanos);
+    latencyTracker.record(latencyNanos);
+    endpoint.resetConsecutiveFailures();
+  }
+
+  void onFailure(Endpoint endpoint, long latencyNanos) {
+    endpoint.observe(latencyNanos);
+    if (endpoint.incrementConsecutiveFailures() < consecutiveFailures) {
+      return;
+    }
+    long now = System.nanoTime();
+    // 同一时刻摘除的端点数量受最大比例限制，且至少保留一个端点
+    // The number of ejected endpoints is limited by the max percent, and at least one endpoint is kept
+    int maxEjected = Math.min(endpoints.size() - 1, endpoints.size() * maxEjectionPercent / 100);
+    synchronized (this) {
+      int ejected = 0;
+      for (Endpoint candidate : endpoints) {
+        if (candidate.isEjected(now)) {
+          ejected++;
+        }
+      }
+      if (ejected < maxEjected) {
+        endpoint.eject(baseEjectionNanos, now);
+      }
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  public LoadBalancer getLoadBalancer() {
+    return loadBalancer;
+  }
+
+  public LatencyTracker getLatencyTracker() {
+    return latencyTracker;
+  }
+
+  public Upstream setConsecutiveFailures(int consecutiveFailures) {
+    this.consecutiveFailures = Math.max(1, consecutiveFailures);
+    return this;
+  }
+
+  public Upstream setBaseEjectionTime(long baseEjectionTime, TimeUnit unit) {
+    this.baseEjectionNanos = unit.toNanos(baseEjectionTime);
+    return this;
+  }
+
+  public Upstream setMaxEjectionPercent(int maxEjectionPercent) {
+    this.maxEjectionPercent = Math.max(0, Math.min(100, maxEjectionPercent));
+    return this;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 开启对冲请求
+   * @description: Enable hedged requests
+   * @time: 2026-10-18 21:26:03
+   * @params: [percentile, budgetPercent, minDelay, unit] 延迟百分位，对冲请求最大百分比，最小延迟，时间单位
+   * @return: cn.ares.boot.util.http.upstream.Upstream
+   */
+  public Upstream setHedge(double percentile, int budgetPercent, long minDelay, TimeUnit unit) {
+    this.hedgePercentile = Math.max(0, Math.min(100, percentile));
+    this.hedgeBudgetPercent = Math.max(0, Math.min(100, budgetPercent));
+    this.minHedgeDelayNanos = unit.toNanos(minDelay);
+    this.hedgeEnabled = true;
+    return this;
+  }
+
+  /**
+   * @author: Ares
+   * @description: 开启自适应超时
+   * @description: Enable adaptive timeout
+   * @time: 2026-10-18 21:26:03
+   * @params: [percentile, multiplier, minTimeoutMillis] 参考延迟百分位，倍数，超时下限毫秒
+   * @return: cn.ares.boot.util.http.upstream.Upstream
+   */
+  public Upstream setAdaptiveTimeout(double percentile, double multiplier, int minTimeoutMillis) {
+    this.timeoutPercentile = Math.max(0, Math.min(100, percentile));
+    this.timeoutMultiplier = Math.max(1, multiplier);
+    this.minTimeoutMillis = Math.max(1, minTimeoutMillis);
+    this.adaptiveTimeoutEnabled = true;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "Upstream{" + "name='" + name + '\'' + ", endpoints=" + endpoints + '}';
+  }
+
+}
@@ -1,5 +1,11 @@
 package cn.ares.boot.util.http;
 
+import cn.ares.boot.util.common.IoUtil;
+import cn.ares.boot.util.http.entity.HttpResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +30,61 @@ public class HttpClientUtilTest {
     }
   }
 
+  @Test
+  public void testGetAsync() {
+    try {
+      String result = HttpClientUtil.getAsync("https://www.baidu.com")
+          .get(10, TimeUnit.SECONDS);
+      LOGGER.info(result);
+    } catch (Exception e) {
+      LOGGER.error("exception: ", e);
+    }
+  }
+
+  @Test
+  public void testGetStream() {
+    try {
+      HttpClientUtil.getStream("https://www.baidu.com",
+          inputStream -> LOGGER.info("read: {}", IoUtil.copy(inputStream, new ByteArrayOutputStream())));
+    } catch (Exception e) {
+      LOGGER.error("exception: ", e);
+    }
+  }
+
+  @Test
+  public void testGetForObject() {
+    try {
+      Map<String, Object> result = HttpClientUtil.getForObject("https://httpbin.org/get",
+          new TypeReference<Map<String, Object>>() {
+          });
+      LOGGER.info("result: {}", result);
+    } catch (Exception e) {
+      LOGGER.error("exception: ", e);
+    }
+  }
+
+  @Test
+  public void testGetForResult() {
+    try {
+      HttpResult result = HttpClientUtil.getForResult("https://httpbin.org/status/404");
+      LOGGER.info("status: {}, content type: {}", result.getStatusCode(),
+          result.getHeader("content-type"));
+    } catch (Exception e) {
+      LOGGER.error("exception: ", e);
+    }
+  }
+
+  @Test
+  public void testPoolMetrics() {
+    try {
+      HttpClientUtil.get("https://www.baidu.com");
+      LOGGER.info("timings: {}", HttpClientUtil.getLastRequestTimings());
+      LOGGER.info("metrics: {}", HttpClientUtil.getPoolMetrics());
+    } catch (Exception e) {
+      LOGGER.error("exception: ", e);
+    }
+  }
+
   @Test
   public void testDownLoadFile() {
     try {
@@ -0,0 +1,51 @@
+package cn.ares.boot.util.http.encoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 23:02:16
+ * @description: 表单编码生成器测试
+ * @description: Form url encoded generator test
+ * @version: JDK 1.8
+ */
+public class FormUrlEncodedGeneratorTest {
+
+  public static class Item {
+
+    public String c = "x y&z";
+    public Object ignored = null;
+  }
+
+  public static class Request {
+
+    public int id = 1;
+    public String name = "中 😀";
+    public Item a = new Item();
+    public List<Item> items = Collections.singletonList(new Item());
+    public List<Object> values = Arrays.asList(1.5, null, Collections.emptyList());
+  }
+
+  @Test
+  public void testEncode() throws Exception {
+    // 与URLEncoder使用默认字符集的编码一致 Same as URLEncoder with the default charset
+    String name = URLEncoder.encode("中 😀", Charset.defaultCharset().name());
+    assertEquals("id=1&name=" + name + "&a.c=x+y%26z&items%5B0%5D.c=x+y%26z"
+            + "&values%5B0%5D=1.5&values%5B1%5D=null",
+        FormUrlEncodedGenerator.encode(new Request()));
+    assertEquals("a.b%5B0%5D.c=1", FormUrlEncodedGenerator.encode(Collections.singletonMap("a",
+        Collections.singletonMap("b", Collections.singletonList(
+            Collections.singletonMap("c", 1))))));
+    // 根节点不是对象 The root is not an object
+    assertEquals("", FormUrlEncodedGenerator.encode(Arrays.asList(1, 2)));
+    assertEquals("", FormUrlEncodedGenerator.encode(null));
+  }
+
+}
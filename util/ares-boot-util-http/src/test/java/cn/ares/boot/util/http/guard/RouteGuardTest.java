@@ -0,0 +1,118 @@
+package cn.ares.boot.util.http.guard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cn.ares.boot.util.http.HttpClientUtil;
+import cn.ares.boot.util.http.exception.CallNotPermittedException;
+import cn.ares.boot.util.http.exception.HttpStatusException;
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 21:49:27
+ * @description: 路由熔断器和并发限制测试
+ * @description: Route circuit breaker and concurrency limiter test
+ * @version: JDK 1.8
+ */
+public class RouteGuardTest {
+
+  @Test
+  public void testCircuitBreaker() throws Exception {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(10, 5, 50, 100, 1000, 50, 2);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(circuitBreaker.tryAcquirePermission());
+      circuitBreaker.onResult(0, true);
+    }
+    // 未达到最少调用数 Minimum calls not reached
+    assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+    circuitBreaker.onResult(0, false);
+    assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+
+    TimeUnit.MILLISECONDS.sleep(60);
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertEquals(CircuitState.HALF_OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+    circuitBreaker.onResult(0, false);
+    circuitBreaker.onResult(0, false);
+    assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  public void testConcurrencyLimiter() {
+    AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, 0.5, 1000);
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+    limiter.onComplete(0, false);
+    assertEquals(3, limiter.getLimit());
+    limiter.onComplete(0, true);
+    assertEquals(1, limiter.getLimit());
+    assertEquals(0, limiter.getInflight());
+  }
+
+  @Test
+  public void testRouteGuard() {
+    RouteGuard routeGuard = new RouteGuard("127.0.0.1:80",
+        new CircuitBreaker(10, 2, 50, 100, 1000, 60_000, 1), null);
+    for (int i = 0; i < 5; i++) {
+      routeGuard.acquire();
+      // 4xx和取消不计为失败 4xx and cancellation are not counted as failures
+      routeGuard.onComplete(0, i % 2 == 0 ? new HttpStatusException(404, null)
+          : new CancellationException());
+    }
+    assertTrue(routeGuard.allowRetry());
+    for (int i = 0; i < 3; i++) {
+      routeGuard.acquire();
+      routeGuard.onComplete(0, new HttpStatusException(503, null));
+    }
+    assertFalse(routeGuard.allowRetry());
+    assertThrows(CallNotPermittedException.class, routeGuard::acquire);
+  }
+
+  @Test
+  public void testStatusCodeThroughGet() throws Exception {
+    // 按路径返回状态码 Respond with the status code in the path
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      exchange.sendResponseHeaders(Integer.parseInt(exchange.getRequestURI().getPath()
+          .substring(1)), -1);
+      exchange.close();
+    });
+    server.start();
+    try {
+      String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+      RouteGuard routeGuard = new RouteGuard("127.0.0.1:" + server.getAddress().getPort(),
+          new CircuitBreaker(10, 2, 50, 100, 1000, 60_000, 1), null);
+      for (int i = 0; i < 5; i++) {
+        HttpStatusException e = assertThrows(HttpStatusException.class,
+            () -> HttpClientUtil.get(baseUrl + "/404"));
+        assertEquals(404, e.getStatusCode());
+        routeGuard.acquire();
+        routeGuard.onComplete(0, e);
+      }
+      assertEquals(CircuitState.CLOSED, routeGuard.getCircuitBreaker().getState());
+      assertEquals(0, routeGuard.getCircuitBreaker().getFailureRate());
+
+      for (int i = 0; i < 5; i++) {
+        HttpStatusException e = assertThrows(HttpStatusException.class,
+            () -> HttpClientUtil.get(baseUrl + "/500"));
+        assertEquals(500, e.getStatusCode());
+        routeGuard.acquire();
+        routeGuard.onComplete(0, e);
+      }
+      assertEquals(CircuitState.OPEN, routeGuard.getCircuitBreaker().getState());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+}
@@ -0,0 +1,96 @@
+package cn.ares.boot.util.http.upstream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cn.ares.boot.util.http.HttpClientUtil;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author: Ares
+ * @time: 2026-10-18 20:58:14
+ * @description: 上游服务测试，使用本地桩服务
+ * @description: Upstream test with local stub servers
+ * @version: JDK 1.8
+ */
+public class UpstreamTest {
+
+  private HttpServer healthyServer;
+  private HttpServer failingServer;
+
+  @BeforeEach
+  public void startServers() throws IOException {
+    healthyServer = startServer(200);
+    failingServer = startServer(500);
+  }
+
+  @AfterEach
+  public void stopServers() {
+    healthyServer.stop(0);
+    failingServer.stop(0);
+  }
+
+  @Test
+  public void testEjectFailingEndpoint() throws Exception {
+    for (LoadBalancerType loadBalancerType : LoadBalancerType.values()) {
+      Upstream upstream = new Upstream("stub-" + loadBalancerType,
+          Arrays.asList(baseUrl(healthyServer), baseUrl(failingServer)), loadBalancerType)
+          .setConsecutiveFailures(3);
+      HttpClientUtil.registerUpstream(upstream);
+
+      int failures = 0;
+      for (int i = 0; i < 50; i++) {
+        try {
+          String result = HttpClientUtil.getUpstream(upstream.getName())
+              .execute(baseUrl -> HttpClientUtil.get(baseUrl + "/ping"));
+          assertEquals("pong", result);
+        } catch (Exception e) {
+          failures++;
+        }
+      }
+      assertEquals(3, failures);
+      assertFalse(upstream.getEndpoints().get(0).isEjected());
+      assertTrue(upstream.getEndpoints().get(1).isEjected());
+    }
+  }
+
+  @Test
+  public void testKeepLastEndpoint() throws Exception {
+    Upstream upstream = new Upstream("stub-single",
+        Arrays.asList(baseUrl(failingServer)), LoadBalancerType.P2C).setConsecutiveFailures(1);
+    for (int i = 0; i < 5; i++) {
+      try {
+        upstream.execute(baseUrl -> HttpClientUtil.get(baseUrl + "/ping"));
+      } catch (Exception ignored) {
+      }
+    }
+    assertFalse(upstream.getEndpoints().get(0).isEjected());
+  }
+
+  private static HttpServer startServer(int statusCode) throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/ping", exchange -> {
+      byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(statusCode, body.length);
+      try (OutputStream outputStream = exchange.getResponseBody()) {
+        outputStream.write(body);
+      }
+    });
+    server.start();
+    return server;
+  }
+
+  private static String baseUrl(HttpServer server) {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+}
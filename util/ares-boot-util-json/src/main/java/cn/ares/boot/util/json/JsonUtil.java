@@ -14,13 +14,21 @@ import cn.ares.boot.util.json.serializer.modifier.IgnoreParentPropertiesBeanSeri
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.type.TypeFactory;
@@ -31,7 +39,10 @@ import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.time.LocalDate;
@@ -40,8 +51,13 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -394,6 +410,55 @@ public class JsonUtil {
     }
   }
 
+  /**
+   * @author: Ares
+   * @description: 直接从输入流解析java对象，不生成中间字符串，编码由Jackson根据字节自动识别(UTF-8/16/32)
+   * @description: Parse java object from the input stream directly without an intermediate string,
+   * the encoding is detected by Jackson from the bytes (UTF-8/16/32)
+   * @time: 2026-10-18 20:31:40
+   * @params: [inputStream, valueType] 输入流，类
+   * @return: T java object
+   */
+  public static <T> T toJavaObject(InputStream inputStream, Class<T> valueType) {
+    try {
+      return DEFAULT_JSON_MAPPER.readValue(inputStream, valueType);
+    } catch (Exception e) {
+      throw new JsonException("Input stream can not convert to java object", e);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 直接从输入流解析java对象（指定类型引用）
+   * @description: Parse java object from the input stream directly (Specify the type reference)
+   * @time: 2026-10-18 20:31:40
+   * @params: [inputStream, valueTypeRef] 输入流，类型引用
+   * @return: T java object
+   */
+  public static <T> T toJavaObject(InputStream inputStream, TypeReference<T> valueTypeRef) {
+    try {
+      return DEFAULT_JSON_MAPPER.readValue(inputStream, valueTypeRef);
+    } catch (Exception e) {
+      throw new JsonException("Input stream can not convert to java object", e);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 直接从输入流解析java对象（指定java类型）
+   * @description: Parse java object from the input stream directly (Specify the java type)
+   * @time: 2026-10-18 20:31:40
+   * @params: [inputStream, valueType] 输入流，java类型
+   * @return: T java object
+   */
+  public static <T> T toJavaObject(InputStream inputStream, JavaType valueType) {
+    try {
+      return DEFAULT_JSON_MAPPER.readValue(inputStream, valueType);
+    } catch (Exception e) {
+      throw new JsonException("Input stream can not convert to java object", e);
+    }
+  }
+
   /**
    * @author: Ares
    * @description: 将java独享转为字节数组（失败时使用toString）
@@ -411,6 +476,119 @@ public class JsonUtil {
     }
   }
 
+  /**
+   * @author: Ares
+   * @description: 使用Jackson生成器把java对象直接写入输出流，不生成中间字符串，输出流不会被关闭，IO异常向上抛出
+   * @description: Write java object to the output stream directly by the Jackson generator without
+   * an intermediate string, the output stream is left open and IO exceptions are thrown up
+   * @time: 2026-10-18 20:06:52
+   * @params: [outputStream, object] 输出流，java对象
+   * @return: void
+   */
+  public static void writeJson(OutputStream outputStream, Object object) throws IOException {
+    try (JsonGenerator generator = DEFAULT_JSON_MAPPER.getFactory()
+        .createGenerator(outputStream, JsonEncoding.UTF8)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      DEFAULT_JSON_MAPPER.writeValue(generator, object);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 使用默认的ObjectMapper把java对象写入指定的生成器，复用其缓存的序列化器，生成器不会被关闭
+   * @description: Write java object to the specified generator with the default object mapper,
+   * reusing its cached serializers, the generator is left open
+   * @time: 2026-10-18 23:02:16
+   * @params: [generator, object] 生成器，java对象
+   * @return: void
+   */
+  public static void writeJson(JsonGenerator generator, Object object) throws IOException {
+    DEFAULT_JSON_MAPPER.writeValue(generator, object);
+  }
+
+  /**
+   * @author: Ares
+   * @description: 逐个元素把流序列化为json数组写入输出流，内存占用与元素个数无关，输出流和元素流都不会被关闭，IO异常向上抛出
+   * @description: Serialize the stream to a json array into the output stream element by element, the
+   * memory footprint is independent of the element count, neither the output stream nor the element
+   * stream is closed and IO exceptions are thrown up
+   * @time: 2026-10-18 23:26:48
+   * @params: [outputStream, stream] 输出流，元素流
+   * @return: void
+   */
+  public static <T> void writeJsonArray(OutputStream outputStream, Stream<T> stream)
+      throws IOException {
+    // 不在每个元素后刷新输出流，由生成器的缓冲区攒批写出
+    // Do not flush the output stream after each element, the generator buffer batches the writes
+    ObjectWriter writer = DEFAULT_JSON_MAPPER.writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (JsonGenerator generator = DEFAULT_JSON_MAPPER.getFactory()
+        .createGenerator(outputStream, JsonEncoding.UTF8)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        SequenceWriter sequenceWriter = writer.writeValuesAsArray(generator)) {
+      Iterator<T> iterator = stream.iterator();
+      while (iterator.hasNext()) {
+        sequenceWriter.write(iterator.next());
+      }
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 从输入流逐个解析json数组的元素，适用于无法整体载入内存的大数组，关闭迭代器时关闭输入流
+   * @description: Parse the elements of the json array from the input stream one by one, suitable
+   * for large arrays which can not be loaded into memory as a whole, the input stream is closed when
+   * the iterator is closed
+   * @time: 2026-10-18 23:26:48
+   * @params: [inputStream, valueType] 输入流，元素类
+   * @return: com.fasterxml.jackson.databind.MappingIterator<T> 元素迭代器
+   */
+  public static <T> MappingIterator<T> iterateArray(InputStream inputStream, Class<T> valueType) {
+    JsonParser parser = null;
+    try {
+      parser = DEFAULT_JSON_MAPPER.getFactory().createParser(inputStream);
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw MismatchedInputException.from(parser, valueType,
+            "Expected a json array but was " + parser.currentToken());
+      }
+      // 定位到第一个元素，迭代到数组结束时停止；空数组已读完，直接关闭解析器
+      // Move to the first element, the iteration stops at the end of the array; an empty array has
+      // been read completely, close the parser directly
+      if (parser.nextToken() == JsonToken.END_ARRAY) {
+        closeQuietly(parser);
+        return MappingIterator.emptyIterator();
+      }
+      return DEFAULT_JSON_MAPPER.readerFor(valueType).readValues(parser);
+    } catch (IOException e) {
+      closeQuietly(null == parser ? inputStream : parser);
+      throw new JsonException("Input stream can not convert to json array", e);
+    }
+  }
+
+  /**
+   * @author: Ares
+   * @description: 从输入流惰性解析json数组为流，需在使用完后关闭流(try-with-resources)以关闭输入流，元素解析异常以运行时异常抛出
+   * @description: Parse the json array from the input stream lazily to a stream, the stream must be
+   * closed after use (try-with-resources) to close the input stream, element parsing exceptions are
+   * thrown as runtime exceptions
+   * @time: 2026-10-18 23:26:48
+   * @params: [inputStream, valueType] 输入流，元素类
+   * @return: java.util.stream.Stream<T> 元素流
+   */
+  public static <T> Stream<T> streamArray(InputStream inputStream, Class<T> valueType) {
+    MappingIterator<T> iterator = iterateArray(inputStream, valueType);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
+        false).onClose(() -> closeQuietly(iterator));
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      LOGGER.warn("close json stream exception: ", e);
+    }
+  }
+
   /**
    * @author: Ares
    * @description: 解析json数组为链表
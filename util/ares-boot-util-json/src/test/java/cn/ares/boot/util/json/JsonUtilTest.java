@@ -1,10 +1,22 @@
 package cn.ares.boot.util.json;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import cn.ares.boot.util.json.entity.Person;
+import cn.ares.boot.util.json.exception.JsonException;
 import cn.ares.boot.util.json.serializer.ToEmptyStringNullKeySerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +56,41 @@ public class JsonUtilTest {
     LOGGER.info(JsonUtil.toJsonString(person));
   }
 
+  @Test
+  public void testWriteJson() throws Exception {
+    Person person = new Person();
+    person.setName("kele");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    JsonUtil.writeJson(outputStream, person);
+    LOGGER.info("stream: {}", outputStream.toString("UTF-8"));
+  }
+
+  @Test
+  public void testStreamArray() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    JsonUtil.writeJsonArray(outputStream, IntStream.range(0, 3).mapToObj(i -> {
+      Person person = new Person();
+      person.setName("kele" + i);
+      person.setAge(i);
+      return person;
+    }));
+    LOGGER.info("array: {}", outputStream.toString("UTF-8"));
+
+    try (Stream<Person> stream = JsonUtil.streamArray(
+        new ByteArrayInputStream(outputStream.toByteArray()), Person.class)) {
+      assertEquals(Arrays.asList("kele0", "kele1", "kele2"),
+          stream.map(Person::getName).collect(Collectors.toList()));
+    }
+    try (Stream<Person> stream = JsonUtil.streamArray(
+        new ByteArrayInputStream(" [ ] ".getBytes(StandardCharsets.UTF_8)), Person.class)) {
+      assertEquals(0L, stream.count());
+    }
+    assertFalse(JsonUtil.iterateArray(
+        new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), Person.class).hasNext());
+    assertThrows(JsonException.class, () -> JsonUtil.streamArray(
+        new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), Person.class));
+  }
+
   @Test
   public void testBuildJavaType() {
 
@@ -1,10 +1,10 @@
 package cn.ares.boot.util.ognl;
 
+import cn.ares.boot.util.common.structure.ConcurrentLruCache;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import ognl.DefaultClassResolver;
 import ognl.DefaultTypeConverter;
 import ognl.MemberAccess;
@@ -25,7 +25,9 @@ public class OgnlUtil {
   private static final String CLOSE_TOKEN = "}";
   private static final String EMPTY = "";
 
-  private static final Map<String, Object> EXPRESSION_CACHE = new ConcurrentHashMap<>();
+  private static final int EXPRESSION_CACHE_CAPACITY = 1024;
+  private static final ConcurrentLruCache<String, Object> EXPRESSION_CACHE = new ConcurrentLruCache<>(
+      EXPRESSION_CACHE_CAPACITY);
 
   /**
    * @author: Ares
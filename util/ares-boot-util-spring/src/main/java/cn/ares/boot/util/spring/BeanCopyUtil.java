@@ -1,13 +1,13 @@
 package cn.ares.boot.util.spring;
 
 import cn.ares.boot.util.common.CollectionUtil;
+import cn.ares.boot.util.common.structure.ConcurrentLruCache;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
@@ -25,10 +25,12 @@ import org.springframework.cglib.core.Converter;
  */
 public class BeanCopyUtil {
 
+  private static final int BEAN_COPIER_CACHE_CAPACITY = 1024;
   /**
    * BeanCopier cache
    */
-  private static final ConcurrentHashMap<String, BeanCopier> BEAN_COPIER_CACHE = new ConcurrentHashMap<>();
+  private static final ConcurrentLruCache<String, BeanCopier> BEAN_COPIER_CACHE = new ConcurrentLruCache<>(
+      BEAN_COPIER_CACHE_CAPACITY);
 
   /**
    * @author: Ares